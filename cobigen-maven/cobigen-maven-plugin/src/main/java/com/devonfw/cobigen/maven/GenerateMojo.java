@@ -137,9 +137,9 @@ public class GenerateMojo extends AbstractMojo {
         generableArtifacts.addAll(collectTemplates(cobiGen, inputs));
 
         try {
+            List<Class<?>> utilClasses = resolveUtilClasses();
             for (Object input : inputs) {
                 getLog().debug("Invoke CobiGen for input " + input);
-                List<Class<?>> utilClasses = resolveUtilClasses();
                 GenerationReportTo report = cobiGen.generate(input, generableArtifacts,
                     Paths.get(destinationRoot.toURI()), forceOverride, utilClasses);
 
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Map;
 
 import com.devonfw.cobigen.api.annotation.ExceptionFacade;
+import com.devonfw.cobigen.api.extension.GenerationListener;
 import com.devonfw.cobigen.api.extension.ModelBuilder;
 import com.devonfw.cobigen.api.to.GenerableArtifact;
 import com.devonfw.cobigen.api.to.GenerationReportTo;
@@ -99,6 +100,56 @@ public interface CobiGen extends ConfigurationInterpreter, InputInterpreter {
     public GenerationReportTo generate(Object input, List<? extends GenerableArtifact> generableArtifacts,
         Path targetRootPath, boolean forceOverride, List<Class<?>> logicClasses, Map<String, Object> rawModel);
 
+    /**
+     * Generates code by processing the {@link List} of {@link GenerableArtifact}s for each of the given inputs
+     * within a single generation. See {@link #generate(List, List, Path, boolean, List)} for details.
+     *
+     * @param inputs
+     *            generator input objects
+     * @param generableArtifacts
+     *            a {@link List} of artifacts to be generated for each input
+     * @param targetRootPath
+     *            target root path to generate to (to be used to resolve the dependent template destination
+     *            paths)
+     * @param forceOverride
+     *            if <code>true</code> and the destination path is already existent, the contents will be
+     *            overwritten by the generated ones iff there is no merge strategy defined by the templates
+     *            configuration. (default: {@code false})
+     * @return The {@link GenerationReportTo generation report} covering the actual status of success, a list
+     *         of warnings, as well as a list of error messages.
+     */
+    public GenerationReportTo generate(List<Object> inputs, List<? extends GenerableArtifact> generableArtifacts,
+        Path targetRootPath, boolean forceOverride);
+
+    /**
+     * Generates code by processing the {@link List} of {@link GenerableArtifact}s for each of the given inputs
+     * within a single generation. In contrast to calling {@link #generate(Object, List, Path, boolean, List)}
+     * for each input, the temporary working directory, the instances of the logic classes as well as the
+     * configuration lookups are shared by all inputs and the generated files are transferred to the target
+     * location at once if the generation of all inputs succeeded. Templates targeting the same file are
+     * processed in the order of the given inputs. If a generation executor has been configured on creation
+     * of this instance, the inputs will be processed in parallel as well.
+     *
+     * @param inputs
+     *            generator input objects
+     * @param generableArtifacts
+     *            a {@link List} of artifacts to be generated for each input
+     * @param targetRootPath
+     *            target root path to generate to (to be used to resolve the dependent template destination
+     *            paths)
+     * @param forceOverride
+     *            if <code>true</code> and the destination path is already existent, the contents will be
+     *            overwritten by the generated ones iff there is no merge strategy defined by the templates
+     *            configuration. (default: {@code false})
+     * @param logicClasses
+     *            a {@link List} of java class files, which will be included as accessible beans in the
+     *            template model. Such classes can be used to implement more complex template logic.
+     * @return The {@link GenerationReportTo generation report} covering the actual status of success, a list
+     *         of warnings, as well as a list of error messages.
+     */
+    public GenerationReportTo generate(List<Object> inputs, List<? extends GenerableArtifact> generableArtifacts,
+        Path targetRootPath, boolean forceOverride, List<Class<?>> logicClasses);
+
     /**
      * Generates code by processing the {@link GenerableArtifact} for the given input.
      *
@@ -182,6 +233,36 @@ public interface CobiGen extends ConfigurationInterpreter, InputInterpreter {
     public GenerationReportTo generate(Object input, GenerableArtifact generableArtifact, Path targetRootPath,
         boolean forceOverride, List<Class<?>> logicClasses, Map<String, Object> rawModel);
 
+    /**
+     * Enables or disables the incremental generation mode. In incremental mode, a manifest of fingerprints of
+     * the input model, the templates, the resolved variables, and the generated contents will be maintained for
+     * each target file in the target root path. Target files, which fingerprint did not change since the last
+     * generation and which have not been modified afterwards, will be skipped and reported as
+     * {@link GenerationReportTo#getSkippedFiles() skipped}.
+     *
+     * @param incremental
+     *            {@code true} to enable the incremental generation, {@code false} to always generate all
+     *            templates (default)
+     */
+    public void setIncrementalGeneration(boolean incremental);
+
+    /**
+     * Registers a {@link GenerationListener} to be notified about the progress of all subsequent generations.
+     *
+     * @param listener
+     *            {@link GenerationListener} to be registered
+     */
+    public void addGenerationListener(GenerationListener listener);
+
+    /**
+     * Unregisters a previously {@link #addGenerationListener(GenerationListener) registered}
+     * {@link GenerationListener}.
+     *
+     * @param listener
+     *            {@link GenerationListener} to be unregistered
+     */
+    public void removeGenerationListener(GenerationListener listener);
+
     /**
      * Returns a new {@link ModelBuilder} instance for the given input object. <i>Caution: this method will
      * retrieve the first matching trigger to resolve the input reader. Thus, in an environment with multiple
@@ -0,0 +1,40 @@
+package com.devonfw.cobigen.api.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the lifecycle of the instances of a template logic class served by the model. Logic classes not
+ * annotated are considered to be {@link Scope#STATELESS stateless} if neither the class nor any of its super
+ * classes declares an instance field. Otherwise, they are {@link Scope#GENERATION instantiated per
+ * generation}.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface LogicScope {
+
+    /** Lifecycle of the instances of a template logic class */
+    public enum Scope {
+
+        /**
+         * The logic class does not hold any state between method calls. A single instance will be shared by
+         * all generations of the same configuration, even if processed concurrently.
+         */
+        STATELESS,
+
+        /**
+         * The logic class holds state, which should not be shared across generations. A new instance will be
+         * created for each generation.
+         */
+        GENERATION
+    }
+
+    /**
+     * @return the {@link Scope} of the logic class' instances
+     */
+    Scope value();
+}
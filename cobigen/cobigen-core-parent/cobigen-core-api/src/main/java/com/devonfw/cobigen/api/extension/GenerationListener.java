@@ -0,0 +1,41 @@
+package com.devonfw.cobigen.api.extension;
+
+import java.nio.file.Path;
+
+import com.devonfw.cobigen.api.CobiGen;
+import com.devonfw.cobigen.api.to.GenerationMetricsTo;
+import com.devonfw.cobigen.api.to.GenerationReportTo;
+import com.devonfw.cobigen.api.to.TemplateTo;
+
+/**
+ * Listener to be {@link CobiGen#addGenerationListener(GenerationListener) registered} to get notified about
+ * the progress of a generation, e.g. to print or export the {@link GenerationMetricsTo metrics}. If the
+ * generation is processed in parallel, the listener will be called from multiple threads concurrently.
+ * Exceptions thrown by a listener will be logged and do not affect the generation.
+ */
+public interface GenerationListener {
+
+    /**
+     * Called after a template has been processed for one input object.
+     * @param template
+     *            the processed template
+     * @param targetFile
+     *            the target file of the template
+     * @param durationNanos
+     *            time spent for processing the template in nanoseconds
+     * @param successful
+     *            {@code true} if the template has been processed successfully, {@code false} otherwise
+     */
+    public default void templateProcessed(TemplateTo template, Path targetFile, long durationNanos,
+        boolean successful) {
+    }
+
+    /**
+     * Called after the generation has been finished.
+     * @param report
+     *            {@link GenerationReportTo} of the generation including its {@link GenerationReportTo#getMetrics()
+     *            metrics}
+     */
+    public default void generationFinished(GenerationReportTo report) {
+    }
+}
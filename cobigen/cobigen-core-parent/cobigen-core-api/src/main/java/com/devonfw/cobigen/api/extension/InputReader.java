@@ -2,6 +2,8 @@ package com.devonfw.cobigen.api.extension;
 
 import java.nio.charset.Charset;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -65,6 +67,54 @@ public interface InputReader {
      */
     public List<Object> getInputObjectsRecursively(Object input, Charset inputCharset);
 
+    /**
+     * Lazily enumerates the combined input objects of the given input. Other than
+     * {@link #getInputObjects(Object, Charset)} and {@link #getInputObjectsRecursively(Object, Charset)},
+     * implementations should only read each input object when it is requested from the returned
+     * {@link Iterator}, such that callers searching for a specific input object can stop early. The default
+     * implementation iterates over the input objects retrieved eagerly.
+     * @param input
+     *            the combined input object
+     * @param inputCharset
+     *            to be used for reading new inputs
+     * @param recursively
+     *            states, whether the input objects should be retrieved recursively
+     * @return an {@link Iterator} over the input objects in the same order as returned by
+     *         {@link #getInputObjects(Object, Charset)} respectively
+     *         {@link #getInputObjectsRecursively(Object, Charset)}
+     */
+    public default Iterator<Object> getInputObjectsLazily(Object input, Charset inputCharset, boolean recursively) {
+        List<Object> inputObjects =
+            recursively ? getInputObjectsRecursively(input, inputCharset) : getInputObjects(input, inputCharset);
+        return inputObjects.iterator();
+    }
+
+    /**
+     * Calculates a fingerprint of the source the given input object has been read from, e.g. a hash of the
+     * input file's contents. The incremental generation uses the fingerprint to detect whether the input
+     * changed since the last generation. Therefore, the fingerprint must change whenever the model created
+     * for the input might change. The default implementation does not provide any fingerprint, such that all
+     * files generated for the input will always be generated again.
+     * @param input
+     *            input object to calculate the fingerprint for
+     * @return the fingerprint of the input's source or {@code null} if no fingerprint can be provided
+     */
+    public default String getInputFingerprint(Object input) {
+        return null;
+    }
+
+    /**
+     * Returns the statistics of the caches of this input reader, e.g. the number of models served from a
+     * cache. The values are accumulated over the lifetime of the caches. The generation records the increase
+     * of each value during the generation as counter of its
+     * {@link com.devonfw.cobigen.api.to.GenerationMetricsTo metrics}. The default implementation does not
+     * provide any statistics.
+     * @return a {@link Map} from counter name to its accumulated value
+     */
+    public default Map<String, Long> getCacheStatistics() {
+        return Collections.emptyMap();
+    }
+
     /**
      * Reads the content at a path and returns a cobigen compliant input
      * @param path
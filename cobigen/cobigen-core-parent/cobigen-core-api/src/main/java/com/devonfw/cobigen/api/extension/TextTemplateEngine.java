@@ -2,6 +2,7 @@ package com.devonfw.cobigen.api.extension;
 
 import java.io.Writer;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.Map;
 
 import com.devonfw.cobigen.api.annotation.ExceptionFacade;
@@ -48,4 +49,16 @@ public interface TextTemplateEngine {
      *            the root folder of all templates.
      */
     public void setTemplateFolder(Path templateFolderPath);
+
+    /**
+     * Returns the statistics of the caches of this template engine, e.g. the number of compiled templates
+     * served from a cache. The values are accumulated over the lifetime of the template engine. The generation
+     * records the increase of each value during the generation as counter of its
+     * {@link com.devonfw.cobigen.api.to.GenerationMetricsTo metrics}. The default implementation does not
+     * provide any statistics.
+     * @return a {@link Map} from counter name to its accumulated value
+     */
+    public default Map<String, Long> getCacheStatistics() {
+        return Collections.emptyMap();
+    }
 }
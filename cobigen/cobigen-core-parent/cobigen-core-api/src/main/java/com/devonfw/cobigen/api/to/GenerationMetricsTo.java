@@ -0,0 +1,239 @@
+package com.devonfw.cobigen.api.to;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.devonfw.cobigen.api.annotation.Cached;
+import com.google.common.collect.Maps;
+
+/**
+ * Metrics collected during a generation, i.e. the time spent in each {@link Phase phase} and for each
+ * template, the number of bytes written, the number of merges as well as further named counters, e.g. cache
+ * statistics. All durations are measured in nanoseconds. If the generation is processed in parallel, the
+ * durations of the phases and templates are accumulated over all threads and thus might exceed the
+ * {@link #getTotalDuration() total duration}. The metrics can safely be recorded by multiple threads.
+ */
+public class GenerationMetricsTo {
+
+    /** Phases of a generation */
+    public enum Phase {
+
+        /** Resolution of the templates and the input objects to be processed */
+        INPUT_RESOLUTION,
+
+        /** Resolution of the variables and destination paths */
+        DESTINATION_RESOLUTION,
+
+        /** Creation of the models */
+        MODEL_BUILDING,
+
+        /** Processing of the templates by the template engines */
+        TEMPLATE_PROCESSING,
+
+        /** Merging of generated contents into existing files */
+        MERGING,
+
+        /** Transfer of the generated files to their target location */
+        COMMIT
+    }
+
+    /** Name of the counter of target files, which have not been written as their contents did not change */
+    public static final String COUNTER_UNCHANGED_FILES = "files.unchanged";
+
+    /** Name of the counter of target files skipped by the incremental generation */
+    public static final String COUNTER_SKIPPED_FILES = "files.skipped";
+
+    /** Name of the counter of context variables served from the cache */
+    public static final String COUNTER_CONTEXT_VARIABLE_CACHE_HITS = "cache.contextVariables.hits";
+
+    /** Name of the counter of context variables, which had to be resolved */
+    public static final String COUNTER_CONTEXT_VARIABLE_CACHE_MISSES = "cache.contextVariables.misses";
+
+    /** Name of the counter of results of {@link Cached @Cached} methods served from the cache */
+    public static final String COUNTER_INVOCATION_CACHE_HITS = "cache.invocations.hits";
+
+    /** Name of the counter of invocations of {@link Cached @Cached} methods not served from the cache */
+    public static final String COUNTER_INVOCATION_CACHE_MISSES = "cache.invocations.misses";
+
+    /** @see #getTotalDuration() */
+    private final AtomicLong totalDuration = new AtomicLong();
+
+    /** @see #getPhaseDurations() */
+    private final Map<Phase, Long> phaseDurations = Maps.newConcurrentMap();
+
+    /** @see #getTemplateDurations() */
+    private final Map<String, Long> templateDurations = Maps.newConcurrentMap();
+
+    /** @see #getBytesWritten() */
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    /** @see #getMergeCount() */
+    private final AtomicLong mergeCount = new AtomicLong();
+
+    /** @see #getCounters() */
+    private final Map<String, Long> counters = Maps.newConcurrentMap();
+
+    /**
+     * @see #getTotalDuration()
+     * @param nanos
+     *            duration in nanoseconds to be added
+     */
+    public void addTotalDuration(long nanos) {
+        totalDuration.addAndGet(nanos);
+    }
+
+    /**
+     * Returns the wall-clock duration of the generation.
+     * @return the duration in nanoseconds
+     */
+    public long getTotalDuration() {
+        return totalDuration.get();
+    }
+
+    /**
+     * @see #getPhaseDurations()
+     * @param phase
+     *            {@link Phase} the time has been spent in
+     * @param nanos
+     *            duration in nanoseconds to be added
+     */
+    public void addPhaseDuration(Phase phase, long nanos) {
+        phaseDurations.merge(phase, nanos, Long::sum);
+    }
+
+    /**
+     * Returns the duration of the given phase.
+     * @param phase
+     *            {@link Phase} to return the duration for
+     * @param unit
+     *            {@link TimeUnit} of the returned duration
+     * @return the duration in the given {@link TimeUnit}. {@code 0} if the phase has not been passed.
+     */
+    public long getPhaseDuration(Phase phase, TimeUnit unit) {
+        Long nanos = phaseDurations.get(phase);
+        return nanos != null ? unit.convert(nanos, TimeUnit.NANOSECONDS) : 0;
+    }
+
+    /**
+     * Returns the durations of all phases passed.
+     * @return a {@link Map} from {@link Phase} to its duration in nanoseconds in the order of the phases
+     */
+    public Map<Phase, Long> getPhaseDurations() {
+        Map<Phase, Long> durations = new EnumMap<>(Phase.class);
+        durations.putAll(phaseDurations);
+        return durations;
+    }
+
+    /**
+     * @see #getTemplateDurations()
+     * @param templateId
+     *            ID of the processed template
+     * @param nanos
+     *            duration in nanoseconds to be added
+     */
+    public void addTemplateDuration(String templateId, long nanos) {
+        templateDurations.merge(templateId, nanos, Long::sum);
+    }
+
+    /**
+     * Returns the durations of generating each template including the model creation, template processing,
+     * and merging for all inputs the template has been processed for.
+     * @return a {@link Map} from template ID to duration in nanoseconds sorted by template ID
+     */
+    public Map<String, Long> getTemplateDurations() {
+        return new TreeMap<>(templateDurations);
+    }
+
+    /**
+     * @see #getBytesWritten()
+     * @param bytes
+     *            number of bytes to be added
+     */
+    public void addBytesWritten(long bytes) {
+        bytesWritten.addAndGet(bytes);
+    }
+
+    /**
+     * Returns the number of bytes written to the target files. Target files, which have not been touched as
+     * their contents did not change, are not considered.
+     * @return the number of bytes written
+     */
+    public long getBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    /**
+     * @see #getMergeCount()
+     */
+    public void incrementMergeCount() {
+        mergeCount.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of generated contents merged into existing files.
+     * @return the number of merges
+     */
+    public long getMergeCount() {
+        return mergeCount.get();
+    }
+
+    /**
+     * @see #getCounters()
+     * @param name
+     *            name of the counter
+     * @param delta
+     *            value to be added to the counter
+     */
+    public void incrementCounter(String name, long delta) {
+        counters.merge(name, delta, Long::sum);
+    }
+
+    /**
+     * Returns the value of the given counter.
+     * @param name
+     *            name of the counter
+     * @return the value of the counter. {@code 0} if the counter has never been incremented.
+     */
+    public long getCounter(String name) {
+        Long value = counters.get(name);
+        return value != null ? value : 0;
+    }
+
+    /**
+     * Returns further named counters, e.g. {@link #COUNTER_UNCHANGED_FILES} or cache statistics.
+     * @return a {@link Map} from counter name to value sorted by name
+     */
+    public Map<String, Long> getCounters() {
+        return new TreeMap<>(counters);
+    }
+
+    /**
+     * Aggregates all metrics of the given instance within {@code this} instance.
+     * @param metrics
+     *            {@link GenerationMetricsTo} to be aggregated
+     */
+    public void aggregate(GenerationMetricsTo metrics) {
+        addTotalDuration(metrics.getTotalDuration());
+        for (Map.Entry<Phase, Long> phaseDuration : metrics.phaseDurations.entrySet()) {
+            addPhaseDuration(phaseDuration.getKey(), phaseDuration.getValue());
+        }
+        for (Map.Entry<String, Long> templateDuration : metrics.templateDurations.entrySet()) {
+            addTemplateDuration(templateDuration.getKey(), templateDuration.getValue());
+        }
+        addBytesWritten(metrics.getBytesWritten());
+        mergeCount.addAndGet(metrics.getMergeCount());
+        for (Map.Entry<String, Long> counter : metrics.counters.entrySet()) {
+            incrementCounter(counter.getKey(), counter.getValue());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[totalDuration=" + TimeUnit.NANOSECONDS.toMillis(getTotalDuration())
+            + "ms, phases=" + getPhaseDurations() + ", bytesWritten=" + getBytesWritten() + ", merges="
+            + getMergeCount() + ", counters=" + getCounters() + "]";
+    }
+}
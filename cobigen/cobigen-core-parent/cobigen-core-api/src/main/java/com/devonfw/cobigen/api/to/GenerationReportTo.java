@@ -26,6 +26,12 @@ public class GenerationReportTo {
     /** @see #getGeneratedFiles() */
     private Set<Path> generatedFiles = new TreeSet<>();
 
+    /** @see #getSkippedFiles() */
+    private Set<Path> skippedFiles = new TreeSet<>();
+
+    /** @see #getMetrics() */
+    private GenerationMetricsTo metrics = new GenerationMetricsTo();
+
     /**
      * @see #getGeneratedFiles()
      * @param file
@@ -52,6 +58,41 @@ public class GenerationReportTo {
         return generatedFiles;
     }
 
+    /**
+     * @see #getSkippedFiles()
+     * @param file
+     *            file skipped as it is already up to date
+     */
+    public void addSkippedFile(Path file) {
+        skippedFiles.add(file);
+    }
+
+    /**
+     * @see #getSkippedFiles()
+     * @param files
+     *            a collection of skipped files
+     */
+    private void addAllSkippedFiles(Collection<Path> files) {
+        skippedFiles.addAll(files);
+    }
+
+    /**
+     * The sorted set of files, which have not been generated during an incremental generation as neither the
+     * input, nor the templates, nor the variables, nor the file itself changed since the last generation.
+     * @return a {@link TreeSet} of {@link Path}s
+     */
+    public Set<Path> getSkippedFiles() {
+        return skippedFiles;
+    }
+
+    /**
+     * Returns the metrics collected during generation, e.g. the time spent in each phase of the generation.
+     * @return the {@link GenerationMetricsTo}
+     */
+    public GenerationMetricsTo getMetrics() {
+        return metrics;
+    }
+
     /**
      * Adds a new error message to the report.
      * @param cause
@@ -121,6 +162,8 @@ public class GenerationReportTo {
         addAllErrors(report.getErrors());
         addAllWarnings(report.getWarnings());
         addAllGeneratedFiles(report.getGeneratedFiles());
+        addAllSkippedFiles(report.getSkippedFiles());
+        metrics.aggregate(report.getMetrics());
         if (report.getTemporaryWorkingDirectory() != null) {
             temporaryWorkingDirectory = report.getTemporaryWorkingDirectory();
         }
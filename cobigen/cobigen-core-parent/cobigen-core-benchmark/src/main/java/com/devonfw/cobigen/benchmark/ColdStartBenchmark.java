@@ -0,0 +1,119 @@
+package com.devonfw.cobigen.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.devonfw.cobigen.api.CobiGen;
+import com.devonfw.cobigen.api.to.GenerationReportTo;
+import com.devonfw.cobigen.api.to.IncrementTo;
+import com.devonfw.cobigen.impl.CobiGenFactory;
+
+/**
+ * Benchmark of the first generation within a new JVM, i.e. all process-wide caches like the cached java
+ * models, the compiled templates, the resolved context variables, and the cached invocations of template logic
+ * are cold. Each measurement runs in its own fork and consists of the creation of a {@link CobiGen} instance,
+ * the reading of the input, the matching of the increments, and the generation of all templates. The
+ * benchmark is part of the {@code benchmark} profile and can be run by
+ *
+ * <pre>
+ * mvn install -Pbenchmark
+ * java -jar cobigen-core-benchmark/target/benchmarks.jar ColdStartBenchmark
+ * </pre>
+ *
+ * The size of the input and the number of templates can be configured by the JMH parameters {@code fields}
+ * and {@code templates}. The same pipeline with warm caches is measured by the
+ * {@link GenerationPipelineBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class ColdStartBenchmark {
+
+    /** Number of fields of the synthetic java input */
+    @Param({ "10", "100" })
+    public int fields;
+
+    /** Number of templates of the synthetic configuration */
+    @Param({ "1", "20" })
+    public int templates;
+
+    /** Working directory containing the configuration, the input, and the generated files */
+    private Path workingDirectory;
+
+    /** Synthetic templates configuration */
+    private Path configuration;
+
+    /** Synthetic java input file */
+    private Path inputFile;
+
+    /** Target root path of the generation */
+    private Path targetRootPath;
+
+    /**
+     * Writes the synthetic configuration and input.
+     * @throws IOException
+     *             if the files could not be written
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        workingDirectory = Files.createTempDirectory("cobigen-benchmark");
+        configuration = SyntheticInputs.writeConfiguration(workingDirectory.resolve("configuration"), templates);
+        inputFile = SyntheticInputs.writeJavaInput(workingDirectory.resolve("input"), fields);
+        targetRootPath = Files.createDirectories(workingDirectory.resolve("target"));
+    }
+
+    /**
+     * Deletes the working directory.
+     * @throws IOException
+     *             if the working directory could not be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(workingDirectory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Generates all templates of the synthetic configuration for the synthetic input from scratch.
+     * @return the generation report
+     * @throws Exception
+     *             if the configuration or the input is invalid
+     */
+    @Benchmark
+    public GenerationReportTo generate() throws Exception {
+        CobiGen cobigen = CobiGenFactory.create(configuration.toUri());
+        Object input = cobigen.read("java", inputFile, StandardCharsets.UTF_8);
+        List<IncrementTo> increments = cobigen.getMatchingIncrements(input);
+        GenerationReportTo report = cobigen.generate(input, increments, targetRootPath, true);
+        if (!report.isSuccessful()) {
+            throw new IllegalStateException("Generation failed: " + report.getErrors());
+        }
+        return report;
+    }
+}
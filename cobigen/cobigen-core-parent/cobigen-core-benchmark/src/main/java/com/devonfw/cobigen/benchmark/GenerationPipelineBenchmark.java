@@ -0,0 +1,255 @@
+package com.devonfw.cobigen.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.devonfw.cobigen.api.CobiGen;
+import com.devonfw.cobigen.api.to.GenerationReportTo;
+import com.devonfw.cobigen.api.to.IncrementTo;
+import com.devonfw.cobigen.impl.CobiGenFactory;
+import com.devonfw.cobigen.javaplugin.inputreader.JavaModelCache;
+
+/**
+ * Benchmarks of the stages of the generation pipeline for a synthetic java input and a synthetic templates
+ * configuration:
+ * <ul>
+ * <li>creation of a {@link CobiGen} instance including the reading of the configuration,</li>
+ * <li>matching of the increments,</li>
+ * <li>creation of the model,</li>
+ * <li>generation of all templates end to end.</li>
+ * </ul>
+ * The benchmarks without suffix measure the pipeline with warm caches, as they are repeated on the same
+ * {@link CobiGen} instance and input. The benchmarks with suffix {@code Cold} discard the respective cache
+ * before each invocation, i.e. the cached java models or the manifest of the incremental generation. The
+ * benchmarks of a cold JVM are covered by the {@link ColdStartBenchmark}.
+ * The benchmarks are part of the {@code benchmark} profile and can be run by
+ *
+ * <pre>
+ * mvn install -Pbenchmark
+ * java -jar cobigen-core-benchmark/target/benchmarks.jar GenerationPipelineBenchmark
+ * </pre>
+ *
+ * The size of the input and the number of templates can be configured by the JMH parameters {@code fields}
+ * and {@code templates}, e.g. {@code -p fields=10,1000}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenerationPipelineBenchmark {
+
+    /** Number of fields of the synthetic java input */
+    @Param({ "10", "100" })
+    public int fields;
+
+    /** Number of templates of the synthetic configuration */
+    @Param({ "1", "20" })
+    public int templates;
+
+    /** Working directory containing the configuration, the input, and the generated files */
+    private Path workingDirectory;
+
+    /** Synthetic templates configuration */
+    private Path configuration;
+
+    /** Target root path of the generation */
+    private Path targetRootPath;
+
+    /** {@link CobiGen} instance created for the configuration */
+    private CobiGen cobigen;
+
+    /** Input read from the synthetic java source */
+    private Object input;
+
+    /** Increments matching the input */
+    private List<IncrementTo> increments;
+
+    /** {@link CobiGen} instance with enabled incremental generation */
+    private CobiGen incrementalCobigen;
+
+    /** Target root path of the incremental generation */
+    private Path incrementalTargetRootPath;
+
+    /**
+     * Writes the synthetic configuration and input and prepares a {@link CobiGen} instance.
+     * @throws Exception
+     *             if the setup fails
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        workingDirectory = Files.createTempDirectory("cobigen-benchmark");
+        configuration = SyntheticInputs.writeConfiguration(workingDirectory.resolve("configuration"), templates);
+        Path inputFile = SyntheticInputs.writeJavaInput(workingDirectory.resolve("input"), fields);
+        targetRootPath = Files.createDirectories(workingDirectory.resolve("target"));
+
+        cobigen = CobiGenFactory.create(configuration.toUri());
+        input = cobigen.read("java", inputFile, StandardCharsets.UTF_8);
+        increments = cobigen.getMatchingIncrements(input);
+        if (increments.isEmpty()) {
+            throw new IllegalStateException("The synthetic input does not match the synthetic configuration.");
+        }
+
+        incrementalCobigen = CobiGenFactory.create(configuration.toUri());
+        incrementalCobigen.setIncrementalGeneration(true);
+        incrementalTargetRootPath = Files.createDirectories(workingDirectory.resolve("incremental"));
+    }
+
+    /**
+     * Deletes the working directory.
+     * @throws IOException
+     *             if the working directory could not be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(workingDirectory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Creates a new {@link CobiGen} instance for the synthetic configuration.
+     * @return the created instance
+     * @throws Exception
+     *             if the configuration is invalid
+     */
+    @Benchmark
+    public CobiGen createCobiGen() throws Exception {
+        return CobiGenFactory.create(configuration.toUri());
+    }
+
+    /**
+     * Determines the increments matching the synthetic input.
+     * @return the matching increments
+     */
+    @Benchmark
+    public List<IncrementTo> getMatchingIncrements() {
+        return cobigen.getMatchingIncrements(input);
+    }
+
+    /**
+     * Creates the model of the synthetic input.
+     * @return the created model
+     */
+    @Benchmark
+    public Map<String, Object> createModel() {
+        return cobigen.getModelBuilder(input).createModel();
+    }
+
+    /**
+     * Creates the model of the synthetic input, whereas the cached java models have been discarded.
+     * @param coldModelCache
+     *            state discarding the cached java models before each invocation
+     * @return the created model
+     */
+    @Benchmark
+    public Map<String, Object> createModelCold(ColdModelCache coldModelCache) {
+        return cobigen.getModelBuilder(input).createModel();
+    }
+
+    /**
+     * Generates all templates of the synthetic configuration overriding the previously generated files.
+     * @return the generation report
+     */
+    @Benchmark
+    public GenerationReportTo generate() {
+        return checkSuccess(cobigen.generate(input, increments, targetRootPath, true));
+    }
+
+    /**
+     * Generates all templates of the synthetic configuration incrementally, whereas all target files are up to
+     * date with the exception of the first invocation.
+     * @return the generation report
+     */
+    @Benchmark
+    public GenerationReportTo generateIncremental() {
+        return checkSuccess(incrementalCobigen.generate(input, increments, incrementalTargetRootPath, true));
+    }
+
+    /**
+     * Generates all templates of the synthetic configuration incrementally, whereas the manifest of the
+     * previous generation has been deleted, such that all fingerprints have to be calculated and all templates
+     * have to be generated again.
+     * @param coldManifest
+     *            state deleting the manifest before each invocation
+     * @return the generation report
+     */
+    @Benchmark
+    public GenerationReportTo generateIncrementalCold(ColdManifest coldManifest) {
+        return checkSuccess(incrementalCobigen.generate(input, increments, incrementalTargetRootPath, true));
+    }
+
+    /**
+     * Checks, that the generation has been successful.
+     * @param report
+     *            the generation report
+     * @return the given report
+     */
+    private static GenerationReportTo checkSuccess(GenerationReportTo report) {
+        if (!report.isSuccessful()) {
+            throw new IllegalStateException("Generation failed: " + report.getErrors());
+        }
+        return report;
+    }
+
+    /**
+     * State discarding the cached java models before each invocation of a benchmark.
+     */
+    @State(Scope.Thread)
+    public static class ColdModelCache {
+
+        /**
+         * Discards the cached java models.
+         */
+        @Setup(Level.Invocation)
+        public void invalidate() {
+            JavaModelCache.getInstance().invalidateAll();
+        }
+    }
+
+    /**
+     * State deleting the manifest of the incremental generation before each invocation of a benchmark.
+     */
+    @State(Scope.Thread)
+    public static class ColdManifest {
+
+        /** Name of the manifest file written by the incremental generation to the target root path */
+        private static final String MANIFEST_FILE_NAME = ".cobigen-manifest";
+
+        /**
+         * Deletes the manifest of the incremental generation.
+         * @param benchmark
+         *            the benchmark state providing the target root path
+         * @throws IOException
+         *             if the manifest could not be deleted
+         */
+        @Setup(Level.Invocation)
+        public void deleteManifest(GenerationPipelineBenchmark benchmark) throws IOException {
+            Files.deleteIfExists(benchmark.incrementalTargetRootPath.resolve(MANIFEST_FILE_NAME));
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.devonfw.cobigen.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.devonfw.cobigen.api.extension.GeneratorPluginActivator;
+import com.devonfw.cobigen.api.extension.Merger;
+import com.devonfw.cobigen.xmlplugin.merger.delegates.XmlMergerDelegate;
+
+/**
+ * Benchmarks of {@link Merger#merge(File, String, String) merging} a synthetic patch into a synthetic base
+ * file, which overlap in half of their elements. The mergers are looked up from all registered
+ * {@link GeneratorPluginActivator plug-ins}. The benchmarks are part of the {@code benchmark} profile and can
+ * be run by
+ *
+ * <pre>
+ * mvn install -Pbenchmark
+ * java -jar cobigen-core-benchmark/target/benchmarks.jar MergerBenchmark
+ * </pre>
+ *
+ * The merger and the size of the documents can be configured by the JMH parameters {@code mergeStrategy} and
+ * {@code size}, e.g. {@code -p mergeStrategy=javamerge,xmlmerge}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MergerBenchmark {
+
+    /** Merge strategy identifying the merger to be benchmarked */
+    @Param({ "javamerge", "xmlmerge", "tsmerge", "jsonmerge", "propertymerge", "textmerge_append", "html-ng*" })
+    public String mergeStrategy;
+
+    /** Number of elements of the base file and the patch */
+    @Param({ "10", "500" })
+    public int size;
+
+    /** Merger to be benchmarked */
+    private Merger merger;
+
+    /** Base file to merge the patch into */
+    private File baseFile;
+
+    /** Patch to be merged */
+    private String patch;
+
+    /**
+     * Looks up the merger and writes the base file.
+     * @throws IOException
+     *             if the base file could not be written
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        for (GeneratorPluginActivator activator : ServiceLoader.load(GeneratorPluginActivator.class)) {
+            List<Merger> mergers = activator.bindMerger();
+            if (mergers != null) {
+                for (Merger candidate : mergers) {
+                    if (candidate.getType().equals(mergeStrategy)) {
+                        merger = candidate;
+                    }
+                }
+            }
+        }
+        if (merger == null) {
+            throw new IllegalStateException("No merger for merge strategy " + mergeStrategy + " registered.");
+        }
+        if (merger instanceof XmlMergerDelegate) {
+            // the synthetic documents do not reference any schema
+            ((XmlMergerDelegate) merger).setValidation(false);
+        }
+
+        Path base = Files.createTempFile("cobigen-benchmark", null);
+        Files.write(base, SyntheticInputs.mergeBase(mergeStrategy, size).getBytes(StandardCharsets.UTF_8));
+        baseFile = base.toFile();
+        patch = SyntheticInputs.mergePatch(mergeStrategy, size);
+    }
+
+    /**
+     * Deletes the base file.
+     * @throws IOException
+     *             if the base file could not be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.delete(baseFile.toPath());
+    }
+
+    /**
+     * Merges the patch into the base file. The base file itself is not changed.
+     * @return the merge result
+     * @throws Exception
+     *             if the merge fails
+     */
+    @Benchmark
+    public String merge() throws Exception {
+        return merger.merge(baseFile, patch, "UTF-8");
+    }
+}
@@ -0,0 +1,232 @@
+package com.devonfw.cobigen.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Factory for synthetic inputs, templates, and merge documents of configurable size to be used by the
+ * benchmarks.
+ */
+final class SyntheticInputs {
+
+    /** Package of the synthetic java input */
+    static final String PACKAGE_NAME = "com.devonfw.benchmark.dataaccess.api";
+
+    /** Simple name of the synthetic java input */
+    static final String CLASS_NAME = "BenchmarkEntity";
+
+    /** Folder of the templates within the synthetic configuration */
+    private static final String TEMPLATE_FOLDER = "benchmark";
+
+    /** Hidden constructor of utility class */
+    private SyntheticInputs() {
+    }
+
+    /**
+     * Creates the source of a java class with the given number of fields including getters and setters.
+     * @param className
+     *            simple name of the class
+     * @param fields
+     *            number of fields
+     * @param fieldPrefix
+     *            prefix of all field names
+     * @return the java source
+     */
+    static String javaClass(String className, int fields, String fieldPrefix) {
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(PACKAGE_NAME).append(";\n\n");
+        source.append("/** Synthetic benchmark input */\n");
+        source.append("public class ").append(className).append(" {\n");
+        for (int i = 0; i < fields; i++) {
+            source.append("\n    /** Field ").append(i).append(" */\n");
+            source.append("    private String ").append(fieldPrefix).append(i).append(";\n");
+        }
+        for (int i = 0; i < fields; i++) {
+            String field = fieldPrefix + i;
+            String property = Character.toUpperCase(field.charAt(0)) + field.substring(1);
+            source.append("\n    public String get").append(property).append("() {\n        return ").append(field)
+                .append(";\n    }\n");
+            source.append("\n    public void set").append(property).append("(String ").append(field)
+                .append(") {\n        this.").append(field).append(" = ").append(field).append(";\n    }\n");
+        }
+        source.append("}\n");
+        return source.toString();
+    }
+
+    /**
+     * Writes the synthetic java input with the given number of fields.
+     * @param folder
+     *            folder to write the source file to
+     * @param fields
+     *            number of fields
+     * @return the path of the source file
+     * @throws IOException
+     *             if the file could not be written
+     */
+    static Path writeJavaInput(Path folder, int fields) throws IOException {
+        Path file = folder.resolve(CLASS_NAME + ".java");
+        Files.createDirectories(folder);
+        Files.write(file, javaClass(CLASS_NAME, fields, "field").getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    /**
+     * Writes a templates configuration with one java trigger and the given number of FreeMarker templates
+     * listing all fields of the input.
+     * @param folder
+     *            folder to write the configuration to
+     * @param templates
+     *            number of templates
+     * @return the configuration folder
+     * @throws IOException
+     *             if the configuration could not be written
+     */
+    static Path writeConfiguration(Path folder, int templates) throws IOException {
+        Files.createDirectories(folder);
+        write(folder.resolve("context.xml"),
+            "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+                + "<contextConfiguration xmlns=\"http://capgemini.com/devonfw/cobigen/ContextConfiguration\""
+                + " version=\"2.1\">\n" + "  <trigger id=\"benchmark\" type=\"java\" templateFolder=\""
+                + TEMPLATE_FOLDER + "\">\n"
+                + "    <matcher type=\"fqn\" value=\"((.+\\.)?([^\\.]+))\\.dataaccess\\.api\\.([^\\.]+)\">\n"
+                + "      <variableAssignment type=\"regex\" key=\"rootPackage\" value=\"1\"/>\n"
+                + "      <variableAssignment type=\"regex\" key=\"component\" value=\"3\"/>\n"
+                + "      <variableAssignment type=\"regex\" key=\"entityName\" value=\"4\"/>\n" + "    </matcher>\n"
+                + "  </trigger>\n" + "</contextConfiguration>\n");
+
+        Path templateFolder = folder.resolve(TEMPLATE_FOLDER);
+        write(templateFolder.resolve("templates.xml"),
+            "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+                + "<templatesConfiguration xmlns=\"http://capgemini.com/devonfw/cobigen/TemplatesConfiguration\""
+                + " version=\"2.1\">\n" + "  <templateScans>\n"
+                + "    <templateScan name=\"all\" templatePath=\"templates\" destinationPath=\"\"/>\n"
+                + "  </templateScans>\n" + "  <increments>\n"
+                + "    <increment name=\"all\" description=\"All templates\">\n"
+                + "      <templateScanRef ref=\"all\"/>\n" + "    </increment>\n" + "  </increments>\n"
+                + "</templatesConfiguration>\n");
+        for (int i = 0; i < templates; i++) {
+            write(templateFolder.resolve("templates/src/main/java/${variables.rootPackage}/${variables.component}/"
+                + "$_EntityName_$Template" + i + ".java.ftl"),
+                "package ${variables.rootPackage}.${variables.component};\n\n" + "public class ${pojo.name}Template"
+                    + i + " {\n" + "<#list pojo.fields as field>\n"
+                    + "    private ${field.type} ${field.name?uncap_first};\n" + "</#list>\n" + "}\n");
+        }
+        return folder;
+    }
+
+    /**
+     * Creates the base document for the merger of the given type.
+     * @param mergeStrategy
+     *            merge strategy identifying the merger
+     * @param size
+     *            number of elements of the document
+     * @return the base document
+     */
+    static String mergeBase(String mergeStrategy, int size) {
+        return mergeDocument(mergeStrategy, size, "base");
+    }
+
+    /**
+     * Creates the patch for the merger of the given type. The patch contains half of the elements of the base
+     * document and the same number of new elements.
+     * @param mergeStrategy
+     *            merge strategy identifying the merger
+     * @param size
+     *            number of elements of the document
+     * @return the patch
+     */
+    static String mergePatch(String mergeStrategy, int size) {
+        return mergeDocument(mergeStrategy, size, "patch");
+    }
+
+    /**
+     * Creates a document for the merger of the given type. Base and patch documents overlap in half of their
+     * elements.
+     * @param mergeStrategy
+     *            merge strategy identifying the merger
+     * @param size
+     *            number of elements of the document
+     * @param kind
+     *            either {@code base} or {@code patch}
+     * @return the document
+     */
+    private static String mergeDocument(String mergeStrategy, int size, String kind) {
+        int offset = "base".equals(kind) ? 0 : size / 2;
+        StringBuilder document = new StringBuilder();
+        switch (mergeStrategy) {
+        case "javamerge":
+            document.append("package ").append(PACKAGE_NAME).append(";\n\npublic class ").append(CLASS_NAME)
+                .append(" {\n");
+            for (int i = offset; i < offset + size; i++) {
+                document.append("\n    private String field").append(i).append(";\n");
+                document.append("\n    public String getField").append(i).append("() {\n        return field")
+                    .append(i).append(";\n    }\n");
+            }
+            document.append("}\n");
+            break;
+        case "xmlmerge":
+            document.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<beans xmlns=\"http://www.springframework.org/schema/beans\">\n");
+            for (int i = offset; i < offset + size; i++) {
+                document.append("  <bean id=\"bean").append(i).append("\" class=\"").append(PACKAGE_NAME)
+                    .append('.').append(CLASS_NAME).append("\">\n    <property name=\"field").append(i)
+                    .append("\" value=\"").append(kind).append(i).append("\"/>\n  </bean>\n");
+            }
+            document.append("</beans>\n");
+            break;
+        case "tsmerge":
+            document.append("import { Injectable } from '@angular/core';\n\n@Injectable()\nexport class ")
+                .append(CLASS_NAME).append(" {\n");
+            for (int i = offset; i < offset + size; i++) {
+                document.append("    field").append(i).append(": string;\n");
+                document.append("    getField").append(i).append("(): string {\n        return this.field")
+                    .append(i).append(";\n    }\n");
+            }
+            document.append("}\n");
+            break;
+        case "jsonmerge":
+            document.append("{\n");
+            for (int i = offset; i < offset + size; i++) {
+                document.append("  \"key").append(i).append("\": { \"value\": \"").append(kind).append(i)
+                    .append("\" }").append(i < offset + size - 1 ? ",\n" : "\n");
+            }
+            document.append("}\n");
+            break;
+        case "propertymerge":
+            for (int i = offset; i < offset + size; i++) {
+                document.append("key").append(i).append('=').append(kind).append(i).append('\n');
+            }
+            break;
+        case "html-ng*":
+            document.append("<div class=\"container\">\n");
+            for (int i = offset; i < offset + size; i++) {
+                document.append("  <mat-form-field id=\"field").append(i).append("\">\n")
+                    .append("    <input matInput name=\"field").append(i).append("\" [(ngModel)]=\"item.field")
+                    .append(i).append("\">\n  </mat-form-field>\n");
+            }
+            document.append("</div>\n");
+            break;
+        default:
+            for (int i = offset; i < offset + size; i++) {
+                document.append(kind).append(" line ").append(i).append('\n');
+            }
+        }
+        return document.toString();
+    }
+
+    /**
+     * Writes the given contents to the given file creating all parent folders.
+     * @param file
+     *            file to be written
+     * @param contents
+     *            contents to be written
+     * @throws IOException
+     *             if the file could not be written
+     */
+    private static void write(Path file, String contents) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, contents.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,150 @@
+package com.devonfw.cobigen.benchmark;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.devonfw.cobigen.api.extension.TextTemplate;
+import com.devonfw.cobigen.api.extension.TextTemplateEngine;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Benchmarks of {@link TextTemplateEngine#process(TextTemplate, Map, java.io.Writer, String) processing} a
+ * template, which lists all fields of a synthetic model. The benchmarks are part of the {@code benchmark}
+ * profile and can be run by
+ *
+ * <pre>
+ * mvn install -Pbenchmark
+ * java -jar cobigen-core-benchmark/target/benchmarks.jar TemplateEngineBenchmark
+ * </pre>
+ *
+ * The template engine and the size of the model can be configured by the JMH parameters {@code engine} and
+ * {@code fields}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateEngineBenchmark {
+
+    /** Name of the template engine to be benchmarked */
+    @Param({ "FreeMarker", "Velocity" })
+    public String engine;
+
+    /** Number of fields of the synthetic model */
+    @Param({ "10", "1000" })
+    public int fields;
+
+    /** Template engine to be benchmarked */
+    private TextTemplateEngine templateEngine;
+
+    /** Template folder */
+    private Path templateFolder;
+
+    /** Template to be processed */
+    private TextTemplate template;
+
+    /** Model to process the template with */
+    private Map<String, Object> model;
+
+    /**
+     * Looks up the template engine, writes the template, and creates the model.
+     * @throws IOException
+     *             if the template could not be written
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        for (TextTemplateEngine candidate : ServiceLoader.load(TextTemplateEngine.class)) {
+            if (candidate.getName().equals(engine)) {
+                templateEngine = candidate;
+            }
+        }
+        if (templateEngine == null) {
+            throw new IllegalStateException("No template engine with name " + engine + " registered.");
+        }
+
+        templateFolder = Files.createTempDirectory("cobigen-benchmark");
+        String relativePath = "Template" + templateEngine.getTemplateFileEnding();
+        Path templateFile = templateFolder.resolve(relativePath);
+        String contents;
+        if ("Velocity".equals(engine)) {
+            contents = "public class ${pojo.name} {\n#foreach($field in $pojo.fields)\n"
+                + "    private ${field.type} ${field.name};\n#end\n}\n";
+        } else {
+            contents = "public class ${pojo.name} {\n<#list pojo.fields as field>\n"
+                + "    private ${field.type} ${field.name};\n</#list>\n}\n";
+        }
+        Files.write(templateFile, contents.getBytes(StandardCharsets.UTF_8));
+        templateEngine.setTemplateFolder(templateFolder);
+
+        template = new TextTemplate() {
+            @Override
+            public String getRelativeTemplatePath() {
+                return relativePath;
+            }
+
+            @Override
+            public Path getAbsoluteTemplatePath() {
+                return templateFile;
+            }
+        };
+
+        List<Map<String, Object>> fieldModels = Lists.newArrayList();
+        for (int i = 0; i < fields; i++) {
+            Map<String, Object> field = Maps.newHashMap();
+            field.put("name", "field" + i);
+            field.put("type", "String");
+            fieldModels.add(field);
+        }
+        Map<String, Object> pojo = Maps.newHashMap();
+        pojo.put("name", SyntheticInputs.CLASS_NAME);
+        pojo.put("fields", fieldModels);
+        model = Maps.newHashMap();
+        model.put("pojo", pojo);
+    }
+
+    /**
+     * Deletes the template folder.
+     * @throws IOException
+     *             if the template folder could not be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.delete(template.getAbsoluteTemplatePath());
+        Files.delete(templateFolder);
+    }
+
+    /**
+     * Processes the template with the synthetic model.
+     * @return the generated contents
+     */
+    @Benchmark
+    public String process() {
+        StringWriter out = new StringWriter();
+        templateEngine.process(template, model, out, "UTF-8");
+        return out.toString();
+    }
+}
@@ -0,0 +1,200 @@
+package com.devonfw.cobigen.systemtest;
+
+import static com.devonfw.cobigen.test.assertj.CobiGenAsserts.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyList;
+import static org.mockito.Matchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.internal.matchers.Any.ANY;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+import com.devonfw.cobigen.api.CobiGen;
+import com.devonfw.cobigen.api.exception.MergeException;
+import com.devonfw.cobigen.api.extension.InputReader;
+import com.devonfw.cobigen.api.extension.MatcherInterpreter;
+import com.devonfw.cobigen.api.extension.Merger;
+import com.devonfw.cobigen.api.extension.TriggerInterpreter;
+import com.devonfw.cobigen.api.to.GenerationReportTo;
+import com.devonfw.cobigen.api.to.IncrementTo;
+import com.devonfw.cobigen.api.to.MatcherTo;
+import com.devonfw.cobigen.impl.CobiGenFactory;
+import com.devonfw.cobigen.impl.extension.PluginRegistry;
+import com.devonfw.cobigen.systemtest.common.AbstractApiTest;
+import com.devonfw.cobigen.test.matchers.MatcherToMatcher;
+import com.google.common.collect.Lists;
+
+/**
+ * Test suite for the generation of multiple inputs by {@link CobiGen#generate(List, List, java.nio.file.Path,
+ * boolean, List)}.
+ */
+public class BatchGenerationTest extends AbstractApiTest {
+
+    /** Root path to all resources used in this test case */
+    private static String testFileRootPath = apiTestsRootPath + "BatchGenerationTest/";
+
+    /** Number of inputs to generate for */
+    private static final int NUMBER_OF_INPUTS = 10;
+
+    /** Mocked {@link InputReader} of the last call of {@link #createInputsAndConfigureMock(String)} */
+    private InputReader inputReader;
+
+    /**
+     * Tests, that the generation of multiple inputs at once results in the same files as generating each input
+     * on its own, i.e. merges into the same target file are applied in the order of inputs and templates.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testBatchGenerationEqualsGenerationPerInput() throws Exception {
+
+        // arrange
+        List<Object> inputs = createInputsAndConfigureMock(null);
+        File perInputTarget = tmpFolder.newFolder("perInput");
+        File batchTarget = tmpFolder.newFolder("batch");
+
+        CobiGen cobigen = CobiGenFactory.create(new File(testFileRootPath + "templates").toURI());
+        List<IncrementTo> increments = cobigen.getMatchingIncrements(inputs.get(0));
+
+        // act
+        for (Object input : inputs) {
+            assertThat(cobigen.generate(input, increments, perInputTarget.toPath())).isSuccessful();
+        }
+        GenerationReportTo batchReport = cobigen.generate(inputs, increments, batchTarget.toPath(), false);
+
+        // assert
+        assertThat(batchReport).isSuccessful();
+        assertThat(batchReport.getGeneratedFiles()).hasSize(NUMBER_OF_INPUTS + 1);
+
+        StringBuilder expectedAll = new StringBuilder();
+        for (int i = 0; i < NUMBER_OF_INPUTS; i++) {
+            expectedAll.append("input" + i + ";");
+            assertThat(new File(perInputTarget, "input" + i + ".txt")).hasContent("input" + i + "-first;second;");
+            assertThat(new File(batchTarget, "input" + i + ".txt")).hasContent("input" + i + "-first;second;");
+        }
+        assertThat(new File(perInputTarget, "all.txt")).hasContent(expectedAll.toString());
+        assertThat(new File(batchTarget, "all.txt")).hasContent(expectedAll.toString());
+    }
+
+    /**
+     * Tests, that the model of each input is only read once and shared by all templates.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testModelIsReadOncePerInput() throws Exception {
+
+        // arrange
+        List<Object> inputs = createInputsAndConfigureMock(null);
+        File target = tmpFolder.newFolder("batch");
+
+        CobiGen cobigen = CobiGenFactory.create(new File(testFileRootPath + "templates").toURI());
+        List<IncrementTo> increments = cobigen.getMatchingIncrements(inputs.get(0));
+
+        // act
+        GenerationReportTo report = cobigen.generate(inputs, increments, target.toPath(), false);
+
+        // assert
+        assertThat(report).isSuccessful();
+        for (Object input : inputs) {
+            verify(inputReader, times(1)).createModel(input);
+        }
+    }
+
+    /**
+     * Tests, that no file will be written if the generation of any input fails.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testNothingIsWrittenIfAnyInputFails() throws Exception {
+
+        // arrange
+        List<Object> inputs = createInputsAndConfigureMock("input5");
+        File target = tmpFolder.newFolder("batch");
+
+        CobiGen cobigen = CobiGenFactory.create(new File(testFileRootPath + "templates").toURI());
+        List<IncrementTo> increments = cobigen.getMatchingIncrements(inputs.get(0));
+
+        // act
+        GenerationReportTo report = cobigen.generate(inputs, increments, target.toPath(), false);
+
+        // assert
+        assertThat(report.isSuccessful()).isFalse();
+        assertThat(target.list()).isEmpty();
+    }
+
+    /**
+     * Creates {@link #NUMBER_OF_INPUTS} inputs. A {@link TriggerInterpreter} will be mocked serving the
+     * variable {@code name} for each input. Furthermore, a {@link Merger} of type {@code append} will be
+     * registered simply appending the patch to the base file.
+     * @param failingInput
+     *            name of the input, for which the merger should fail or {@code null} if all merges should
+     *            succeed
+     * @return the inputs for generation
+     */
+    @SuppressWarnings("unchecked")
+    private List<Object> createInputsAndConfigureMock(String failingInput) {
+        TriggerInterpreter triggerInterpreter = mock(TriggerInterpreter.class);
+        MatcherInterpreter matcher = mock(MatcherInterpreter.class);
+        inputReader = mock(InputReader.class);
+
+        when(triggerInterpreter.getType()).thenReturn("mockplugin");
+        when(triggerInterpreter.getMatcher()).thenReturn(matcher);
+        when(triggerInterpreter.getInputReader()).thenReturn(inputReader);
+        when(inputReader.isValidInput(any())).thenReturn(true);
+        when(inputReader.createModel(any())).thenAnswer(invocation -> new HashMap<String, Object>());
+
+        List<Object> inputs = Lists.newArrayList();
+        for (int i = 0; i < NUMBER_OF_INPUTS; i++) {
+            final String name = "input" + i;
+            Object input = new Object() {
+                @Override
+                public String toString() {
+                    return name;
+                }
+            };
+            inputs.add(input);
+            when(matcher.matches(argThat(new MatcherToMatcher(equalTo("fqn"), ANY, sameInstance(input)))))
+                .thenReturn(true);
+        }
+        when(matcher.resolveVariables(any(MatcherTo.class), anyList())).thenAnswer(invocation -> {
+            Map<String, String> variables = new HashMap<>();
+            variables.put("name", ((MatcherTo) invocation.getArguments()[0]).getTarget().toString());
+            return variables;
+        });
+
+        PluginRegistry.registerTriggerInterpreter(triggerInterpreter);
+        PluginRegistry.registerMerger(new Merger() {
+            @Override
+            public String getType() {
+                return "append";
+            }
+
+            @Override
+            public String merge(File base, String patch, String targetCharset) throws MergeException {
+                if (failingInput != null && patch.startsWith(failingInput)) {
+                    throw new MergeException(base, "Merge failed intentionally");
+                }
+                try {
+                    return FileUtils.readFileToString(base, targetCharset) + patch;
+                } catch (Exception e) {
+                    throw new MergeException(base, "Could not read base file", e);
+                }
+            }
+        });
+        return inputs;
+    }
+}
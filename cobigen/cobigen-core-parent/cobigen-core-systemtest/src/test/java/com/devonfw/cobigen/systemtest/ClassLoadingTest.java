@@ -7,6 +7,7 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
 import static org.mockito.Matchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -157,6 +158,8 @@ public class ClassLoadingTest extends AbstractApiTest {
 
         // Simulate container children resolution of any plug-in
         when(inputReader.getInputObjects(any(), any(Charset.class))).thenReturn(Lists.newArrayList(firstChildResource));
+        when(inputReader.getInputObjectsLazily(any(), any(Charset.class), anyBoolean()))
+            .thenAnswer(invocation -> Lists.newArrayList(firstChildResource).iterator());
 
         when(matcher.matches(argThat(new MatcherToMatcher(equalTo("fqn"), ANY, sameInstance(firstChildResource)))))
             .thenReturn(true);
@@ -7,6 +7,7 @@ import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
 import static org.mockito.Matchers.anyList;
 import static org.mockito.Matchers.argThat;
 import static org.mockito.Mockito.mock;
@@ -17,6 +18,7 @@ import java.io.File;
 import java.nio.charset.Charset;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -35,6 +37,7 @@ import com.devonfw.cobigen.impl.CobiGenFactory;
 import com.devonfw.cobigen.impl.config.entity.ContainerMatcher;
 import com.devonfw.cobigen.impl.extension.PluginRegistry;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 
 /**
@@ -227,6 +230,8 @@ public class ContainerMatcherTest extends AbstractApiTest {
         when(matcher.resolveVariables(argThat(new MatcherToMatcher(equalTo("or"), ANY, sameInstance(child2))),
             anyList())).thenReturn(ImmutableMap.<String, String> builder().put("variable", "child2").build());
         when(inputReader.getInputObjects(any(), any(Charset.class))).thenReturn(Lists.newArrayList(child1, child2));
+        when(inputReader.getInputObjectsLazily(any(), any(Charset.class), anyBoolean()))
+            .thenAnswer(invocation -> Lists.newArrayList(child1, child2).iterator());
 
         // match container
         when(matcher.matches(argThat(new MatcherToMatcher(equalTo("container"), ANY, sameInstance(container)))))
@@ -261,6 +266,74 @@ public class ContainerMatcherTest extends AbstractApiTest {
 
     }
 
+    /**
+     * Tests that the children of a container are only read until the first child matches the trigger.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testContainerChildrenReadUntilFirstMatch() throws Exception {
+
+        Object container = new Object() {
+            @Override
+            public String toString() {
+                return "container";
+            }
+        };
+        Object child1 = new Object() {
+            @Override
+            public String toString() {
+                return "child1";
+            }
+        };
+        Object child2 = new Object() {
+            @Override
+            public String toString() {
+                return "child2";
+            }
+        };
+
+        // Pre-processing: Mocking
+        TriggerInterpreter triggerInterpreter = mock(TriggerInterpreter.class);
+        MatcherInterpreter matcher = mock(MatcherInterpreter.class);
+        InputReader inputReader = mock(InputReader.class);
+
+        when(triggerInterpreter.getType()).thenReturn("test");
+        when(triggerInterpreter.getMatcher()).thenReturn(matcher);
+        when(triggerInterpreter.getInputReader()).thenReturn(inputReader);
+
+        when(inputReader.isValidInput(any())).thenReturn(true);
+
+        // Simulate lazy container children resolution of any plug-in
+        AtomicInteger readChildren = new AtomicInteger();
+        when(inputReader.getInputObjectsLazily(any(), any(Charset.class), anyBoolean()))
+            .thenAnswer(invocation -> Iterators.transform(Lists.newArrayList(child1, child2).iterator(), child -> {
+                readChildren.incrementAndGet();
+                return child;
+            }));
+
+        // match container
+        when(matcher.matches(argThat(new MatcherToMatcher(equalTo("container"), ANY, sameInstance(container)))))
+            .thenReturn(true);
+
+        // match first child
+        when(matcher.matches(argThat(new MatcherToMatcher(equalTo("or"), ANY, sameInstance(child1))))).thenReturn(true);
+        when(matcher.matches(argThat(new MatcherToMatcher(equalTo("not"), ANY, sameInstance(child1)))))
+            .thenReturn(false);
+
+        PluginRegistry.registerTriggerInterpreter(triggerInterpreter);
+
+        // Execution
+        File templatesFolder = new File(testFileRootPath + "selectiveContainerGeneration");
+        CobiGen target = CobiGenFactory.create(templatesFolder.toURI());
+        List<String> matchingTriggerIds = target.getMatchingTriggerIds(container);
+
+        // Verification
+        assertEquals(Lists.newArrayList("trigger1"), matchingTriggerIds);
+        assertEquals(1, readChildren.get());
+    }
+
     // ######################### PRIVATE ##############################
 
     /**
@@ -318,6 +391,7 @@ public class ContainerMatcherTest extends AbstractApiTest {
             .thenReturn(true);
 
         // Simulate container children resolution of any plug-in
+        List<Object> containerChildren = Lists.newArrayList(firstChildResource);
         if (multipleContainerChildren) {
             Object secondChildResource = new Object() {
                 @Override
@@ -325,12 +399,11 @@ public class ContainerMatcherTest extends AbstractApiTest {
                     return "child2";
                 }
             };
-            when(inputReader.getInputObjects(any(), any(Charset.class)))
-                .thenReturn(Lists.newArrayList(firstChildResource, secondChildResource));
-        } else {
-            when(inputReader.getInputObjects(any(), any(Charset.class)))
-                .thenReturn(Lists.newArrayList(firstChildResource));
+            containerChildren.add(secondChildResource);
         }
+        when(inputReader.getInputObjects(any(), any(Charset.class))).thenReturn(containerChildren);
+        when(inputReader.getInputObjectsLazily(any(), any(Charset.class), anyBoolean()))
+            .thenAnswer(invocation -> containerChildren.iterator());
 
         when(matcher.matches(argThat(new MatcherToMatcher(equalTo("fqn"), ANY, sameInstance(firstChildResource)))))
             .thenReturn(containerChildMatchesTrigger);
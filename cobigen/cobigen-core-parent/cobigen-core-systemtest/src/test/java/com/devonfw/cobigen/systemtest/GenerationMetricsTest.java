@@ -0,0 +1,116 @@
+package com.devonfw.cobigen.systemtest;
+
+import static com.devonfw.cobigen.test.assertj.CobiGenAsserts.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.devonfw.cobigen.api.CobiGen;
+import com.devonfw.cobigen.api.extension.GenerationListener;
+import com.devonfw.cobigen.api.to.GenerationMetricsTo;
+import com.devonfw.cobigen.api.to.GenerationMetricsTo.Phase;
+import com.devonfw.cobigen.api.to.GenerationReportTo;
+import com.devonfw.cobigen.api.to.TemplateTo;
+import com.devonfw.cobigen.impl.CobiGenFactory;
+import com.devonfw.cobigen.systemtest.common.AbstractApiTest;
+import com.devonfw.cobigen.systemtest.util.PluginMockFactory;
+import com.google.common.collect.Lists;
+
+/**
+ * Test suite for the {@link GenerationMetricsTo metrics} collected during generation and the notification of
+ * {@link GenerationListener}s.
+ */
+public class GenerationMetricsTest extends AbstractApiTest {
+
+    /** Root path to all resources used in this test case */
+    private static String testFileRootPath = apiTestsRootPath + "GenerationMetricsTest/";
+
+    /**
+     * Tests, that the report provides the metrics of the generation including the cache statistics and
+     * unchanged files are counted but not written on the second generation.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testMetricsAreCollected() throws Exception {
+        // arrange
+        Object input = PluginMockFactory.createSimpleJavaConfigurationMock();
+        File folder = tmpFolder.newFolder("GenerationMetricsTest");
+
+        CobiGen cobigen = CobiGenFactory.create(new File(testFileRootPath + "templates").toURI());
+        TemplateTo template = cobigen.getMatchingTemplates(input).get(0);
+
+        // act
+        GenerationReportTo firstReport = cobigen.generate(input, template, folder.toPath());
+        GenerationReportTo secondReport = cobigen.generate(input, template, folder.toPath());
+
+        // assert
+        assertThat(firstReport).isSuccessful();
+        GenerationMetricsTo metrics = firstReport.getMetrics();
+        assertThat(metrics.getTotalDuration()).isPositive();
+        assertThat(metrics.getPhaseDurations()).containsKeys(Phase.INPUT_RESOLUTION, Phase.DESTINATION_RESOLUTION,
+            Phase.MODEL_BUILDING, Phase.TEMPLATE_PROCESSING, Phase.COMMIT);
+        assertThat(metrics.getTemplateDurations()).containsOnlyKeys(template.getId());
+        assertThat(metrics.getBytesWritten()).isEqualTo("generated".length());
+        assertThat(metrics.getMergeCount()).isEqualTo(0);
+        assertThat(metrics.getCounter(GenerationMetricsTo.COUNTER_UNCHANGED_FILES)).isEqualTo(0);
+        assertThat(metrics.getCounters()).containsKeys(GenerationMetricsTo.COUNTER_CONTEXT_VARIABLE_CACHE_HITS,
+            GenerationMetricsTo.COUNTER_INVOCATION_CACHE_HITS, GenerationMetricsTo.COUNTER_INVOCATION_CACHE_MISSES);
+        assertThat(metrics.getCounter(GenerationMetricsTo.COUNTER_CONTEXT_VARIABLE_CACHE_HITS)
+            + metrics.getCounter(GenerationMetricsTo.COUNTER_CONTEXT_VARIABLE_CACHE_MISSES)).isPositive();
+
+        assertThat(secondReport).isSuccessful();
+        assertThat(secondReport.getMetrics().getBytesWritten()).isEqualTo(0);
+        assertThat(secondReport.getMetrics().getCounter(GenerationMetricsTo.COUNTER_UNCHANGED_FILES)).isEqualTo(1);
+    }
+
+    /**
+     * Tests, that registered {@link GenerationListener}s are notified about each processed template and the
+     * finished generation, whereas failing listeners do not affect the generation.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testListenersAreNotified() throws Exception {
+        // arrange
+        Object input = PluginMockFactory.createSimpleJavaConfigurationMock();
+        File folder = tmpFolder.newFolder("GenerationMetricsTest");
+
+        CobiGen cobigen = CobiGenFactory.create(new File(testFileRootPath + "templates").toURI());
+        TemplateTo template = cobigen.getMatchingTemplates(input).get(0);
+
+        List<Path> processedTargets = Lists.newArrayList();
+        List<GenerationReportTo> finishedReports = Lists.newArrayList();
+        cobigen.addGenerationListener(new GenerationListener() {
+            @Override
+            public void templateProcessed(TemplateTo processedTemplate, Path targetFile, long durationNanos,
+                boolean successful) {
+                throw new IllegalStateException("failing listener");
+            }
+        });
+        cobigen.addGenerationListener(new GenerationListener() {
+            @Override
+            public void templateProcessed(TemplateTo processedTemplate, Path targetFile, long durationNanos,
+                boolean successful) {
+                processedTargets.add(targetFile);
+            }
+
+            @Override
+            public void generationFinished(GenerationReportTo report) {
+                finishedReports.add(report);
+            }
+        });
+
+        // act
+        GenerationReportTo report = cobigen.generate(input, template, folder.toPath());
+
+        // assert
+        assertThat(report).isSuccessful();
+        assertThat(processedTargets).containsExactly(folder.toPath().resolve("generated.txt"));
+        assertThat(finishedReports).containsExactly(report);
+    }
+}
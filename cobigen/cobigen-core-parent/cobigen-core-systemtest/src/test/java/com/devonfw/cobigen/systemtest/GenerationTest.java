@@ -70,6 +70,32 @@ public class GenerationTest extends AbstractApiTest {
         assertThat(target).hasContent("overwritten");
     }
 
+    /**
+     * Tests that target files already having the generated contents will not be written again.
+     * @throws Exception
+     *             test fails.
+     */
+    @Test
+    public void testUnchangedFilesAreNotWritten() throws Exception {
+        Object input = PluginMockFactory.createSimpleJavaConfigurationMock();
+
+        File folder = tmpFolder.newFolder("GenerationTest");
+        File target = new File(folder, "generated.txt");
+        FileUtils.write(target, "overwritten");
+        target.setLastModified(1000000L);
+
+        CobiGen cobigen = CobiGenFactory.create(new File(testFileRootPath + "overrideMergeStrategy").toURI());
+        List<TemplateTo> templates = cobigen.getMatchingTemplates(input);
+        assertThat(templates).hasSize(1);
+
+        GenerationReportTo report = cobigen.generate(input, templates.get(0), Paths.get(folder.toURI()));
+
+        assertThat(report).isSuccessful();
+        assertThat(report.getGeneratedFiles()).containsExactly(target.toPath());
+        assertThat(target).hasContent("overwritten");
+        assertThat(target.lastModified()).isEqualTo(1000000L);
+    }
+
     /**
      * Tests whether the generation of external increments works properly.
      * @throws Exception
@@ -0,0 +1,89 @@
+package com.devonfw.cobigen.systemtest;
+
+import static com.devonfw.cobigen.test.assertj.CobiGenAsserts.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+import com.devonfw.cobigen.api.CobiGen;
+import com.devonfw.cobigen.api.to.GenerationReportTo;
+import com.devonfw.cobigen.api.to.TemplateTo;
+import com.devonfw.cobigen.impl.CobiGenFactory;
+import com.devonfw.cobigen.systemtest.common.AbstractApiTest;
+import com.devonfw.cobigen.systemtest.util.PluginMockFactory;
+
+/**
+ * Test suite for the incremental generation enabled by {@link CobiGen#setIncrementalGeneration(boolean)}.
+ */
+public class IncrementalGenerationTest extends AbstractApiTest {
+
+    /** Root path to all resources used in this test case */
+    private static String testFileRootPath = apiTestsRootPath + "IncrementalGenerationTest/";
+
+    /**
+     * Tests, that an unchanged target file will be skipped on the second generation and will be generated
+     * again as soon as it has been modified.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testUnchangedTargetIsSkipped() throws Exception {
+        // arrange
+        Object input = PluginMockFactory.createSimpleJavaConfigurationMock();
+        File folder = tmpFolder.newFolder("IncrementalGenerationTest");
+        File target = new File(folder, "generated.txt");
+
+        CobiGen cobigen = CobiGenFactory.create(new File(testFileRootPath + "templates").toURI());
+        cobigen.setIncrementalGeneration(true);
+        TemplateTo template = cobigen.getMatchingTemplates(input).get(0);
+
+        // act
+        GenerationReportTo firstReport = cobigen.generate(input, template, folder.toPath());
+        GenerationReportTo secondReport = cobigen.generate(input, template, folder.toPath());
+        FileUtils.write(target, "modified");
+        GenerationReportTo thirdReport = cobigen.generate(input, template, folder.toPath());
+
+        // assert
+        assertThat(firstReport).isSuccessful();
+        assertThat(firstReport.getGeneratedFiles()).containsExactly(target.toPath());
+        assertThat(firstReport.getSkippedFiles()).isEmpty();
+
+        assertThat(secondReport).isSuccessful();
+        assertThat(secondReport.getGeneratedFiles()).isEmpty();
+        assertThat(secondReport.getSkippedFiles()).containsExactly(target.toPath());
+
+        assertThat(thirdReport).isSuccessful();
+        assertThat(thirdReport.getGeneratedFiles()).containsExactly(target.toPath());
+        assertThat(thirdReport.getSkippedFiles()).isEmpty();
+        assertThat(target).hasContent("generated");
+    }
+
+    /**
+     * Tests, that all target files are generated if the incremental generation is disabled.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testNonIncrementalGenerationGeneratesAll() throws Exception {
+        // arrange
+        Object input = PluginMockFactory.createSimpleJavaConfigurationMock();
+        File folder = tmpFolder.newFolder("IncrementalGenerationTest");
+        File target = new File(folder, "generated.txt");
+
+        CobiGen cobigen = CobiGenFactory.create(new File(testFileRootPath + "templates").toURI());
+        TemplateTo template = cobigen.getMatchingTemplates(input).get(0);
+
+        // act
+        cobigen.generate(input, template, folder.toPath());
+        GenerationReportTo report = cobigen.generate(input, template, folder.toPath());
+
+        // assert
+        assertThat(report).isSuccessful();
+        assertThat(report.getGeneratedFiles()).containsExactly(target.toPath());
+        assertThat(report.getSkippedFiles()).isEmpty();
+        assertThat(new File(folder, ".cobigen-manifest")).doesNotExist();
+    }
+}
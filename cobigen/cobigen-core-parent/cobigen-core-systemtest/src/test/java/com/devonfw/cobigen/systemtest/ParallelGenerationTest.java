@@ -0,0 +1,214 @@
+package com.devonfw.cobigen.systemtest;
+
+import static com.devonfw.cobigen.test.assertj.CobiGenAsserts.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyList;
+import static org.mockito.Matchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.internal.matchers.Any.ANY;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+import com.devonfw.cobigen.api.CobiGen;
+import com.devonfw.cobigen.api.exception.MergeException;
+import com.devonfw.cobigen.api.extension.InputReader;
+import com.devonfw.cobigen.api.extension.MatcherInterpreter;
+import com.devonfw.cobigen.api.extension.Merger;
+import com.devonfw.cobigen.api.extension.TriggerInterpreter;
+import com.devonfw.cobigen.api.to.GenerationReportTo;
+import com.devonfw.cobigen.api.to.IncrementTo;
+import com.devonfw.cobigen.api.to.MatcherTo;
+import com.devonfw.cobigen.impl.CobiGenFactory;
+import com.devonfw.cobigen.impl.extension.PluginRegistry;
+import com.devonfw.cobigen.systemtest.common.AbstractApiTest;
+import com.devonfw.cobigen.test.matchers.MatcherToMatcher;
+import com.google.common.collect.Lists;
+
+/**
+ * Test suite for the parallel generation mode enabled by
+ * {@link CobiGenFactory#create(URI, java.util.concurrent.Executor)}.
+ */
+public class ParallelGenerationTest extends AbstractApiTest {
+
+    /** Root path to all resources used in this test case */
+    private static String testFileRootPath = apiTestsRootPath + "ParallelGenerationTest/";
+
+    /** Number of container children to generate for */
+    private static final int NUMBER_OF_CHILDREN = 50;
+
+    /**
+     * Tests, that the parallel generation results in the same files as the sequential generation and that
+     * merges into the same target file are applied in the order of templates and inputs.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testParallelGenerationEqualsSequentialGeneration() throws Exception {
+
+        // arrange
+        Object container = createContainerAndConfigureMock();
+        File sequentialTarget = tmpFolder.newFolder("sequential");
+        File parallelTarget = tmpFolder.newFolder("parallel");
+
+        URI templates = new File(testFileRootPath + "templates").toURI();
+        CobiGen cobigen = CobiGenFactory.create(templates);
+        List<IncrementTo> increments = cobigen.getMatchingIncrements(container);
+
+        // act
+        GenerationReportTo sequentialReport = cobigen.generate(container, increments, sequentialTarget.toPath());
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        GenerationReportTo parallelReport;
+        try {
+            cobigen = CobiGenFactory.create(templates, executor);
+            parallelReport = cobigen.generate(container, increments, parallelTarget.toPath());
+        } finally {
+            executor.shutdown();
+        }
+
+        // assert
+        assertThat(sequentialReport).isSuccessful();
+        assertThat(parallelReport).isSuccessful();
+        assertThat(parallelReport.getGeneratedFiles()).hasSize(NUMBER_OF_CHILDREN + 1);
+
+        StringBuilder expectedAll = new StringBuilder();
+        for (int i = 0; i < NUMBER_OF_CHILDREN; i++) {
+            expectedAll.append("child" + i + ";");
+            assertThat(new File(sequentialTarget, "child" + i + ".txt")).hasContent("child" + i + "-first;second;");
+            assertThat(new File(parallelTarget, "child" + i + ".txt")).hasContent("child" + i + "-first;second;");
+        }
+        assertThat(new File(sequentialTarget, "all.txt")).hasContent(expectedAll.toString());
+        assertThat(new File(parallelTarget, "all.txt")).hasContent(expectedAll.toString());
+    }
+
+    /**
+     * Tests, that the instances of logic classes keeping state are not shared by generation units processed in
+     * parallel.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testStatefulLogicClassesAreNotSharedInParallel() throws Exception {
+
+        // arrange
+        Object container = createContainerAndConfigureMock();
+        File target = tmpFolder.newFolder("parallel");
+        URI templates = new File(testFileRootPath + "statefulLogicTemplates").toURI();
+
+        // act
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        GenerationReportTo report;
+        try {
+            CobiGen cobigen = CobiGenFactory.create(templates, executor);
+            List<IncrementTo> increments = cobigen.getMatchingIncrements(container);
+            report = cobigen.generate(container, increments, target.toPath(), false,
+                Lists.<Class<?>> newArrayList(StatefulLogic.class));
+        } finally {
+            executor.shutdown();
+        }
+
+        // assert
+        assertThat(report).isSuccessful();
+        for (int i = 0; i < NUMBER_OF_CHILDREN; i++) {
+            assertThat(new File(target, "child" + i + ".txt")).hasContent("child" + i + "-1;");
+        }
+    }
+
+    /**
+     * Creates a container input with {@link #NUMBER_OF_CHILDREN} children. A {@link TriggerInterpreter} will
+     * be mocked serving the children and the variable {@code name} for each child. Furthermore, a
+     * {@link Merger} of type {@code append} will be registered simply appending the patch to the base file.
+     * @return the container as input for generation
+     */
+    @SuppressWarnings("unchecked")
+    private Object createContainerAndConfigureMock() {
+        Object container = new Object() {
+            @Override
+            public String toString() {
+                return "container";
+            }
+        };
+
+        TriggerInterpreter triggerInterpreter = mock(TriggerInterpreter.class);
+        MatcherInterpreter matcher = mock(MatcherInterpreter.class);
+        InputReader inputReader = mock(InputReader.class);
+
+        when(triggerInterpreter.getType()).thenReturn("mockplugin");
+        when(triggerInterpreter.getMatcher()).thenReturn(matcher);
+        when(triggerInterpreter.getInputReader()).thenReturn(inputReader);
+        when(inputReader.isValidInput(any())).thenReturn(true);
+        when(inputReader.createModel(any())).thenAnswer(invocation -> new HashMap<String, Object>());
+
+        List<Object> children = Lists.newArrayList();
+        for (int i = 0; i < NUMBER_OF_CHILDREN; i++) {
+            final String name = "child" + i;
+            Object child = new Object() {
+                @Override
+                public String toString() {
+                    return name;
+                }
+            };
+            children.add(child);
+            when(matcher.matches(argThat(new MatcherToMatcher(equalTo("fqn"), ANY, sameInstance(child)))))
+                .thenReturn(true);
+        }
+        when(inputReader.getInputObjects(any(), any(Charset.class))).thenReturn(children);
+        when(inputReader.getInputObjectsLazily(any(), any(Charset.class), anyBoolean()))
+            .thenAnswer(invocation -> children.iterator());
+        when(matcher.matches(argThat(new MatcherToMatcher(equalTo("package"), ANY, sameInstance(container)))))
+            .thenReturn(true);
+        when(matcher.resolveVariables(any(MatcherTo.class), anyList())).thenAnswer(invocation -> {
+            Map<String, String> variables = new HashMap<>();
+            variables.put("name", ((MatcherTo) invocation.getArguments()[0]).getTarget().toString());
+            return variables;
+        });
+
+        PluginRegistry.registerTriggerInterpreter(triggerInterpreter);
+        PluginRegistry.registerMerger(new Merger() {
+            @Override
+            public String getType() {
+                return "append";
+            }
+
+            @Override
+            public String merge(File base, String patch, String targetCharset) throws MergeException {
+                try {
+                    return FileUtils.readFileToString(base, targetCharset) + patch;
+                } catch (Exception e) {
+                    throw new MergeException(base, "Could not read base file", e);
+                }
+            }
+        });
+        return container;
+    }
+
+    /** Template logic counting its usages by an instance field */
+    public static class StatefulLogic {
+
+        /** Number of usages of this instance */
+        private int usages;
+
+        /**
+         * Counts the usage of this instance.
+         * @return the number of usages of this instance so far
+         */
+        public int use() {
+            return ++usages;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.devonfw.cobigen.systemtest;
+
+import static com.devonfw.cobigen.test.assertj.CobiGenAsserts.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import com.devonfw.cobigen.api.CobiGen;
+import com.devonfw.cobigen.api.to.GenerationReportTo;
+import com.devonfw.cobigen.api.to.TemplateTo;
+import com.devonfw.cobigen.impl.CobiGenFactory;
+import com.devonfw.cobigen.systemtest.common.AbstractApiTest;
+import com.devonfw.cobigen.systemtest.util.PluginMockFactory;
+import com.google.common.collect.Lists;
+
+/**
+ * Test suite for the isolation of template engines serving different template folders.
+ */
+public class TemplateEngineIsolationTest extends AbstractApiTest {
+
+    /** Root path to all resources used in this test case */
+    private static String testFileRootPath = apiTestsRootPath + "TemplateEngineIsolationTest/";
+
+    /** Number of generations to be run per template folder */
+    private static final int GENERATIONS_PER_FOLDER = 50;
+
+    /**
+     * Stress test running many generations concurrently against two template folders containing templates with
+     * the same relative path. Each generation has to use the templates of its own template folder.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testConcurrentGenerationAgainstDifferentTemplateFolders() throws Exception {
+
+        // arrange
+        Object input = PluginMockFactory.createSimpleJavaConfigurationMock();
+        CobiGen cobigenA = CobiGenFactory.create(new File(testFileRootPath + "templatesA").toURI());
+        CobiGen cobigenB = CobiGenFactory.create(new File(testFileRootPath + "templatesB").toURI());
+        TemplateTo templateA = cobigenA.getMatchingTemplates(input).get(0);
+        TemplateTo templateB = cobigenB.getMatchingTemplates(input).get(0);
+
+        List<Callable<GenerationReportTo>> generations = Lists.newArrayList();
+        List<File> targets = Lists.newArrayList();
+        List<String> expectedContents = Lists.newArrayList();
+        for (int i = 0; i < GENERATIONS_PER_FOLDER; i++) {
+            File targetA = tmpFolder.newFolder("a" + i);
+            generations.add(() -> cobigenA.generate(input, templateA, targetA.toPath()));
+            targets.add(targetA);
+            expectedContents.add("templatesA");
+
+            File targetB = tmpFolder.newFolder("b" + i);
+            generations.add(() -> cobigenB.generate(input, templateB, targetB.toPath()));
+            targets.add(targetB);
+            expectedContents.add("templatesB");
+        }
+
+        // act
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<GenerationReportTo>> reports;
+        try {
+            reports = executor.invokeAll(generations);
+        } finally {
+            executor.shutdown();
+        }
+
+        // assert
+        for (int i = 0; i < generations.size(); i++) {
+            assertThat(reports.get(i).get()).isSuccessful();
+            assertThat(new File(targets.get(i), "generated.txt")).hasContent(expectedContents.get(i));
+        }
+    }
+}
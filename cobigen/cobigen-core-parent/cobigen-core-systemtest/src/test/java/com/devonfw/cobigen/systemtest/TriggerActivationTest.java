@@ -8,6 +8,8 @@ import static org.junit.Assert.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.internal.matchers.Any.ANY;
 
@@ -304,4 +306,45 @@ public class TriggerActivationTest extends AbstractApiTest {
 
         assertThat(matchingTriggerIds, hasItem("triggerId2"));
     }
+
+    /**
+     * Tests that the input is only validated once for all triggers of the same type, whereas all triggers of
+     * the type are still evaluated.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testInputValidatedOncePerTriggerType() throws Exception {
+
+        Object input = new Object();
+
+        // Pre-processing: Mocking
+        TriggerInterpreter triggerInterpreter = mock(TriggerInterpreter.class);
+        MatcherInterpreter matcher = mock(MatcherInterpreter.class);
+        InputReader inputReader = mock(InputReader.class);
+
+        when(triggerInterpreter.getType()).thenReturn("test");
+        when(triggerInterpreter.getMatcher()).thenReturn(matcher);
+        when(triggerInterpreter.getInputReader()).thenReturn(inputReader);
+
+        when(inputReader.isValidInput(any())).thenReturn(true);
+        when(matcher.matches(argThat(new MatcherToMatcher(equalTo("and1"), ANY, sameInstance(input)))))
+            .thenReturn(true);
+        when(matcher.matches(argThat(new MatcherToMatcher(equalTo("and2"), ANY, sameInstance(input)))))
+            .thenReturn(true);
+        when(matcher.matches(argThat(new MatcherToMatcher(equalTo("or"), ANY, sameInstance(input))))).thenReturn(true);
+        when(matcher.matches(argThat(new MatcherToMatcher(equalTo("not"), ANY, sameInstance(input)))))
+            .thenReturn(false);
+
+        PluginRegistry.registerTriggerInterpreter(triggerInterpreter);
+
+        // execution
+        CobiGen cobigen = CobiGenFactory.create(new File(testFileRootPath + "templates").toURI());
+        List<String> matchingTriggerIds = cobigen.getMatchingTriggerIds(input);
+
+        assertThat(matchingTriggerIds, hasItem("triggerId"));
+        assertThat(matchingTriggerIds, hasItem("triggerId2"));
+        verify(inputReader, times(1)).isValidInput(input);
+    }
 }
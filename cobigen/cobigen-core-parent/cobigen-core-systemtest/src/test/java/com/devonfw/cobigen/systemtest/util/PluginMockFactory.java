@@ -48,6 +48,7 @@ public class PluginMockFactory {
         when(triggerInterpreter.getInputReader()).thenReturn(inputReader);
 
         when(inputReader.isValidInput(any())).thenReturn(true);
+        when(inputReader.getInputFingerprint(input)).thenReturn("input fingerprint");
         when(matcher.matches(argThat(new MatcherToMatcher(equalTo("fqn"), ANY, sameInstance(input)))))
             .thenReturn(false);
         when(matcher.matches(argThat(new MatcherToMatcher(equalTo("package"), ANY, sameInstance(input)))))
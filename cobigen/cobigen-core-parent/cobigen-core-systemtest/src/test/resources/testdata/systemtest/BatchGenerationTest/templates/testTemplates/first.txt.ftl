@@ -0,0 +1 @@
+${variables.name}-first;
\ No newline at end of file
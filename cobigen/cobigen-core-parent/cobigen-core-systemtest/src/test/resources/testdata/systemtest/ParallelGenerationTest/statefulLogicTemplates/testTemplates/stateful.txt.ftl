@@ -0,0 +1 @@
+${variables.name}-${StatefulLogic.use()};
\ No newline at end of file
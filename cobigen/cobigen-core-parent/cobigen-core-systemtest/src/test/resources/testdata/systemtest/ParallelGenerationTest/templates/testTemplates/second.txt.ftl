@@ -0,0 +1 @@
+second;
\ No newline at end of file
@@ -0,0 +1 @@
+templatesA
\ No newline at end of file
@@ -0,0 +1 @@
+templatesB
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.devonfw.cobigen.test.template;
+
+import java.io.File;
+import java.nio.file.Path;
+
+import com.devonfw.cobigen.api.extension.TextTemplate;
+
+/**
+ * Factory for {@link TextTemplate}s to be processed by template engines under test.
+ */
+public class TestTemplates {
+
+    /**
+     * Creates a {@link TextTemplate} for the given template file.
+     * @param templateFolder
+     *            template folder
+     * @param relativePath
+     *            template path relative to the template folder
+     * @return the {@link TextTemplate}
+     */
+    public static TextTemplate createTemplate(final File templateFolder, final String relativePath) {
+        return new TextTemplate() {
+            @Override
+            public String getRelativeTemplatePath() {
+                return relativePath;
+            }
+
+            @Override
+            public Path getAbsoluteTemplatePath() {
+                return templateFolder.toPath().resolve(relativePath);
+            }
+        };
+    }
+}
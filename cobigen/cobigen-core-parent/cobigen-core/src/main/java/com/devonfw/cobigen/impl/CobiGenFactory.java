@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Path;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 import com.devonfw.cobigen.api.CobiGen;
 import com.devonfw.cobigen.api.HealthCheck;
@@ -37,11 +38,34 @@ public class CobiGenFactory {
      *             if the context configuration could not be read properly.
      */
     public static CobiGen create(URI configFileOrFolder) throws InvalidConfigurationException, IOException {
+        return create(configFileOrFolder, null);
+    }
+
+    /**
+     * Creates a new {@link CobiGen} with a given {@link ContextConfiguration} processing all generations in
+     * parallel on the given {@link Executor}. Each template will be generated for each input object as a
+     * separate unit of work. Units targeting the same file will be processed sequentially in their original
+     * order to preserve the order of merges. The results will be aggregated in a deterministic order
+     * independent from the order of execution.
+     *
+     * @param configFileOrFolder
+     *            the root folder containing the context.xml and all templates, configurations etc.
+     * @param generationExecutor
+     *            {@link Executor} to process the generation with or {@code null} to process all templates
+     *            sequentially within the calling thread
+     * @return a new instance of {@link CobiGen}
+     * @throws IOException
+     *             if the {@link URI} points to a file or folder, which could not be read.
+     * @throws InvalidConfigurationException
+     *             if the context configuration could not be read properly.
+     */
+    public static CobiGen create(URI configFileOrFolder, Executor generationExecutor)
+        throws InvalidConfigurationException, IOException {
         Objects.requireNonNull(configFileOrFolder, "The URI pointing to the configuration could not be null.");
 
         Path configFolder = FileSystemUtil.createFileSystemDependentPath(configFileOrFolder);
 
-        ConfigurationHolder configurationHolder = new ConfigurationHolder(configFolder);
+        ConfigurationHolder configurationHolder = new ConfigurationHolder(configFolder, generationExecutor);
         BeanFactory beanFactory = new BeanFactory();
         beanFactory.addManuallyInitializedBean(configurationHolder);
         CobiGen createBean = beanFactory.createBean(CobiGen.class);
@@ -0,0 +1,233 @@
+package com.devonfw.cobigen.impl.aop;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+/**
+ * Thread-safe cache of method invocation results. The results are keyed by the invoked method and all its
+ * arguments. The arguments are only weakly referenced by the cache, such that an entry will be discarded as
+ * soon as any of its arguments has been collected by the GC. Therefore, arguments are compared by identity
+ * like for {@link CacheBuilder#weakKeys() weak keys}, as an equal but different argument instance would not
+ * keep the entry alive. Furthermore, the cache is bounded in size and entries expire if they have not been
+ * accessed for a given time.
+ */
+public class InvocationCache {
+
+    /** Default maximum number of cached invocation results */
+    public static final long DEFAULT_MAXIMUM_SIZE = 1000;
+
+    /** Default time in minutes after which an entry expires if it has not been accessed */
+    public static final long DEFAULT_EXPIRE_AFTER_ACCESS_MINUTES = 30;
+
+    /** Marker for arguments already collected by the GC */
+    private static final Object COLLECTED = new Object();
+
+    /** Cached results mapped by their invocation */
+    private final Cache<InvocationKey, Object> cache;
+
+    /** Queue of argument references, which referents have been collected by the GC */
+    private final ReferenceQueue<Object> collectedArguments = new ReferenceQueue<>();
+
+    /** Number of entries discarded due to collected arguments */
+    private final AtomicLong collectedCount = new AtomicLong();
+
+    /**
+     * Creates a new cache with the {@link #DEFAULT_MAXIMUM_SIZE default maximum size} and
+     * {@link #DEFAULT_EXPIRE_AFTER_ACCESS_MINUTES default expiration}.
+     */
+    public InvocationCache() {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_EXPIRE_AFTER_ACCESS_MINUTES, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Creates a new cache.
+     * @param maximumSize
+     *            maximum number of cached invocation results
+     * @param expireAfterAccess
+     *            time after which an entry expires if it has not been accessed
+     * @param unit
+     *            {@link TimeUnit} of the expiration time
+     */
+    public InvocationCache(long maximumSize, long expireAfterAccess, TimeUnit unit) {
+        cache = CacheBuilder.newBuilder().maximumSize(maximumSize).expireAfterAccess(expireAfterAccess, unit)
+            .recordStats().build();
+    }
+
+    /**
+     * Returns the cached result of the invocation of the given method with the given arguments.
+     * @param method
+     *            invoked {@link Method}
+     * @param args
+     *            arguments of the invocation, might be {@code null} if there are no arguments
+     * @return the cached result or {@code null} if there is no cached result
+     */
+    public Object get(Method method, Object[] args) {
+        expungeCollectedEntries();
+        return cache.getIfPresent(new InvocationKey(method, args, null));
+    }
+
+    /**
+     * Caches the result of the invocation of the given method with the given arguments. {@code null} results
+     * will not be cached.
+     * @param method
+     *            invoked {@link Method}
+     * @param args
+     *            arguments of the invocation, might be {@code null} if there are no arguments
+     * @param result
+     *            result of the invocation
+     */
+    public void put(Method method, Object[] args, Object result) {
+        expungeCollectedEntries();
+        if (result != null) {
+            cache.put(new InvocationKey(method, args, collectedArguments), result);
+        }
+    }
+
+    /**
+     * Returns the statistics of this cache. The eviction count includes the entries, which have been discarded
+     * as any of their arguments has been collected by the GC.
+     * @return the {@link CacheStats} of this cache
+     */
+    public CacheStats getStatistics() {
+        CacheStats stats = cache.stats();
+        return new CacheStats(stats.hitCount(), stats.missCount(), stats.loadSuccessCount(),
+            stats.loadExceptionCount(), stats.totalLoadTime(), stats.evictionCount() + collectedCount.get());
+    }
+
+    /**
+     * @return the current number of cached invocation results
+     */
+    public long size() {
+        expungeCollectedEntries();
+        return cache.size();
+    }
+
+    /**
+     * Discards all entries, which arguments have been collected by the GC.
+     */
+    private void expungeCollectedEntries() {
+        Reference<?> reference;
+        while ((reference = collectedArguments.poll()) != null) {
+            InvocationKey key = ((ArgumentReference) reference).key;
+            if (cache.asMap().remove(key) != null) {
+                collectedCount.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Cache key of an invocation comparing the arguments by identity. Keys being stored in the cache only hold
+     * weak references to the arguments, whereas keys used for lookups hold the arguments directly.
+     */
+    private static final class InvocationKey {
+
+        /** Invoked method */
+        private final Method method;
+
+        /** Arguments or {@link ArgumentReference}s to the arguments */
+        private final Object[] arguments;
+
+        /** Pre-calculated hash code */
+        private final int hashCode;
+
+        /**
+         * Creates a new key.
+         * @param method
+         *            invoked method
+         * @param args
+         *            arguments of the invocation, might be {@code null}
+         * @param queue
+         *            queue to register weak references to the arguments with or {@code null} to reference the
+         *            arguments directly
+         */
+        InvocationKey(Method method, Object[] args, ReferenceQueue<Object> queue) {
+            this.method = method;
+            Object[] arguments = args != null ? args : new Object[0];
+            int hash = method.hashCode();
+            for (Object argument : arguments) {
+                hash = 31 * hash + System.identityHashCode(argument);
+            }
+            hashCode = hash;
+            if (queue != null) {
+                arguments = arguments.clone();
+                for (int i = 0; i < arguments.length; i++) {
+                    if (arguments[i] != null) {
+                        arguments[i] = new ArgumentReference(arguments[i], this, queue);
+                    }
+                }
+            }
+            this.arguments = arguments;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof InvocationKey)) {
+                return false;
+            }
+            InvocationKey other = (InvocationKey) obj;
+            if (hashCode != other.hashCode || !method.equals(other.method)
+                || arguments.length != other.arguments.length) {
+                return false;
+            }
+            for (int i = 0; i < arguments.length; i++) {
+                Object argument = unwrap(arguments[i]);
+                Object otherArgument = unwrap(other.arguments[i]);
+                if (argument == COLLECTED || argument != otherArgument) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Unwraps the given argument if it is an {@link ArgumentReference}.
+         * @param argument
+         *            argument or reference to the argument
+         * @return the argument or {@link #COLLECTED} if the argument has already been collected by the GC
+         */
+        private static Object unwrap(Object argument) {
+            if (argument instanceof ArgumentReference) {
+                Object referent = ((ArgumentReference) argument).get();
+                return referent != null ? referent : COLLECTED;
+            }
+            return argument;
+        }
+    }
+
+    /** Weak reference to an argument knowing the key it belongs to */
+    private static final class ArgumentReference extends WeakReference<Object> {
+
+        /** Key the referenced argument belongs to */
+        private final InvocationKey key;
+
+        /**
+         * Creates a new reference.
+         * @param referent
+         *            referenced argument
+         * @param key
+         *            key the argument belongs to
+         * @param queue
+         *            queue to register the reference with
+         */
+        ArgumentReference(Object referent, InvocationKey key, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.key = key;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.devonfw.cobigen.impl.aop;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -24,9 +25,10 @@ public final class ProxyFactory {
     /**
      * Cache of proxies. Mapping from target object to proxy object OR target object to boolean {@code false}
      * to mark objects which have been already checked to be not proxied. The {@link WeakHashMap} will assure,
-     * that the garbage collector will also destroy the interceptor instances.
+     * that the garbage collector will also destroy the interceptor instances. Synchronized as proxies are
+     * requested concurrently during parallel generation.
      */
-    private static Map<Object, Object> _cache = new WeakHashMap<>();
+    private static Map<Object, Object> _cache = Collections.synchronizedMap(new WeakHashMap<>());
 
     static {
         annotationToInterceptorMap = Maps.newHashMap();
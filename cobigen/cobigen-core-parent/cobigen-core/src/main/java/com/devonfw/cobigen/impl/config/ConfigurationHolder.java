@@ -3,9 +3,13 @@ package com.devonfw.cobigen.impl.config;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
+import com.devonfw.cobigen.api.constants.ConfigurationConstants;
 import com.devonfw.cobigen.api.exception.InvalidConfigurationException;
+import com.devonfw.cobigen.impl.aop.InvocationCache;
 import com.devonfw.cobigen.impl.config.entity.Trigger;
+import com.devonfw.cobigen.impl.config.reader.CobiGenPropertiesReader;
 import com.google.common.collect.Maps;
 
 /**
@@ -22,13 +26,60 @@ public class ConfigurationHolder {
     /** Root path of the configuration */
     private Path configurationPath;
 
+    /** {@link Executor} to process the generation with or {@code null} for sequential generation */
+    private final Executor generationExecutor;
+
+    /** Cache of the context variables resolved for the inputs and triggers of this configuration */
+    private final InvocationCache contextVariableCache = new InvocationCache();
+
+    /** Reader caching the {@link ConfigurationConstants#COBIGEN_PROPERTIES} files read for this configuration */
+    private final CobiGenPropertiesReader propertiesReader = new CobiGenPropertiesReader();
+
     /**
      * Creates a new {@link ConfigurationHolder} which serves as a cache for CobiGen's external configuration.
      * @param configurationPath
      *            root path of the configuration
      */
     public ConfigurationHolder(Path configurationPath) {
+        this(configurationPath, null);
+    }
+
+    /**
+     * Creates a new {@link ConfigurationHolder} which serves as a cache for CobiGen's external configuration.
+     * @param configurationPath
+     *            root path of the configuration
+     * @param generationExecutor
+     *            {@link Executor} to process the generation with or {@code null} for sequential generation
+     */
+    public ConfigurationHolder(Path configurationPath, Executor generationExecutor) {
         this.configurationPath = configurationPath;
+        this.generationExecutor = generationExecutor;
+    }
+
+    /**
+     * Returns the {@link Executor} the generation should be processed with.
+     * @return the {@link Executor} or {@code null} if the generation should be processed sequentially
+     */
+    public Executor getGenerationExecutor() {
+        return generationExecutor;
+    }
+
+    /**
+     * Returns the cache of the context variables resolved for the inputs and triggers of this configuration.
+     * @return the {@link InvocationCache} to be used by the
+     *         {@link com.devonfw.cobigen.impl.model.ContextVariableResolver ContextVariableResolver}
+     */
+    public InvocationCache getContextVariableCache() {
+        return contextVariableCache;
+    }
+
+    /**
+     * Returns the reader caching the {@link ConfigurationConstants#COBIGEN_PROPERTIES} files read for this
+     * configuration.
+     * @return the {@link CobiGenPropertiesReader}
+     */
+    public CobiGenPropertiesReader getPropertiesReader() {
+        return propertiesReader;
     }
 
     /**
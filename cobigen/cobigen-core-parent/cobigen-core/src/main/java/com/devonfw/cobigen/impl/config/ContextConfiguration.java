@@ -9,6 +9,8 @@ import java.util.Map;
 import com.devonfw.cobigen.api.exception.InvalidConfigurationException;
 import com.devonfw.cobigen.impl.config.entity.Trigger;
 import com.devonfw.cobigen.impl.config.reader.ContextConfigurationReader;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.Multimaps;
 
 /**
  * The {@link ContextConfiguration} is a configuration data wrapper for all information about templates and
@@ -21,6 +23,11 @@ public class ContextConfiguration {
      */
     private Map<String, Trigger> triggers;
 
+    /**
+     * All available {@link Trigger}s indexed by their type
+     */
+    private ImmutableListMultimap<String, Trigger> triggersByType;
+
     /**
      * Path of the configuration. Might point to a folder or a jar or maybe even something different in
      * future.
@@ -50,6 +57,7 @@ public class ContextConfiguration {
         ContextConfigurationReader reader = new ContextConfigurationReader(configRoot);
         configurationPath = reader.getContextRoot();
         triggers = reader.loadTriggers();
+        triggersByType = Multimaps.index(triggers.values(), Trigger::getType);
     }
 
     /**
@@ -72,6 +80,15 @@ public class ContextConfiguration {
         return new ArrayList<>(triggers.values());
     }
 
+    /**
+     * Returns all registered {@link Trigger}s indexed by their type. The types are ordered by their first
+     * occurrence in {@link #getTriggers()} and the {@link Trigger}s of each type keep their order.
+     * @return all registered {@link Trigger}s indexed by their type
+     */
+    public ImmutableListMultimap<String, Trigger> getTriggersByType() {
+        return triggersByType;
+    }
+
     /**
      * Returns the {@link Trigger} with the given id
      * @param id
@@ -0,0 +1,212 @@
+package com.devonfw.cobigen.impl.config.entity;
+
+import java.util.List;
+import java.util.regex.Matcher;
+
+import com.devonfw.cobigen.impl.exceptions.UnknownContextVariableException;
+import com.google.common.collect.Lists;
+
+/**
+ * Pre-parsed path containing variable expressions as supported by {@link Variables#resolve(String, char)}.
+ * The path is split once into literal and variable segments, such that resolving it against
+ * {@link Variables} is a single pass without any regular expression matching. Paths, which cannot be
+ * represented unambiguously by segments (e.g. variables nested into case syntax expressions), will be
+ * resolved by {@link Variables#resolve(String, char)}.
+ */
+public final class PathExpression {
+
+    /** Literal segment */
+    private static final int LITERAL = 0;
+
+    /** Variable in dollar syntax (<code>${...}</code>) */
+    private static final int DOLLAR_VARIABLE = 1;
+
+    /** Variable in case syntax (<code>$_..._$</code>) */
+    private static final int CASE_VARIABLE = 2;
+
+    /** The original path expression */
+    private final String expression;
+
+    /** Segments of the expression or {@code null} if the expression cannot be compiled */
+    private final Segment[] segments;
+
+    /**
+     * Creates a new {@link PathExpression}.
+     * @param expression
+     *            the original path expression
+     * @param segments
+     *            segments of the expression or {@code null} if the expression cannot be compiled
+     */
+    private PathExpression(String expression, List<Segment> segments) {
+        this.expression = expression;
+        this.segments = segments != null ? segments.toArray(new Segment[segments.size()]) : null;
+    }
+
+    /**
+     * Parses the given path expression.
+     * @param expression
+     *            path possibly containing variable expressions
+     * @return the compiled {@link PathExpression} or {@code null} if the given expression is {@code null}
+     */
+    public static PathExpression compile(String expression) {
+        if (expression == null) {
+            return null;
+        }
+
+        List<int[]> dollarRanges = Lists.newArrayList();
+        Matcher dollarMatcher = Variables.PATTERN_VARIABLE_DOLLAR_SYNTAX.matcher(expression);
+        while (dollarMatcher.find()) {
+            dollarRanges.add(new int[] { dollarMatcher.start(), dollarMatcher.end() });
+        }
+        // a case syntax expression spanning a dollar variable can only be resolved after the dollar variable
+        Matcher caseMatcher = Variables.PATTERN_VARIABLE_CASE_SYNTAX.matcher(expression);
+        while (caseMatcher.find()) {
+            for (int[] dollarRange : dollarRanges) {
+                if (caseMatcher.start() < dollarRange[1] && caseMatcher.end() > dollarRange[0]) {
+                    return new PathExpression(expression, null);
+                }
+            }
+        }
+
+        List<Segment> segments = Lists.newArrayList();
+        int literalStart = 0;
+        dollarMatcher.reset();
+        while (dollarMatcher.find()) {
+            if (!addLiteralSegments(segments, expression.substring(literalStart, dollarMatcher.start()))) {
+                return new PathExpression(expression, null);
+            }
+            segments.add(new Segment(DOLLAR_VARIABLE, dollarMatcher.group(1), dollarMatcher.group(2)));
+            literalStart = dollarMatcher.end();
+        }
+        if (!addLiteralSegments(segments, expression.substring(literalStart))) {
+            return new PathExpression(expression, null);
+        }
+        return new PathExpression(expression, segments);
+    }
+
+    /**
+     * Splits the given literal text into literal and case syntax variable segments.
+     * @param segments
+     *            list to add the segments to
+     * @param literal
+     *            literal text between two dollar variables
+     * @return {@code true} if the literal text could be split unambiguously, {@code false} if it contains
+     *         further dollar characters, which might form an expression together with resolved values
+     */
+    private static boolean addLiteralSegments(List<Segment> segments, String literal) {
+        Matcher caseMatcher = Variables.PATTERN_VARIABLE_CASE_SYNTAX.matcher(literal);
+        int literalStart = 0;
+        while (caseMatcher.find()) {
+            if (!addLiteralSegment(segments, literal.substring(literalStart, caseMatcher.start()))) {
+                return false;
+            }
+            segments.add(new Segment(CASE_VARIABLE, caseMatcher.group(1), null));
+            literalStart = caseMatcher.end();
+        }
+        return addLiteralSegment(segments, literal.substring(literalStart));
+    }
+
+    /**
+     * Adds a plain literal segment.
+     * @param segments
+     *            list to add the segment to
+     * @param literal
+     *            plain literal text
+     * @return {@code true} if the literal could be added, {@code false} if it contains dollar characters
+     */
+    private static boolean addLiteralSegment(List<Segment> segments, String literal) {
+        if (literal.indexOf('$') >= 0) {
+            return false;
+        }
+        if (!literal.isEmpty()) {
+            segments.add(new Segment(LITERAL, literal, null));
+        }
+        return true;
+    }
+
+    /**
+     * Resolves all variables of this path.
+     * @param variables
+     *            {@link Variables} to resolve the variables with
+     * @param replacementForDot
+     *            the character used as replacement for the dot character ('.') or '\0' for no replacement
+     * @return the path with all variables replaced, equivalent to
+     *         {@link Variables#resolve(String, char) variables.resolve(getExpression(), replacementForDot)}
+     * @throws UnknownContextVariableException
+     *             if a variable could not be resolved
+     */
+    public String resolve(Variables variables, char replacementForDot) throws UnknownContextVariableException {
+        if (segments == null) {
+            return variables.resolve(expression, replacementForDot);
+        }
+
+        // resolve dollar variables before case variables to report unknown variables in the same order
+        String[] values = new String[segments.length];
+        int length = 0;
+        for (int kind = LITERAL; kind <= CASE_VARIABLE; kind++) {
+            for (int i = 0; i < segments.length; i++) {
+                Segment segment = segments[i];
+                if (segment.kind != kind) {
+                    continue;
+                }
+                if (kind == LITERAL) {
+                    values[i] = segment.text;
+                } else {
+                    values[i] = variables.resolveVariable(segment.text, segment.function, kind == CASE_VARIABLE,
+                        replacementForDot);
+                    if (values[i].indexOf('$') >= 0 || values[i].indexOf('\\') >= 0) {
+                        // values are treated as replacement patterns by the regex based resolution
+                        return variables.resolve(expression, replacementForDot);
+                    }
+                }
+                length += values[i].length();
+            }
+        }
+
+        StringBuilder result = new StringBuilder(length);
+        for (String value : values) {
+            result.append(value);
+        }
+        return result.toString();
+    }
+
+    /**
+     * @return the original path expression
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + expression + "]";
+    }
+
+    /** Segment of a {@link PathExpression} */
+    private static final class Segment {
+
+        /** Kind of the segment */
+        private final int kind;
+
+        /** Literal text or variable name */
+        private final String text;
+
+        /** Freemarker function(s) of a dollar variable or {@code null} */
+        private final String function;
+
+        /**
+         * Creates a new segment.
+         * @param kind
+         *            kind of the segment
+         * @param text
+         *            literal text or variable name
+         * @param function
+         *            freemarker function(s) of a dollar variable or {@code null}
+         */
+        Segment(int kind, String text, String function) {
+            this.kind = kind;
+            this.text = text;
+            this.function = function;
+        }
+    }
+}
@@ -24,6 +24,12 @@ public class Template implements TextTemplate {
      */
     private String unresolvedTemplatePath;
 
+    /** Compiled {@link #getUnresolvedTargetPath()}, created lazily */
+    private volatile PathExpression targetPathExpression;
+
+    /** Compiled {@link #getUnresolvedTemplatePath()}, created lazily */
+    private volatile PathExpression templatePathExpression;
+
     /** Charset of the target file */
     private String targetCharset;
 
@@ -54,6 +60,7 @@ public class Template implements TextTemplate {
         targetCharset = outputCharset;
         unresolvedTargetPath = unresolvedDestinationPath;
         this.unresolvedTemplatePath = unresolvedTemplatePath;
+        templatePathExpression = null;
     }
 
     /**
@@ -117,6 +124,19 @@ public class Template implements TextTemplate {
      */
     public void setUnresolvedTargetPath(String unresolvedTargetPath) {
         this.unresolvedTargetPath = unresolvedTargetPath;
+        targetPathExpression = null;
+    }
+
+    /**
+     * @return the compiled {@link #getUnresolvedTargetPath()} or {@code null} if there is no target path
+     */
+    public PathExpression getTargetPathExpression() {
+        PathExpression expression = targetPathExpression;
+        if (expression == null) {
+            expression = PathExpression.compile(unresolvedTargetPath);
+            targetPathExpression = expression;
+        }
+        return expression;
     }
 
     /**
@@ -125,6 +145,7 @@ public class Template implements TextTemplate {
      */
     public void setUnresolvedTemplatePath(String unresolvedTemplatePath) {
         this.unresolvedTemplatePath = unresolvedTemplatePath;
+        templatePathExpression = null;
     }
 
     /**
@@ -135,6 +156,18 @@ public class Template implements TextTemplate {
         return unresolvedTemplatePath;
     }
 
+    /**
+     * @return the compiled {@link #getUnresolvedTemplatePath()} or {@code null} if there is no template path
+     */
+    public PathExpression getTemplatePathExpression() {
+        PathExpression expression = templatePathExpression;
+        if (expression == null) {
+            expression = PathExpression.compile(unresolvedTemplatePath);
+            templatePathExpression = expression;
+        }
+        return expression;
+    }
+
     /**
      * @return the absolute file path to the template
      */
@@ -28,6 +28,9 @@ public class TemplateFolder extends TemplatePath {
     /** @see #getVariables() */
     private final Variables variables;
 
+    /** {@link CobiGenPropertiesReader} to read the properties of this folder and its child folders with */
+    private final CobiGenPropertiesReader propertiesReader;
+
     /** @see #getChildFiles() */
     private List<TemplateFile> childFiles;
 
@@ -42,11 +45,15 @@ public class TemplateFolder extends TemplatePath {
      *
      * @param templatePath
      *            the {@link #getPath() template path}.
+     * @param propertiesReader
+     *            the {@link CobiGenPropertiesReader} to read the properties of this folder and its child folders
+     *            with.
      */
-    private TemplateFolder(Path templatePath) {
+    private TemplateFolder(Path templatePath, CobiGenPropertiesReader propertiesReader) {
         super(templatePath, null);
         children = new HashMap<>();
-        variables = new Variables(CobiGenPropertiesReader.load(templatePath));
+        this.propertiesReader = propertiesReader;
+        variables = new Variables(propertiesReader.load(templatePath));
     }
 
     /**
@@ -72,7 +79,8 @@ public class TemplateFolder extends TemplatePath {
     private TemplateFolder(Path templatePath, TemplateFolder parent) {
         super(templatePath, parent);
         children = new HashMap<>();
-        variables = parent.variables.forChildFolder(templatePath);
+        propertiesReader = parent.propertiesReader;
+        variables = parent.variables.forChildFolder(templatePath, propertiesReader);
     }
 
     /**
@@ -224,10 +232,24 @@ public class TemplateFolder extends TemplatePath {
      */
     public static TemplateFolder create(Path rootPath) {
 
+        return create(rootPath, new CobiGenPropertiesReader());
+    }
+
+    /**
+     * @param rootPath
+     *            the root {@link Path} containing the templates (typically where {@code templates.xml} is
+     *            located).
+     * @param propertiesReader
+     *            the {@link CobiGenPropertiesReader} to read the
+     *            {@link ConfigurationConstants#COBIGEN_PROPERTIES cobigen.properties} of the folders with.
+     * @return a new {@link TemplateFolder} instance for the given {@link Path}.
+     */
+    public static TemplateFolder create(Path rootPath, CobiGenPropertiesReader propertiesReader) {
+
         if (!Files.isDirectory(rootPath)) {
             throw new CobiGenRuntimeException("Directory " + rootPath + " does not exist!");
         }
-        return new TemplateFolder(rootPath);
+        return new TemplateFolder(rootPath, propertiesReader);
     }
 
     @Override
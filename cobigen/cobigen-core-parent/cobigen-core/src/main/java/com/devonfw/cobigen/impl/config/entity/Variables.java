@@ -1,10 +1,12 @@
 package com.devonfw.cobigen.impl.config.entity;
 
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -38,11 +40,11 @@ public class Variables {
     private static final char DUMMY_LETTER_FOR_DOT = 'ʵ';
 
     /** Regex {@link Pattern} for variable in dollar syntax (<code>${...}</code>). */
-    private static final Pattern PATTERN_VARIABLE_DOLLAR_SYNTAX =
+    static final Pattern PATTERN_VARIABLE_DOLLAR_SYNTAX =
         Pattern.compile("\\$\\{([^?#}]+)(((\\?|#)[^}?#]+)*)\\}");
 
     /** Regex {@link Pattern} for variable in underscore syntax (<code>__...__</code>). */
-    private static final Pattern PATTERN_VARIABLE_CASE_SYNTAX = Pattern.compile("\\$_(([^$]|\\$(?!_))+)_\\$");
+    static final Pattern PATTERN_VARIABLE_CASE_SYNTAX = Pattern.compile("\\$_(([^$]|\\$(?!_))+)_\\$");
 
     /** The parent {@link Variables} to inherit or {@code null}. */
     private final Variables parent;
@@ -50,6 +52,12 @@ public class Variables {
     /** The {@link Properties} containing the local variables. */
     private final Properties properties;
 
+    /** Number of modifications of the local variables done by {@link #put(String, String)}. */
+    private final AtomicLong modificationCount = new AtomicLong();
+
+    /** @see #asUnmodifiableMap() */
+    private volatile Snapshot snapshot;
+
     /**
      * The constructor for the root variables.
      */
@@ -186,16 +194,21 @@ public class Variables {
      */
     public String put(String key, String value) {
 
-        String old = getInternal(key);
-        properties.setProperty(key, value);
-        String normalizeKey = normalizeKey(key);
-        if (!normalizeKey.equals(key)) {
-            if (old == null) {
-                old = getInternal(normalizeKey);
+        // count the modification after writing under the same lock, such that a snapshot of a new count
+        // always reflects the modification
+        synchronized (properties) {
+            String old = getInternal(key);
+            properties.setProperty(key, value);
+            String normalizeKey = normalizeKey(key);
+            if (!normalizeKey.equals(key)) {
+                if (old == null) {
+                    old = getInternal(normalizeKey);
+                }
+                properties.put(normalizeKey, value);
             }
-            properties.put(normalizeKey, value);
+            modificationCount.incrementAndGet();
+            return old;
         }
-        return old;
     }
 
     /**
@@ -211,6 +224,34 @@ public class Variables {
         return map;
     }
 
+    /**
+     * @return this {@link Variables} as unmodifiable {@link Map}. Other than {@link #asMap()}, the hierarchy of
+     *         {@link Variables} is only flattened once and the resulting {@link Map} is shared by all callers
+     *         until this {@link Variables} or one of its ancestors is modified by {@link #put(String, String)}.
+     */
+    public Map<String, String> asUnmodifiableMap() {
+
+        long version = getHierarchyModificationCount();
+        Snapshot current = snapshot;
+        if (current == null || current.version != version) {
+            current = new Snapshot(Collections.unmodifiableMap(asMap()), version);
+            snapshot = current;
+        }
+        return current.map;
+    }
+
+    /**
+     * @return the number of modifications of this {@link Variables} and all its ancestors.
+     */
+    private long getHierarchyModificationCount() {
+
+        long count = modificationCount.get();
+        if (parent != null) {
+            count += parent.getHierarchyModificationCount();
+        }
+        return count;
+    }
+
     /**
      * @see #asMap()
      * @param map
@@ -222,7 +263,9 @@ public class Variables {
         if (parent != null) {
             parent.asMap(map);
         }
-        map.putAll((Map) properties);
+        synchronized (properties) {
+            map.putAll((Map) properties);
+        }
     }
 
     /**
@@ -241,13 +284,16 @@ public class Variables {
      * @param folder
      *            the {@link Path} pointing to a child-folder potentially containing
      *            {@link ConfigurationConstants#COBIGEN_PROPERTIES cobigen.properties}.
+     * @param propertiesReader
+     *            the {@link CobiGenPropertiesReader} to read the
+     *            {@link ConfigurationConstants#COBIGEN_PROPERTIES cobigen.properties} with.
      * @return a new {@link Variables} instance inherited from this one with the
      *         {@link ConfigurationConstants#COBIGEN_PROPERTIES cobigen.properties} set or this
      *         {@link Variables} if no such properties exists.
      */
-    public Variables forChildFolder(Path folder) {
+    public Variables forChildFolder(Path folder, CobiGenPropertiesReader propertiesReader) {
 
-        Properties childProperties = CobiGenPropertiesReader.load(folder, properties);
+        Properties childProperties = propertiesReader.load(folder, properties);
         if (childProperties == properties) {
             return this;
         }
@@ -299,39 +345,8 @@ public class Variables {
         Matcher m = pattern.matcher(string.toString());
         StringBuffer out = new StringBuffer();
         while (m.find()) {
-            String variableKey = m.group(1);
-            if (!supportCase && (variableKey.startsWith(PREFIX_VARIABLES))) {
-                variableKey = variableKey.substring(PREFIX_VARIABLES.length());
-            }
-            // a variable like ${detail} can be explicitly set to null
-            // this is considered as the empty string but null instead of "" is required for free-marker
-            if (!containsKey(variableKey)) {
-                throw new UnknownContextVariableException(variableKey);
-            }
-
-            String variableValue = get(variableKey);
-            if (variableValue != null) {
-                boolean containsDot = variableValue.contains(".");
-                if (containsDot && (replacementForDot != '\0')) {
-                    if (supportCase) {
-                        variableValue = variableValue.replace('.', DUMMY_LETTER_FOR_DOT);
-                    } else {
-                        variableValue = variableValue.replace('.', replacementForDot);
-                    }
-                }
-                if (supportCase) {
-                    CaseSyntax syntax = CaseSyntax.ofExample(variableKey, true);
-                    variableValue = syntax.convert(variableValue);
-                    if (containsDot) {
-                        variableValue.replace(DUMMY_LETTER_FOR_DOT, replacementForDot);
-                    }
-                } else {
-                    variableValue = resolveFunction(variableValue, m.group(2));
-                }
-                m.appendReplacement(out, variableValue);
-            } else {
-                m.appendReplacement(out, "");
-            }
+            m.appendReplacement(out,
+                resolveVariable(m.group(1), supportCase ? null : m.group(2), supportCase, replacementForDot));
         }
         m.appendTail(out);
 
@@ -339,6 +354,56 @@ public class Variables {
 
     }
 
+    /**
+     * Resolves the value of a single variable expression.
+     *
+     * @param variableKey
+     *            the variable name as stated in the expression.
+     * @param function
+     *            the freemarker function(s) to apply in dollar syntax or {@code null}.
+     * @param supportCase
+     *            {@code true} for the new case transformation by example, {@code false} otherwise.
+     * @param replacementForDot
+     *            the character used as replacement for the dot character ('.') or '\0' for no replacement.
+     * @return the resolved value of the variable. The empty string if the variable has been set to
+     *         {@code null}.
+     * @throws UnknownContextVariableException
+     *             if the variable is not defined
+     */
+    String resolveVariable(String variableKey, String function, boolean supportCase, char replacementForDot) {
+        if (!supportCase && (variableKey.startsWith(PREFIX_VARIABLES))) {
+            variableKey = variableKey.substring(PREFIX_VARIABLES.length());
+        }
+        // a variable like ${detail} can be explicitly set to null
+        // this is considered as the empty string but null instead of "" is required for free-marker
+        if (!containsKey(variableKey)) {
+            throw new UnknownContextVariableException(variableKey);
+        }
+
+        String variableValue = get(variableKey);
+        if (variableValue == null) {
+            return "";
+        }
+        boolean containsDot = variableValue.contains(".");
+        if (containsDot && (replacementForDot != '\0')) {
+            if (supportCase) {
+                variableValue = variableValue.replace('.', DUMMY_LETTER_FOR_DOT);
+            } else {
+                variableValue = variableValue.replace('.', replacementForDot);
+            }
+        }
+        if (supportCase) {
+            CaseSyntax syntax = CaseSyntax.ofExample(variableKey, true);
+            variableValue = syntax.convert(variableValue);
+            if (containsDot) {
+                variableValue.replace(DUMMY_LETTER_FOR_DOT, replacementForDot);
+            }
+        } else {
+            variableValue = resolveFunction(variableValue, function);
+        }
+        return variableValue;
+    }
+
     /**
      * Legacy support for freemarker function syntax.
      *
@@ -424,4 +489,27 @@ public class Variables {
             put(entry.getKey(), entry.getValue());
         }
     }
+
+    /** Flattened {@link Variables} hierarchy of a specific modification state. */
+    private static final class Snapshot {
+
+        /** The flattened variables. */
+        private final Map<String, String> map;
+
+        /** The {@link Variables#getHierarchyModificationCount() modification count} the map reflects. */
+        private final long version;
+
+        /**
+         * The constructor.
+         *
+         * @param map
+         *            the flattened variables.
+         * @param version
+         *            the modification count the map reflects.
+         */
+        Snapshot(Map<String, String> map, long version) {
+            this.map = map;
+            this.version = version;
+        }
+    }
 }
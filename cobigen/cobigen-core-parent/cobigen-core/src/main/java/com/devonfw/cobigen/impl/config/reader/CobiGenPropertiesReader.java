@@ -5,26 +5,49 @@ import java.io.Reader;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.Properties;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import com.devonfw.cobigen.api.constants.ConfigurationConstants;
 import com.devonfw.cobigen.api.exception.CobiGenRuntimeException;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 /**
- * Reader for {@link ConfigurationConstants#COBIGEN_PROPERTIES} files.
+ * Reader for {@link ConfigurationConstants#COBIGEN_PROPERTIES} files. Read files are cached per reader instance
+ * by their path, such that a file is only parsed again if its last modification time or size changed. As a file
+ * might be changed without changing its size within the granularity of its modification time, files modified
+ * shortly before being read will be parsed again until they have been read after this period.
  */
 public class CobiGenPropertiesReader {
 
+    /** Logger instance */
+    private static final Logger LOG = LoggerFactory.getLogger(CobiGenPropertiesReader.class);
+
     /** The {@link Charset} used to read {@link ConfigurationConstants#COBIGEN_PROPERTIES}. */
     private static final Charset UTF_8 = Charset.forName("UTF-8");
 
+    /** Maximum number of cached {@link ConfigurationConstants#COBIGEN_PROPERTIES} files */
+    private static final long CACHE_MAXIMUM_SIZE = 1000;
+
+    /** Coarsest granularity of file modification times to be expected, i.e. the one of FAT file systems */
+    private static final long MODIFICATION_TIME_GRANULARITY_MILLIS = 2000;
+
+    /** Read {@link ConfigurationConstants#COBIGEN_PROPERTIES} files mapped by their path */
+    private final Cache<Path, CachedProperties> cache =
+        CacheBuilder.newBuilder().maximumSize(CACHE_MAXIMUM_SIZE).build();
+
     /**
      * @param folder
      *            the {@link Path} pointing to the folder that may contain a {@code cobigen.properties} file.
      * @return the new {@link Properties} containing the properties from a potential
      *         {@code cobigen.properties}. Will be empty if no such properties file exists.
      */
-    public static final Properties load(Path folder) {
+    public Properties load(Path folder) {
 
         return load(folder, null);
     }
@@ -37,10 +60,10 @@ public class CobiGenPropertiesReader {
      * @return the new {@link Properties} containing the properties from a potential
      *         {@code cobigen.properties} merged with the given {@code parent} properties.
      */
-    public static final Properties load(Path folder, Properties parent) {
+    public Properties load(Path folder, Properties parent) {
 
-        Path propertiesPath = folder.resolve(ConfigurationConstants.COBIGEN_PROPERTIES);
-        if (!Files.exists(propertiesPath)) {
+        Properties fileProperties = read(folder);
+        if (fileProperties == null) {
             if (parent == null) {
                 return new Properties();
             }
@@ -51,13 +74,90 @@ public class CobiGenPropertiesReader {
         if (parent != null) {
             properties.putAll(parent);
         }
+        properties.putAll(fileProperties);
+        return properties;
+    }
+
+    /**
+     * Reads the {@link ConfigurationConstants#COBIGEN_PROPERTIES} file of the given folder. The file will only
+     * be parsed if it has not been read before or if it changed since.
+     * @param folder
+     *            the {@link Path} pointing to the folder that may contain a {@code cobigen.properties} file.
+     * @return the cached {@link Properties} of the file, which must not be modified, or {@code null} if no
+     *         such file exists.
+     */
+    private Properties read(Path folder) {
+
+        Path propertiesPath = folder.resolve(ConfigurationConstants.COBIGEN_PROPERTIES);
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(propertiesPath, BasicFileAttributes.class);
+        } catch (IOException e) {
+            // the file does not exist or its existence cannot be determined, same as Files#exists
+            cache.invalidate(propertiesPath);
+            return null;
+        }
+
+        CachedProperties cached = cache.getIfPresent(propertiesPath);
+        if (cached != null && cached.isUpToDate(attributes)) {
+            return cached.properties;
+        }
+
+        long readMillis = System.currentTimeMillis();
+        Properties properties = new Properties();
         try (Reader reader = Files.newBufferedReader(propertiesPath, UTF_8)) {
             properties.load(reader);
         } catch (IOException e) {
             throw new CobiGenRuntimeException(
                 "Failed to read " + ConfigurationConstants.COBIGEN_PROPERTIES + " from " + folder, e);
         }
+        cache.put(propertiesPath, new CachedProperties(properties, attributes, readMillis));
+        LOG.debug("Read {}", propertiesPath);
         return properties;
     }
 
+    /** Contents of a {@link ConfigurationConstants#COBIGEN_PROPERTIES} file with the state it has been read in */
+    private static final class CachedProperties {
+
+        /** Properties read, which will never be modified */
+        private final Properties properties;
+
+        /** Last modification time of the file when read */
+        private final FileTime lastModifiedTime;
+
+        /** Size of the file when read */
+        private final long size;
+
+        /**
+         * States, whether the file has been modified within the granularity of its modification time before
+         * being read. In this case, a later change might neither change the modification time nor the size.
+         */
+        private final boolean racy;
+
+        /**
+         * Creates a new cache entry.
+         * @param properties
+         *            properties read
+         * @param attributes
+         *            attributes of the file when read
+         * @param readMillis
+         *            time the file has been started to be read at in milliseconds since the epoch
+         */
+        CachedProperties(Properties properties, BasicFileAttributes attributes, long readMillis) {
+            this.properties = properties;
+            lastModifiedTime = attributes.lastModifiedTime();
+            size = attributes.size();
+            racy = lastModifiedTime.toMillis() > readMillis - MODIFICATION_TIME_GRANULARITY_MILLIS;
+        }
+
+        /**
+         * @param attributes
+         *            current attributes of the file
+         * @return {@code true} if the file has not been changed since it has been read, {@code false} otherwise
+         */
+        boolean isUpToDate(BasicFileAttributes attributes) {
+            return !racy && lastModifiedTime.equals(attributes.lastModifiedTime()) && size == attributes.size();
+        }
+    }
+
 }
@@ -139,7 +139,11 @@ public class TemplatesConfigurationReader {
         } else {
             templateLocation = rootTemplatePath;
         }
-        rootTemplateFolder = TemplateFolder.create(templateLocation);
+        if (configurationHolder != null) {
+            rootTemplateFolder = TemplateFolder.create(templateLocation, configurationHolder.getPropertiesReader());
+        } else {
+            rootTemplateFolder = TemplateFolder.create(templateLocation);
+        }
 
         readConfiguration();
         this.configurationHolder = configurationHolder;
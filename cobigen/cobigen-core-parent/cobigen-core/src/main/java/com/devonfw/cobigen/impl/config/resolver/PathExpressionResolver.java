@@ -1,6 +1,7 @@
 package com.devonfw.cobigen.impl.config.resolver;
 
 import com.devonfw.cobigen.impl.config.ContextConfiguration;
+import com.devonfw.cobigen.impl.config.entity.PathExpression;
 import com.devonfw.cobigen.impl.config.entity.Variables;
 import com.devonfw.cobigen.impl.exceptions.UnknownContextVariableException;
 
@@ -41,9 +42,48 @@ public class PathExpressionResolver {
         if (relativeUnresolvedPath == null) {
             return null;
         }
-        String resolvedPath = variables.resolve(relativeUnresolvedPath, '/');
-        // Cleanup empty path segments
-        return resolvedPath.replaceAll("/+", "/");
+        return removeEmptySegments(variables.resolve(relativeUnresolvedPath, '/'));
+    }
+
+    /**
+     * Evaluates variable expressions within a pre-parsed path stated in the configuration xml
+     *
+     * @param relativeUnresolvedPath
+     *            virtual target folder path to be resolved
+     * @return the given path where all variable expressions are replaced by its values
+     * @throws UnknownContextVariableException
+     *             if a context variable could not be resolved
+     */
+    public String evaluateExpressions(PathExpression relativeUnresolvedPath) throws UnknownContextVariableException {
+
+        if (relativeUnresolvedPath == null) {
+            return null;
+        }
+        return removeEmptySegments(relativeUnresolvedPath.resolve(variables, '/'));
+    }
+
+    /**
+     * Cleanup empty path segments by collapsing consecutive slashes
+     *
+     * @param path
+     *            path to be cleaned up
+     * @return the path without empty segments
+     */
+    private String removeEmptySegments(String path) {
+
+        if (path.indexOf("//") < 0) {
+            return path;
+        }
+        StringBuilder result = new StringBuilder(path.length());
+        char previous = 0;
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c != '/' || previous != '/') {
+                result.append(c);
+            }
+            previous = c;
+        }
+        return result.toString();
     }
 
 }
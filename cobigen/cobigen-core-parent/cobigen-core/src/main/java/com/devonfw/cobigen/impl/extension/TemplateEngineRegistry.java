@@ -1,7 +1,10 @@
 package com.devonfw.cobigen.impl.extension;
 
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -10,10 +13,15 @@ import org.slf4j.LoggerFactory;
 import com.devonfw.cobigen.api.exception.CobiGenRuntimeException;
 import com.devonfw.cobigen.api.extension.TextTemplateEngine;
 import com.devonfw.cobigen.impl.aop.ProxyFactory;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 
 /**
- * Registry for {@link TextTemplateEngine template engines}.
+ * Registry for {@link TextTemplateEngine template engines}. For the generation, each template folder will be
+ * served by its own {@link TextTemplateEngine} instance, such that concurrent generations against different
+ * template folders do not share any mutable engine state.
  */
 public class TemplateEngineRegistry {
 
@@ -26,6 +34,16 @@ public class TemplateEngineRegistry {
     private static Map<String, TextTemplateEngine> registeredEngines =
         Collections.synchronizedMap(Maps.<String, TextTemplateEngine> newHashMap());
 
+    /** Maximum number of template folders to keep a {@link TextTemplateEngine} instance for per engine type */
+    private static final int MAX_TEMPLATE_FOLDER_ENGINES = 32;
+
+    /**
+     * {@link TextTemplateEngine} instances bound to a template folder mapped by their type and template folder.
+     * For each type, the instances of the least recently used template folders will be discarded if more than
+     * {@link #MAX_TEMPLATE_FOLDER_ENGINES} template folders are in use.
+     */
+    private static Map<String, Cache<Path, TextTemplateEngine>> templateFolderEngines = new ConcurrentHashMap<>();
+
     /**
      * Registers a new {@link TextTemplateEngine template engine}
      * @param <T>
@@ -56,7 +74,9 @@ public class TemplateEngineRegistry {
     }
 
     /**
-     * Returns a {@link TextTemplateEngine template engine} based on its name.
+     * Returns a {@link TextTemplateEngine template engine} based on its name. The returned instance is not
+     * bound to any template folder and thus should only be used to retrieve engine meta information. For
+     * processing templates, use {@link #getEngine(String, Path)}.
      * @param name
      *            of the {@link TextTemplateEngine template engine}
      * @return the {@link TextTemplateEngine template engine} or {@code null} if no template engine has been
@@ -64,11 +84,53 @@ public class TemplateEngineRegistry {
      */
     public static TextTemplateEngine getEngine(String name) {
 
+        return ProxyFactory.getProxy(getRegisteredEngine(name));
+    }
+
+    /**
+     * Returns the {@link TextTemplateEngine template engine} instance of the given name bound to the given
+     * template folder. The instance will be created on first request and is exclusively used for the given
+     * template folder, i.e. {@link TextTemplateEngine#setTemplateFolder(Path)} must not be called on it.
+     * @param name
+     *            of the {@link TextTemplateEngine template engine}
+     * @param templateFolder
+     *            template folder the engine should retrieve the templates from
+     * @return the {@link TextTemplateEngine template engine} bound to the given template folder
+     */
+    public static TextTemplateEngine getEngine(String name, Path templateFolder) {
+
+        Class<? extends TextTemplateEngine> engineClass = getRegisteredEngine(name).getClass();
+        Cache<Path, TextTemplateEngine> engines = templateFolderEngines.computeIfAbsent(name,
+            key -> CacheBuilder.newBuilder().maximumSize(MAX_TEMPLATE_FOLDER_ENGINES).build());
+        TextTemplateEngine templateEngine;
+        try {
+            templateEngine = engines.get(templateFolder, () -> {
+                TextTemplateEngine engine = engineClass.newInstance();
+                engine.setTemplateFolder(templateFolder);
+                return engine;
+            });
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw new CobiGenRuntimeException(
+                "Could not intantiate TemplateEngine '" + engineClass.getCanonicalName(), e.getCause());
+        }
+
+        return ProxyFactory.getProxy(templateEngine);
+    }
+
+    /**
+     * Returns the registered {@link TextTemplateEngine template engine} of the given name.
+     * @param name
+     *            of the {@link TextTemplateEngine template engine}
+     * @return the registered {@link TextTemplateEngine template engine}
+     * @throws CobiGenRuntimeException
+     *             if no template engine has been registered with the given name
+     */
+    private static TextTemplateEngine getRegisteredEngine(String name) {
+
         TextTemplateEngine templateEngine = registeredEngines.get(name);
         if (templateEngine == null) {
             throw new CobiGenRuntimeException("No template engine with name '" + name + "' registered.");
         }
-
-        return ProxyFactory.getProxy(templateEngine);
+        return templateEngine;
     }
 }
@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.inject.Inject;
 
@@ -14,6 +15,7 @@ import com.devonfw.cobigen.api.InputInterpreter;
 import com.devonfw.cobigen.api.exception.CobiGenRuntimeException;
 import com.devonfw.cobigen.api.exception.InputReaderException;
 import com.devonfw.cobigen.api.exception.InvalidConfigurationException;
+import com.devonfw.cobigen.api.extension.GenerationListener;
 import com.devonfw.cobigen.api.extension.ModelBuilder;
 import com.devonfw.cobigen.api.to.GenerableArtifact;
 import com.devonfw.cobigen.api.to.GenerationReportTo;
@@ -49,6 +51,15 @@ public class CobiGenImpl implements CobiGen {
     @Inject
     private InputResolver inputResolver;
 
+    /** States, whether the incremental generation is enabled */
+    private boolean incrementalGeneration;
+
+    /** Registered {@link GenerationListener}s */
+    private List<GenerationListener> generationListeners = new CopyOnWriteArrayList<>();
+
+    /** Instances of the template logic classes shared across generations */
+    private LogicClassInstances logicClassInstances = new LogicClassInstances();
+
     @Override
     public GenerationReportTo generate(Object input, List<? extends GenerableArtifact> generableArtifacts,
         Path targetRootPath) {
@@ -79,8 +90,32 @@ public class CobiGenImpl implements CobiGen {
         }
         Objects.requireNonNull(generableArtifacts, "List of Artifacts to be generated");
         Objects.requireNonNull(targetRootPath, "targetRootPath");
-        return new GenerationProcessorImpl(configurationHolder, inputResolver).generate(input, generableArtifacts,
-            targetRootPath, forceOverride, logicClasses, rawModel);
+        return new GenerationProcessorImpl(configurationHolder, inputResolver,
+            configurationHolder.getGenerationExecutor(), incrementalGeneration, generationListeners,
+            logicClassInstances).generate(input, generableArtifacts, targetRootPath, forceOverride, logicClasses,
+                rawModel);
+    }
+
+    @Override
+    public GenerationReportTo generate(List<Object> inputs, List<? extends GenerableArtifact> generableArtifacts,
+        Path targetRootPath, boolean forceOverride) {
+        return generate(inputs, generableArtifacts, targetRootPath, forceOverride, null);
+    }
+
+    @Override
+    public GenerationReportTo generate(List<Object> inputs, List<? extends GenerableArtifact> generableArtifacts,
+        Path targetRootPath, boolean forceOverride, List<Class<?>> logicClasses) {
+        Objects.requireNonNull(inputs, "Inputs");
+        Objects.requireNonNull(generableArtifacts, "List of Artifacts to be generated");
+        if (inputs.contains(null) || generableArtifacts.contains(null)) {
+            throw new CobiGenRuntimeException(
+                "A collection of inputs or artifacts to be generated has been passed containing null values. "
+                    + "Aborting generation, as this has probably not been intended.");
+        }
+        Objects.requireNonNull(targetRootPath, "targetRootPath");
+        return new GenerationProcessorImpl(configurationHolder, inputResolver,
+            configurationHolder.getGenerationExecutor(), incrementalGeneration, generationListeners,
+            logicClassInstances).generate(inputs, generableArtifacts, targetRootPath, forceOverride, logicClasses);
     }
 
     @Override
@@ -106,8 +141,26 @@ public class CobiGenImpl implements CobiGen {
         Objects.requireNonNull(input, "Input");
         Objects.requireNonNull(generableArtifact, "Artifact to be generated");
         Objects.requireNonNull(targetRootPath, "targetRootPath");
-        return new GenerationProcessorImpl(configurationHolder, inputResolver).generate(input,
-            Lists.newArrayList(generableArtifact), targetRootPath, forceOverride, logicClasses, rawModel);
+        return new GenerationProcessorImpl(configurationHolder, inputResolver,
+            configurationHolder.getGenerationExecutor(), incrementalGeneration, generationListeners,
+            logicClassInstances).generate(input, Lists.newArrayList(generableArtifact), targetRootPath,
+                forceOverride, logicClasses, rawModel);
+    }
+
+    @Override
+    public void setIncrementalGeneration(boolean incremental) {
+        incrementalGeneration = incremental;
+    }
+
+    @Override
+    public void addGenerationListener(GenerationListener listener) {
+        Objects.requireNonNull(listener, "listener");
+        generationListeners.add(listener);
+    }
+
+    @Override
+    public void removeGenerationListener(GenerationListener listener) {
+        generationListeners.remove(listener);
     }
 
     @Override
@@ -116,7 +169,7 @@ public class CobiGenImpl implements CobiGen {
         List<String> matchingTriggerIds = getMatchingTriggerIds(input);
         // Just take the first trigger as all trigger should have the same input reader. See javadoc.
         Trigger trigger = configurationHolder.readContextConfiguration().getTrigger(matchingTriggerIds.get(0));
-        return new ModelBuilderImpl(input, trigger);
+        return new ModelBuilderImpl(input, trigger, configurationHolder.getContextVariableCache());
     }
 
     @Override
@@ -126,7 +179,7 @@ public class CobiGenImpl implements CobiGen {
         if (trigger == null) {
             throw new IllegalArgumentException("Unknown Trigger with id '" + triggerId + "'.");
         }
-        return new ModelBuilderImpl(generatorInput, trigger);
+        return new ModelBuilderImpl(generatorInput, trigger, configurationHolder.getContextVariableCache());
     }
 
     @Override
@@ -100,11 +100,12 @@ public class ConfigurationInterpreterImpl implements ConfigurationInterpreter {
         InputValidator.validateTrigger(trigger);
 
         TriggerInterpreter triggerInterpreter = PluginRegistry.getTriggerInterpreter(trigger.getType());
-        Variables variables = new ContextVariableResolver(input, trigger).resolveVariables(triggerInterpreter);
+        Variables variables = new ContextVariableResolver(input, trigger, configurationHolder.getContextVariableCache())
+            .resolveVariables(triggerInterpreter);
         Template templateEty = configurationHolder.readTemplatesConfiguration(trigger).getTemplate(template.getId());
         try {
             String resolvedDestinationPath =
-                new PathExpressionResolver(variables).evaluateExpressions(templateEty.getUnresolvedTargetPath());
+                new PathExpressionResolver(variables).evaluateExpressions(templateEty.getTargetPathExpression());
             return targetRootPath.resolve(resolvedDestinationPath).normalize();
         } catch (UnknownContextVariableException e) {
             throw new CobiGenRuntimeException("Could not resolve path '" + templateEty.getUnresolvedTargetPath()
@@ -0,0 +1,225 @@
+package com.devonfw.cobigen.impl.generator;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.cobigen.api.exception.CobiGenRuntimeException;
+import com.devonfw.cobigen.api.extension.InputReader;
+import com.google.common.collect.Maps;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+
+/**
+ * Manifest of the fingerprints of all files generated to a target root path. It enables the incremental
+ * generation by remembering for each target file the fingerprint of everything the file has been generated
+ * from as well as the hash of the generated contents. A target file is considered up to date, if its
+ * fingerprint did not change and its contents still match the contents generated last time.
+ */
+class GenerationManifest {
+
+    /** Logger instance */
+    private static final Logger LOG = LoggerFactory.getLogger(GenerationManifest.class);
+
+    /** Name of the manifest file located in the target root path */
+    public static final String MANIFEST_FILE_NAME = ".cobigen-manifest";
+
+    /** Separator of the columns of a manifest entry */
+    private static final String SEPARATOR = "\t";
+
+    /** Manifest file */
+    private final Path manifestFile;
+
+    /** Target root path the target paths are relative to */
+    private final Path targetRootPath;
+
+    /** Manifest entries (fingerprint and output hash) mapped by their relative target path */
+    private final Map<String, String[]> entries = Collections.synchronizedMap(new TreeMap<String, String[]>());
+
+    /**
+     * Creates a new manifest for the given target root path and loads the existing manifest entries.
+     * @param targetRootPath
+     *            target root path of the generation
+     */
+    GenerationManifest(Path targetRootPath) {
+        this.targetRootPath = targetRootPath;
+        manifestFile = targetRootPath.resolve(MANIFEST_FILE_NAME);
+        if (Files.exists(manifestFile)) {
+            try (BufferedReader reader = Files.newBufferedReader(manifestFile, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] columns = line.split(SEPARATOR);
+                    if (columns.length == 3) {
+                        entries.put(columns[0], new String[] { columns[1], columns[2] });
+                    }
+                }
+            } catch (IOException e) {
+                LOG.warn("Could not read generation manifest {}. Generating all files.", manifestFile, e);
+                entries.clear();
+            }
+        }
+    }
+
+    /**
+     * Checks whether the given target file is up to date, i.e. it has been generated with the same fingerprint
+     * before and its contents did not change afterwards.
+     * @param targetFile
+     *            target file to be checked
+     * @param fingerprint
+     *            current fingerprint of the target file
+     * @return {@code true} if the target file does not need to be generated again, {@code false} otherwise
+     */
+    boolean isUpToDate(Path targetFile, String fingerprint) {
+        String[] entry = entries.get(getKey(targetFile));
+        if (entry == null || !entry[0].equals(fingerprint) || !Files.exists(targetFile)) {
+            return false;
+        }
+        return entry[1].equals(hashContents(targetFile));
+    }
+
+    /**
+     * Records the given fingerprint and the hash of the current contents of the given target file.
+     * @param targetFile
+     *            generated target file
+     * @param fingerprint
+     *            fingerprint the target file has been generated with
+     */
+    void update(Path targetFile, String fingerprint) {
+        entries.put(getKey(targetFile), new String[] { fingerprint, hashContents(targetFile) });
+    }
+
+    /**
+     * Removes the entry of the given target file, e.g. as no fingerprint could be calculated for it.
+     * @param targetFile
+     *            generated target file
+     */
+    void remove(Path targetFile) {
+        entries.remove(getKey(targetFile));
+    }
+
+    /**
+     * Writes the manifest to the target root path.
+     */
+    void save() {
+        try (BufferedWriter writer = Files.newBufferedWriter(manifestFile, StandardCharsets.UTF_8)) {
+            synchronized (entries) {
+                for (Map.Entry<String, String[]> entry : entries.entrySet()) {
+                    writer.write(entry.getKey() + SEPARATOR + entry.getValue()[0] + SEPARATOR + entry.getValue()[1]);
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new CobiGenRuntimeException("Could not write generation manifest " + manifestFile, e);
+        }
+    }
+
+    /**
+     * Returns the manifest key of the given target file.
+     * @param targetFile
+     *            target file
+     * @return the path of the target file relative to the target root path
+     */
+    private String getKey(Path targetFile) {
+        return targetRootPath.relativize(targetFile).toString().replace('\\', '/');
+    }
+
+    /**
+     * Calculates the hash of the contents of the given file.
+     * @param file
+     *            file to be hashed
+     * @return the hash of the file contents
+     */
+    static String hashContents(Path file) {
+        try {
+            return com.google.common.io.Files.hash(file.toFile(), Hashing.sha256()).toString();
+        } catch (IOException e) {
+            throw new CobiGenRuntimeException("Could not read file " + file + " to calculate its hash.", e);
+        }
+    }
+
+    /**
+     * Calculates a hash of the given folder, i.e. of the relative paths and the contents of all files contained
+     * in the folder.
+     * @param folder
+     *            folder to be hashed
+     * @return the hash of the folder
+     */
+    static String hashFolder(Path folder) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        try (Stream<Path> files = Files.walk(folder)) {
+            Map<String, Path> sortedFiles = Maps.newTreeMap();
+            files.filter(Files::isRegularFile).forEach(f -> sortedFiles.put(folder.relativize(f).toString(), f));
+            for (Map.Entry<String, Path> file : sortedFiles.entrySet()) {
+                hasher.putString(file.getKey(), StandardCharsets.UTF_8).putByte((byte) 0)
+                    .putString(hashContents(file.getValue()), StandardCharsets.UTF_8);
+            }
+        } catch (IOException e) {
+            throw new CobiGenRuntimeException("Could not read folder " + folder + " to calculate its hash.", e);
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Calculates a hash of the bytecode of the given class.
+     * @param clazz
+     *            class to be hashed
+     * @return the hash of the class file or {@code null} if the class file is not accessible by the class loader
+     *         of the class
+     */
+    static String hashClass(Class<?> clazz) {
+        ClassLoader classLoader = clazz.getClassLoader();
+        if (classLoader == null) {
+            classLoader = ClassLoader.getSystemClassLoader();
+        }
+        try (InputStream in = classLoader.getResourceAsStream(clazz.getName().replace('.', '/') + ".class")) {
+            if (in == null) {
+                return null;
+            }
+            return Hashing.sha256().hashBytes(ByteStreams.toByteArray(in)).toString();
+        } catch (IOException e) {
+            LOG.debug("Could not read the class file of {}.", clazz, e);
+            return null;
+        }
+    }
+
+    /**
+     * Calculates the fingerprint of the source of the given input object. Input files will be hashed directly,
+     * any other input will be fingerprinted by the given {@link InputReader}.
+     * @param input
+     *            input object to calculate the fingerprint for
+     * @param inputReader
+     *            {@link InputReader} of the input
+     * @return the fingerprint of the input or {@code null} if no fingerprint can be calculated
+     * @see InputReader#getInputFingerprint(Object)
+     */
+    static String hashInput(Object input, InputReader inputReader) {
+        Path inputFile = null;
+        if (input instanceof Path) {
+            inputFile = (Path) input;
+        } else if (input instanceof File) {
+            inputFile = ((File) input).toPath();
+        }
+        if (inputFile != null && Files.isRegularFile(inputFile)) {
+            return hashContents(inputFile);
+        }
+        try {
+            return inputReader.getInputFingerprint(input);
+        } catch (RuntimeException e) {
+            LOG.debug("Could not calculate the fingerprint of input {}.", input, e);
+            return null;
+        }
+    }
+}
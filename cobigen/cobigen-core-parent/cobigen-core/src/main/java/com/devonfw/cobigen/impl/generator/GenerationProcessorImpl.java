@@ -3,7 +3,11 @@ package com.devonfw.cobigen.impl.generator;
 import java.io.File;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -11,11 +15,20 @@ import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Formatter;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
@@ -27,14 +40,18 @@ import com.devonfw.cobigen.api.exception.CobiGenRuntimeException;
 import com.devonfw.cobigen.api.exception.InvalidConfigurationException;
 import com.devonfw.cobigen.api.exception.MergeException;
 import com.devonfw.cobigen.api.exception.PluginNotAvailableException;
+import com.devonfw.cobigen.api.extension.GenerationListener;
 import com.devonfw.cobigen.api.extension.InputReader;
 import com.devonfw.cobigen.api.extension.Merger;
 import com.devonfw.cobigen.api.extension.TextTemplateEngine;
 import com.devonfw.cobigen.api.extension.TriggerInterpreter;
 import com.devonfw.cobigen.api.to.GenerableArtifact;
+import com.devonfw.cobigen.api.to.GenerationMetricsTo;
+import com.devonfw.cobigen.api.to.GenerationMetricsTo.Phase;
 import com.devonfw.cobigen.api.to.GenerationReportTo;
 import com.devonfw.cobigen.api.to.IncrementTo;
 import com.devonfw.cobigen.api.to.TemplateTo;
+import com.devonfw.cobigen.impl.aop.CachedInterceptor;
 import com.devonfw.cobigen.impl.config.ConfigurationHolder;
 import com.devonfw.cobigen.impl.config.TemplatesConfiguration;
 import com.devonfw.cobigen.impl.config.entity.Template;
@@ -48,8 +65,14 @@ import com.devonfw.cobigen.impl.extension.TemplateEngineRegistry;
 import com.devonfw.cobigen.impl.generator.api.GenerationProcessor;
 import com.devonfw.cobigen.impl.generator.api.InputResolver;
 import com.devonfw.cobigen.impl.model.ModelBuilderImpl;
+import com.devonfw.cobigen.impl.model.OverlayModelMap;
 import com.devonfw.cobigen.impl.validator.InputValidator;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 
 /**
  * Generation processor. Caches calculations and thus should be newly created on each request.
@@ -65,15 +88,30 @@ public class GenerationProcessorImpl implements GenerationProcessor {
     /** States, whether existing contents should be overwritten by generation */
     private boolean forceOverride;
 
-    /** Input to process generation for */
-    private Object input;
+    /** Inputs to process generation for */
+    private List<Object> inputs;
 
     /** Singletons of the Java classes to be served by the model implementing template logic */
     private Map<String, Object> logicClassesModel;
 
+    /** Java classes implementing template logic of this generation */
+    private List<Class<?>> logicClasses;
+
+    /**
+     * Java classes implementing template logic, which are instantiated for each {@link GenerationUnit}, as they
+     * keep state and the units are processed in parallel
+     */
+    private List<Class<?>> unitScopedLogicClasses = Lists.newArrayList();
+
     /** Externally provided model to be used for generation */
     private Map<String, Object> rawModel;
 
+    /**
+     * Input objects resolved from each generation input mapped by the ID of the trigger they have been
+     * resolved for. The resolved inputs are shared by all templates of the trigger to build their models once.
+     */
+    private Map<String, List<List<ResolvedInput>>> resolvedInputsByTrigger;
+
     /** Report to be returned after generation processing */
     private GenerationReportTo generationReport;
 
@@ -83,9 +121,39 @@ public class GenerationProcessorImpl implements GenerationProcessor {
     /** Target root path to resolve dependent templates' destination path with */
     private Path targetRootPath;
 
+    /** {@link ConfigurationConstants#COBIGEN_PROPERTIES} of the target root path read once per generation */
+    private Properties targetCobiGenProperties;
+
     /** {@link InputResolver} instance */
     private InputResolver inputResolver;
 
+    /** {@link Executor} to process the generation units with or {@code null} to process them sequentially */
+    private Executor executor;
+
+    /** States, whether target files being up to date should be skipped */
+    private boolean incremental;
+
+    /** Manifest of the previous generations or {@code null} if not generating incrementally */
+    private GenerationManifest manifest;
+
+    /** Hashes of the template folders used for the incremental generation */
+    private Map<Path, String> templateFolderHashes = new ConcurrentHashMap<>();
+
+    /**
+     * Hash of the bytecode of the logic classes used for the incremental generation or {@code null} if the
+     * bytecode of any logic class is not accessible
+     */
+    private String logicClassesHash;
+
+    /** {@link GenerationListener}s to be notified about the progress of the generation */
+    private List<GenerationListener> listeners;
+
+    /** Metrics of the {@link #generationReport} */
+    private GenerationMetricsTo metrics;
+
+    /** {@link LogicClassInstances} to retrieve the instances of the logic classes from */
+    private LogicClassInstances logicClassInstances;
+
     /**
      * Creates a new generation processor. This instance should be used once per generate call as of the
      * internal state cannot be reused.
@@ -93,47 +161,88 @@ public class GenerationProcessorImpl implements GenerationProcessor {
      *            {@link ConfigurationHolder} instance
      * @param inputResolver
      *            {@link InputResolver} instance
+     * @param executor
+     *            {@link Executor} to process the generation of independent target files in parallel or
+     *            {@code null} to process all templates sequentially
+     * @param incremental
+     *            {@code true} to skip target files, which are up to date with respect to the
+     *            {@link GenerationManifest}, {@code false} to generate all target files
+     * @param listeners
+     *            {@link GenerationListener}s to be notified about the progress of the generation
+     * @param logicClassInstances
+     *            {@link LogicClassInstances} caching the instances of the logic classes
      */
-    public GenerationProcessorImpl(ConfigurationHolder configurationHolder, InputResolver inputResolver) {
+    public GenerationProcessorImpl(ConfigurationHolder configurationHolder, InputResolver inputResolver,
+        Executor executor, boolean incremental, List<GenerationListener> listeners,
+        LogicClassInstances logicClassInstances) {
         this.configurationHolder = configurationHolder;
         this.inputResolver = inputResolver;
-    }
-
-    /**
-     * Loads the logic classes passed to assure a singleton instance for the complete generation. Mapping from
-     * simple type to instance.
-     * @param logicClasses
-     *            logic classes to instantiate.
-     */
-    private void loadLogicClasses(List<Class<?>> logicClasses) {
-        logicClassesModel = Maps.newHashMap();
-        for (Class<?> logicClass : logicClasses) {
-            try {
-                if (logicClass.isEnum()) {
-                    logicClassesModel.put(logicClass.getSimpleName(), logicClass.getEnumConstants());
-                } else {
-                    logicClassesModel.put(logicClass.getSimpleName(), logicClass.newInstance());
-                }
-            } catch (InstantiationException | IllegalAccessException e) {
-                LOG.warn(
-                    "The Java class '{}' could not been instantiated for template processing and thus will be missing in the model.",
-                    logicClass.getCanonicalName());
-            }
-        }
+        this.executor = executor;
+        this.incremental = incremental;
+        this.listeners = listeners;
+        this.logicClassInstances = logicClassInstances;
     }
 
     @Override
     public GenerationReportTo generate(Object input, List<? extends GenerableArtifact> generableArtifacts,
         Path targetRootPath, boolean forceOverride, List<Class<?>> logicClasses, Map<String, Object> rawModel) {
         InputValidator.validateInputsUnequalNull(input, generableArtifacts);
+        return generate(Lists.newArrayList(input), generableArtifacts, targetRootPath, forceOverride, logicClasses,
+            rawModel);
+    }
+
+    @Override
+    public GenerationReportTo generate(List<Object> inputs, List<? extends GenerableArtifact> generableArtifacts,
+        Path targetRootPath, boolean forceOverride, List<Class<?>> logicClasses) {
+        InputValidator.validateInputsUnequalNull(inputs, generableArtifacts);
+        InputValidator.validateInputsUnequalNull(inputs.toArray());
+        return generate(inputs, generableArtifacts, targetRootPath, forceOverride, logicClasses, null);
+    }
+
+    /**
+     * Generates code by processing the {@link List} of {@link GenerableArtifact}s for each of the given inputs.
+     * @param inputs
+     *            generator input objects
+     * @param generableArtifacts
+     *            a {@link List} of artifacts to be generated for each input
+     * @param targetRootPath
+     *            target root path to generate to
+     * @param forceOverride
+     *            if <code>true</code> and the destination path is already existent, the contents will be
+     *            overwritten by the generated ones iff there is no merge strategy defined by the templates
+     *            configuration.
+     * @param logicClasses
+     *            a {@link List} of java class files, which will be included as accessible beans in the
+     *            template model.
+     * @param rawModel
+     *            externally adapted model to be used for generation or {@code null}
+     * @return {@link GenerationReportTo the GenerationReport}
+     */
+    private GenerationReportTo generate(List<Object> inputs, List<? extends GenerableArtifact> generableArtifacts,
+        Path targetRootPath, boolean forceOverride, List<Class<?>> logicClasses, Map<String, Object> rawModel) {
+        long start = System.nanoTime();
 
         // initialize
         this.forceOverride = forceOverride;
-        this.input = input;
+        this.inputs = inputs;
         if (logicClasses != null) {
-            loadLogicClasses(logicClasses);
+            this.logicClasses = logicClasses;
+            List<Class<?>> sharedLogicClasses = logicClasses;
+            if (executor != null) {
+                // stateful logic classes must not be used by multiple threads
+                sharedLogicClasses = Lists.newArrayList();
+                for (Class<?> logicClass : logicClasses) {
+                    if (logicClassInstances.isStateless(logicClass)) {
+                        sharedLogicClasses.add(logicClass);
+                    } else {
+                        unitScopedLogicClasses.add(logicClass);
+                    }
+                }
+            }
+            logicClassesModel = logicClassInstances.getModel(sharedLogicClasses);
         }
         this.rawModel = rawModel;
+        resolvedInputsByTrigger = Maps.newHashMap();
         try {
             tmpTargetRootPath = Files.createTempDirectory("cobigen-");
             LOG.info("Temporary working directory: {}", tmpTargetRootPath);
@@ -141,42 +250,65 @@ public class GenerationProcessorImpl implements GenerationProcessor {
             throw new CobiGenRuntimeException("Could not create temporary folder.", e);
         }
         this.targetRootPath = targetRootPath;
+        targetCobiGenProperties = configurationHolder.getPropertiesReader().load(targetRootPath);
+        if (incremental) {
+            manifest = new GenerationManifest(targetRootPath);
+            logicClassesHash = hashLogicClasses();
+        }
         generationReport = new GenerationReportTo();
+        metrics = generationReport.getMetrics();
 
+        Map<String, Long> cacheStatistics = collectCoreCacheStatistics();
+
+        long phaseStart = System.nanoTime();
         Collection<TemplateTo> templatesToBeGenerated = flatten(generableArtifacts);
 
-        // generate
-        Map<File, File> tmpToOrigFileTrace = Maps.newHashMap();
+        // collect the units of work, i.e. each template for each of its resolved inputs of each input
+        List<GenerationUnit> units = Lists.newArrayList();
         for (TemplateTo template : templatesToBeGenerated) {
             try {
-                Trigger trigger = configurationHolder.readContextConfiguration().getTrigger(template.getTriggerId());
-                TriggerInterpreter triggerInterpreter = PluginRegistry.getTriggerInterpreter(trigger.getType());
-                InputValidator.validateTriggerInterpreter(triggerInterpreter, trigger);
-                tmpToOrigFileTrace.putAll(generate(template, triggerInterpreter));
-            } catch (CobiGenRuntimeException e) {
-                generationReport.setTemporaryWorkingDirectory(tmpTargetRootPath);
-                generationReport.addError(e);
-                LOG.error("An internal error occurred during generation.", e);
+                units.addAll(createGenerationUnits(template));
             } catch (Throwable e) {
-                generationReport.setTemporaryWorkingDirectory(tmpTargetRootPath);
-                generationReport.addError(new CobiGenRuntimeException(
-                    "Something unexpected happened" + ((e.getMessage() != null) ? ": " + e.getMessage() : "!"), e));
-                LOG.error("An unknown exception occurred during generation.", e);
+                reportError(e);
             }
         }
+        // process the inputs one after another to preserve the order of merges of sequential generations
+        units.sort(Comparator.comparingInt(unit -> unit.inputIndex));
+        addPhaseDuration(Phase.INPUT_RESOLUTION, phaseStart);
+        cacheStatistics.putAll(collectPluginCacheStatistics(units));
+
+        // generate
+        generate(units);
+
+        // collect results in a deterministic order
+        Map<File, File> tmpToOrigFileTrace = Maps.newLinkedHashMap();
+        for (GenerationUnit unit : units) {
+            if (unit.error != null) {
+                reportError(unit.error);
+            } else if (unit.skipped) {
+                generationReport.addSkippedFile(unit.originalFile.toPath());
+            } else {
+                tmpToOrigFileTrace.put(unit.tmpOriginalFile, unit.originalFile);
+            }
+        }
+        if (manifest != null) {
+            metrics.incrementCounter(GenerationMetricsTo.COUNTER_SKIPPED_FILES,
+                generationReport.getSkippedFiles().size());
+        }
 
         if (generationReport.isSuccessful()) {
+            phaseStart = System.nanoTime();
             try {
-                for (Entry<File, File> tmpToOrigFile : tmpToOrigFileTrace.entrySet()) {
-                    Files.createDirectories(tmpToOrigFile.getValue().toPath().getParent());
-                    Files.copy(tmpToOrigFile.getKey().toPath(), tmpToOrigFile.getValue().toPath(),
-                        StandardCopyOption.REPLACE_EXISTING);
-                    generationReport.addGeneratedFile(tmpToOrigFile.getValue().toPath());
+                commitGeneratedFiles(tmpToOrigFileTrace);
+                if (manifest != null) {
+                    updateManifest(units);
                 }
                 deleteTemporaryFiles();
             } catch (IOException e) {
                 generationReport.setTemporaryWorkingDirectory(tmpTargetRootPath);
                 throw new CobiGenRuntimeException("Could not copy generated files to target location!", e);
+            } finally {
+                addPhaseDuration(Phase.COMMIT, phaseStart);
             }
         } else {
             generationReport.setTemporaryWorkingDirectory(tmpTargetRootPath);
@@ -184,9 +316,226 @@ public class GenerationProcessorImpl implements GenerationProcessor {
                 + tmpTargetRootPath.toUri());
         }
 
+        recordCacheStatistics(cacheStatistics, units);
+        metrics.addTotalDuration(System.nanoTime() - start);
+        LOG.debug("Generation metrics: {}", metrics);
+        for (GenerationListener listener : listeners) {
+            try {
+                listener.generationFinished(generationReport);
+            } catch (RuntimeException e) {
+                LOG.warn("Generation listener {} failed.", listener, e);
+            }
+        }
         return generationReport;
     }
 
+    /**
+     * Collects the current statistics of the caches of the core.
+     * @return a {@link Map} from counter name to the accumulated value
+     */
+    private Map<String, Long> collectCoreCacheStatistics() {
+        Map<String, Long> statistics = Maps.newHashMap();
+        CacheStats contextVariables = configurationHolder.getContextVariableCache().getStatistics();
+        statistics.put(GenerationMetricsTo.COUNTER_CONTEXT_VARIABLE_CACHE_HITS, contextVariables.hitCount());
+        statistics.put(GenerationMetricsTo.COUNTER_CONTEXT_VARIABLE_CACHE_MISSES, contextVariables.missCount());
+        statistics.put(GenerationMetricsTo.COUNTER_INVOCATION_CACHE_HITS, CachedInterceptor.getTotalHitCount());
+        statistics.put(GenerationMetricsTo.COUNTER_INVOCATION_CACHE_MISSES, CachedInterceptor.getTotalMissCount());
+        return statistics;
+    }
+
+    /**
+     * Collects the current cache statistics of the template engines and input readers processing the given
+     * units. Each template engine and input reader is only considered once.
+     * @param units
+     *            {@link GenerationUnit}s of the generation
+     * @return a {@link Map} from counter name to the accumulated value
+     */
+    private Map<String, Long> collectPluginCacheStatistics(List<GenerationUnit> units) {
+        Map<String, Long> statistics = Maps.newHashMap();
+        Set<Object> providers = Sets.newIdentityHashSet();
+        for (GenerationUnit unit : units) {
+            if (providers.add(unit.templateEngine)) {
+                addCacheStatistics(statistics, unit.templateEngine.getCacheStatistics());
+            }
+            InputReader inputReader = unit.triggerInterpreter.getInputReader();
+            if (providers.add(inputReader)) {
+                addCacheStatistics(statistics, inputReader.getCacheStatistics());
+            }
+        }
+        return statistics;
+    }
+
+    /**
+     * Adds the given cache statistics to the given accumulated statistics.
+     * @param statistics
+     *            accumulated statistics to add the values to
+     * @param values
+     *            statistics to be added, might be {@code null}
+     */
+    private void addCacheStatistics(Map<String, Long> statistics, Map<String, Long> values) {
+        if (values != null) {
+            for (Map.Entry<String, Long> value : values.entrySet()) {
+                statistics.merge(value.getKey(), value.getValue(), Long::sum);
+            }
+        }
+    }
+
+    /**
+     * Records the increase of all cache statistics since the given statistics have been collected as counters
+     * of the {@link #metrics}. As the caches are shared by all generations of the process, concurrently running
+     * generations are reflected by the counters as well.
+     * @param previousStatistics
+     *            statistics collected at the start of the generation
+     * @param units
+     *            {@link GenerationUnit}s of the generation
+     */
+    private void recordCacheStatistics(Map<String, Long> previousStatistics, List<GenerationUnit> units) {
+        Map<String, Long> statistics = collectCoreCacheStatistics();
+        statistics.putAll(collectPluginCacheStatistics(units));
+        for (Map.Entry<String, Long> value : statistics.entrySet()) {
+            Long previousValue = previousStatistics.get(value.getKey());
+            metrics.incrementCounter(value.getKey(),
+                value.getValue() - (previousValue != null ? previousValue : 0));
+        }
+    }
+
+    /**
+     * Adds the time elapsed since the given start to the duration of the given phase.
+     * @param phase
+     *            {@link Phase} the time has been spent in
+     * @param start
+     *            start of the measurement as returned by {@link System#nanoTime()}
+     */
+    private void addPhaseDuration(Phase phase, long start) {
+        metrics.addPhaseDuration(phase, System.nanoTime() - start);
+    }
+
+    /**
+     * Records the fingerprints of all generated target files in the {@link #manifest} and saves it.
+     * @param units
+     *            all {@link GenerationUnit}s of the generation
+     */
+    private void updateManifest(List<GenerationUnit> units) {
+        Map<File, String> fingerprints = Maps.newLinkedHashMap();
+        for (GenerationUnit unit : units) {
+            if (!unit.skipped) {
+                fingerprints.put(unit.originalFile, unit.fingerprint);
+            }
+        }
+        for (Entry<File, String> fingerprint : fingerprints.entrySet()) {
+            if (fingerprint.getValue() != null) {
+                manifest.update(fingerprint.getKey().toPath(), fingerprint.getValue());
+            } else {
+                manifest.remove(fingerprint.getKey().toPath());
+            }
+        }
+        manifest.save();
+    }
+
+    /**
+     * Transfers the generated files from the temporary working directory to their target location. Files will
+     * be moved atomically if possible and copied otherwise, e.g. if the temporary working directory is located
+     * on another file system. Target files, which already have the same contents, will not be touched at all.
+     * If an {@link #executor} is configured, the target directories as well as the files will be processed in
+     * parallel.
+     * @param tmpToOrigFileTrace
+     *            mapping of temporary files to their target files
+     * @throws IOException
+     *             if any file could not be transferred
+     */
+    private void commitGeneratedFiles(Map<File, File> tmpToOrigFileTrace) throws IOException {
+
+        Set<Path> targetDirectories = Sets.newHashSet();
+        for (File origFile : tmpToOrigFileTrace.values()) {
+            targetDirectories.add(origFile.toPath().getParent());
+        }
+        forEach(targetDirectories, dir -> Files.createDirectories(dir));
+
+        AtomicBoolean atomicMoveSupported = new AtomicBoolean(true);
+        forEach(tmpToOrigFileTrace.entrySet(), tmpToOrigFile -> {
+            Path tmpFile = tmpToOrigFile.getKey().toPath();
+            Path origFile = tmpToOrigFile.getValue().toPath();
+            if (Files.exists(origFile) && FileUtils.contentEquals(tmpFile.toFile(), origFile.toFile())) {
+                LOG.debug("Skip writing unchanged file {}", origFile);
+                metrics.incrementCounter(GenerationMetricsTo.COUNTER_UNCHANGED_FILES, 1);
+                return;
+            }
+            long size = Files.size(tmpFile);
+            if (atomicMoveSupported.get()) {
+                try {
+                    Files.move(tmpFile, origFile, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    LOG.debug("Atomic move not supported from {} to {}, falling back to copy.", tmpFile, origFile);
+                    atomicMoveSupported.set(false);
+                    Files.copy(tmpFile, origFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } else {
+                Files.copy(tmpFile, origFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            metrics.addBytesWritten(size);
+        });
+
+        for (File origFile : tmpToOrigFileTrace.values()) {
+            generationReport.addGeneratedFile(origFile.toPath());
+        }
+    }
+
+    /**
+     * Performs the given I/O operation for each of the given elements. If an {@link #executor} is configured,
+     * the elements will be processed in parallel.
+     * @param <T>
+     *            type of the elements
+     * @param elements
+     *            elements to be processed
+     * @param operation
+     *            I/O operation to be performed for each element
+     * @throws IOException
+     *             the first exception thrown by any operation
+     */
+    private <T> void forEach(Collection<T> elements, IOConsumer<T> operation) throws IOException {
+        if (executor == null) {
+            for (T element : elements) {
+                operation.accept(element);
+            }
+        } else {
+            List<CompletableFuture<Void>> futures = Lists.newArrayList();
+            for (T element : elements) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        operation.accept(element);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, executor));
+            }
+            try {
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()])).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof UncheckedIOException) {
+                    throw ((UncheckedIOException) e.getCause()).getCause();
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Adds the given error to the generation report.
+     * @param e
+     *            error occurred during generation
+     */
+    private void reportError(Throwable e) {
+        generationReport.setTemporaryWorkingDirectory(tmpTargetRootPath);
+        if (e instanceof CobiGenRuntimeException) {
+            generationReport.addError(e);
+            LOG.error("An internal error occurred during generation.", e);
+        } else {
+            generationReport.addError(new CobiGenRuntimeException(
+                "Something unexpected happened" + ((e.getMessage() != null) ? ": " + e.getMessage() : "!"), e));
+            LOG.error("An unknown exception occurred during generation.", e);
+        }
+    }
+
     /**
      * Delete the temporary files in {@link #tmpTargetRootPath}.
      */
@@ -260,131 +609,359 @@ public class GenerationProcessorImpl implements GenerationProcessor {
     }
 
     /**
-     * Generates code for the given input with the given template and the given {@link TriggerInterpreter} to
-     * the destination specified by the templates configuration.
+     * Creates the {@link GenerationUnit}s for the given template, i.e. one unit for each input object resolved
+     * from each generation input. The configuration of the template is only looked up once for all inputs and
+     * the input objects are only resolved once per trigger.
      *
      * @param template
      *            to be processed for generation
-     * @param triggerInterpreter
-     *            {@link TriggerInterpreter} to be used for reading the input and creating the model
      * @throws InvalidConfigurationException
      *             if the inputs do not fit to the configuration or there are some configuration failures
-     * @return the mapping of temporary generated files to their original target destination to eventually
-     *         finalizing the generation process
+     * @return the {@link GenerationUnit}s in the order of the generation inputs and their resolved input
+     *         objects
      */
-    private Map<File, File> generate(TemplateTo template, TriggerInterpreter triggerInterpreter) {
+    private List<GenerationUnit> createGenerationUnits(TemplateTo template) {
 
         Trigger trigger = configurationHolder.readContextConfiguration().getTrigger(template.getTriggerId());
+        TriggerInterpreter triggerInterpreter = PluginRegistry.getTriggerInterpreter(trigger.getType());
+        InputValidator.validateTriggerInterpreter(triggerInterpreter, trigger);
 
         InputReader inputReader = triggerInterpreter.getInputReader();
-        if (!inputReader.isValidInput(input)) {
-            throw new CobiGenRuntimeException("An invalid input of type " + input.getClass() + " has been passed to "
-                + inputReader.getClass() + " (derived from trigger '" + trigger.getId() + "')");
+        for (Object input : inputs) {
+            if (!inputReader.isValidInput(input)) {
+                throw new CobiGenRuntimeException("An invalid input of type " + input.getClass()
+                    + " has been passed to " + inputReader.getClass() + " (derived from trigger '" + trigger.getId()
+                    + "')");
+            }
         }
 
-        List<Object> inputObjects = inputResolver.resolveContainerElements(input, trigger);
         TemplatesConfiguration tConfig = configurationHolder.readTemplatesConfiguration(trigger);
-        String templateEngineName = tConfig.getTemplateEngine();
-        TextTemplateEngine templateEngine = TemplateEngineRegistry.getEngine(templateEngineName);
-
-        templateEngine.setTemplateFolder(
-            configurationHolder.readContextConfiguration().getConfigurationPath().resolve(trigger.getTemplateFolder()));
+        Path templateFolder =
+            configurationHolder.readContextConfiguration().getConfigurationPath().resolve(trigger.getTemplateFolder());
+        TextTemplateEngine templateEngine =
+            TemplateEngineRegistry.getEngine(tConfig.getTemplateEngine(), templateFolder);
 
         Template templateEty = tConfig.getTemplate(template.getId());
         if (templateEty == null) {
             throw new UnknownTemplateException(template.getId());
         }
 
-        Map<File, File> tmpToOrigFileTrace = Maps.newHashMap();
-        for (Object generatorInput : inputObjects) {
+        List<List<ResolvedInput>> resolvedInputs = resolvedInputsByTrigger.get(trigger.getId());
+        if (resolvedInputs == null) {
+            resolvedInputs = Lists.newArrayList();
+            for (Object input : inputs) {
+                List<ResolvedInput> resolvedInputsOfInput = Lists.newArrayList();
+                for (Object generatorInput : inputResolver.resolveContainerElements(input, trigger)) {
+                    resolvedInputsOfInput.add(new ResolvedInput(generatorInput));
+                }
+                resolvedInputs.add(resolvedInputsOfInput);
+            }
+            resolvedInputsByTrigger.put(trigger.getId(), resolvedInputs);
+        }
 
-            Map<String, Object> model = buildModel(triggerInterpreter, trigger, generatorInput, templateEty);
+        List<GenerationUnit> units = Lists.newArrayList();
+        for (int inputIndex = 0; inputIndex < inputs.size(); inputIndex++) {
+            for (ResolvedInput resolvedInput : resolvedInputs.get(inputIndex)) {
+                GenerationUnit unit = new GenerationUnit();
+                unit.template = template;
+                unit.templateEty = templateEty;
+                unit.trigger = trigger;
+                unit.triggerInterpreter = triggerInterpreter;
+                unit.templateEngine = templateEngine;
+                unit.templateFolder = templateFolder;
+                unit.resolvedInput = resolvedInput;
+                unit.generatorInput = resolvedInput.generatorInput;
+                unit.inputIndex = inputIndex;
+                units.add(unit);
+            }
+        }
+        return units;
+    }
 
-            String targetCharset = templateEty.getTargetCharset();
+    /**
+     * Processes the given {@link GenerationUnit}s. If an {@link #executor} is configured, all units targeting
+     * the same file will be processed sequentially in their given order, whereas units targeting different files
+     * will be processed in parallel.
+     * @param units
+     *            all {@link GenerationUnit}s in processing order
+     */
+    private void generate(List<GenerationUnit> units) {
 
-            // resolve temporary file paths
-            @SuppressWarnings("unchecked")
-            PathExpressionResolver pathExpressionResolver = new PathExpressionResolver(
-                Variables.fromMap((Map<String, String>) model.get(ModelBuilderImpl.NS_VARIABLES)));
-            String resolvedTargetDestinationPath =
-                pathExpressionResolver.evaluateExpressions(templateEty.getUnresolvedTargetPath());
-            String resolvedTmpDestinationPath =
-                pathExpressionResolver.evaluateExpressions(templateEty.getUnresolvedTemplatePath());
+        // resolve the destination paths first to be able to detect units targeting the same file
+        long phaseStart = System.nanoTime();
+        Map<File, List<GenerationUnit>> unitsByTarget = Maps.newLinkedHashMap();
+        for (GenerationUnit unit : units) {
+            try {
+                resolveDestination(unit);
+            } catch (Throwable e) {
+                unit.error = e;
+                continue;
+            }
+            if (!unitsByTarget.containsKey(unit.tmpOriginalFile)) {
+                unitsByTarget.put(unit.tmpOriginalFile, Lists.<GenerationUnit> newArrayList());
+            }
+            unitsByTarget.get(unit.tmpOriginalFile).add(unit);
+        }
+        addPhaseDuration(Phase.DESTINATION_RESOLUTION, phaseStart);
 
-            File originalFile = targetRootPath.resolve(resolvedTargetDestinationPath).toFile();
-            File tmpOriginalFile = tmpTargetRootPath.resolve(resolvedTmpDestinationPath).toFile();
-            // remember mapping to later on copy the generated resources to its target destinations
-            tmpToOrigFileTrace.put(tmpOriginalFile, originalFile);
+        if (executor == null) {
+            for (List<GenerationUnit> unitsOfTarget : unitsByTarget.values()) {
+                generateTarget(unitsOfTarget);
+            }
+        } else {
+            List<CompletableFuture<Void>> futures = Lists.newArrayList();
+            for (List<GenerationUnit> unitsOfTarget : unitsByTarget.values()) {
+                futures.add(CompletableFuture.runAsync(() -> generateTarget(unitsOfTarget), executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()])).join();
+        }
+    }
 
-            if (originalFile.exists() || tmpOriginalFile.exists()) {
-                if (!tmpOriginalFile.exists()) {
-                    try {
-                        FileUtils.copyFile(originalFile, tmpOriginalFile);
-                    } catch (IOException e) {
-                        throw new CobiGenRuntimeException("Could not copy file " + originalFile.getPath()
-                            + " to tmp generation directory! Generation skipped.", e);
-                    }
+    /**
+     * Processes all {@link GenerationUnit}s targeting the same file in their given order. In incremental mode,
+     * the units will be skipped if the target file is up to date with respect to the {@link #manifest}.
+     * Errors will not be thrown but remembered in the units.
+     * @param unitsOfTarget
+     *            {@link GenerationUnit}s targeting the same file
+     */
+    private void generateTarget(List<GenerationUnit> unitsOfTarget) {
+        if (manifest != null) {
+            try {
+                String fingerprint = calculateFingerprint(unitsOfTarget);
+                boolean upToDate = fingerprint != null
+                    && manifest.isUpToDate(unitsOfTarget.get(0).originalFile.toPath(), fingerprint);
+                for (GenerationUnit unit : unitsOfTarget) {
+                    unit.fingerprint = fingerprint;
+                    unit.skipped = upToDate;
                 }
+                if (upToDate) {
+                    LOG.info("Skipping {} as it is up to date.", unitsOfTarget.get(0).resolvedTargetDestinationPath);
+                    return;
+                }
+            } catch (Throwable e) {
+                for (GenerationUnit unit : unitsOfTarget) {
+                    unit.error = e;
+                }
+                return;
+            }
+        }
+        for (GenerationUnit unit : unitsOfTarget) {
+            generate(unit);
+        }
+    }
 
-                if ((forceOverride || template.isForceOverride()) && templateEty.getMergeStrategy() == null
-                    || ConfigurationConstants.MERGE_STRATEGY_OVERRIDE.equals(templateEty.getMergeStrategy())) {
-                    if (LOG.isInfoEnabled()) {
-                        try (Formatter formatter = new Formatter()) {
-                            formatter.format("Overriding %1$-40s FROM %2$-50s TO %3$s ...", originalFile.getName(),
-                                templateEty.getName(), resolvedTargetDestinationPath);
-                            LOG.info(formatter.out().toString());
-                        }
-                    }
-                    generateTemplateAndWriteFile(tmpOriginalFile, templateEty, templateEngine, model, targetCharset);
-                } else if (templateEty.getMergeStrategy() != null) {
-                    if (LOG.isInfoEnabled()) {
-                        try (Formatter formatter = new Formatter()) {
-                            formatter.format("Merging    %1$-40s FROM %2$-50s TO %3$s ...", originalFile.getName(),
-                                templateEty.getName(), resolvedTargetDestinationPath);
-                            LOG.info(formatter.out().toString());
-                        }
-                    }
-                    String patch = null;
-                    try (Writer out = new StringWriter()) {
-                        templateEngine.process(templateEty, model, out, targetCharset);
-                        patch = out.toString();
-                        String mergeResult = null;
-                        Merger merger = PluginRegistry.getMerger(templateEty.getMergeStrategy());
-                        if (merger != null) {
-                            mergeResult = merger.merge(tmpOriginalFile, patch, targetCharset);
-                        } else {
-                            throw new PluginNotAvailableException(
-                                "merge strategy '" + templateEty.getMergeStrategy() + "'", null);
-                        }
+    /**
+     * Calculates the fingerprint of the given {@link GenerationUnit}s targeting the same file. The fingerprint
+     * covers the contents of the templates and template folders, the bytecode of the logic classes, the
+     * generation settings, the resolved variables, as well as the fingerprints of the sources of the inputs.
+     * The models of the inputs will not be read for this purpose.
+     * @param unitsOfTarget
+     *            {@link GenerationUnit}s targeting the same file
+     * @return the fingerprint or {@code null} if the fingerprint of any input or logic class could not be
+     *         calculated or an externally adapted model is used
+     */
+    private String calculateFingerprint(List<GenerationUnit> unitsOfTarget) {
+        if (rawModel != null || logicClassesHash == null) {
+            return null;
+        }
+        Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putString(logicClassesHash, StandardCharsets.UTF_8);
+        for (GenerationUnit unit : unitsOfTarget) {
+            String inputFingerprint = unit.resolvedInput.getFingerprint(unit);
+            if (inputFingerprint == null) {
+                return null;
+            }
+            String templateFolderHash =
+                templateFolderHashes.computeIfAbsent(unit.templateFolder, GenerationManifest::hashFolder);
+            hasher.putString(unit.template.getId(), StandardCharsets.UTF_8)
+                .putString(templateFolderHash, StandardCharsets.UTF_8)
+                .putString(GenerationManifest.hashContents(unit.templateEty.getAbsoluteTemplatePath()),
+                    StandardCharsets.UTF_8)
+                .putBoolean(forceOverride || unit.template.isForceOverride())
+                .putString(String.valueOf(unit.templateEty.getMergeStrategy()), StandardCharsets.UTF_8)
+                .putString(unit.templateEty.getTargetCharset(), StandardCharsets.UTF_8)
+                .putString(inputFingerprint, StandardCharsets.UTF_8);
+            for (Entry<String, String> variable : new TreeMap<>(unit.variables).entrySet()) {
+                hasher.putString(variable.getKey(), StandardCharsets.UTF_8).putByte((byte) 0)
+                    .putString(String.valueOf(variable.getValue()), StandardCharsets.UTF_8).putByte((byte) 0);
+            }
+        }
+        return hasher.hash().toString();
+    }
 
-                        if (mergeResult != null) {
-                            LOG.debug("Merge {} with char set {}.", tmpOriginalFile.getName(), targetCharset);
-                            FileUtils.writeStringToFile(tmpOriginalFile, mergeResult, targetCharset);
-                        } else {
-                            throw new PluginProcessingException(
-                                "Merger " + merger.getType() + " returned null on merge(...), which is not allowed.");
-                        }
-                    } catch (MergeException e) {
-                        writeBrokenPatchFile(targetCharset, tmpOriginalFile, patch);
-                        // enrich merge exception to provide template ID
-                        throw new MergeException(e, templateEty.getAbsoluteTemplatePath());
-                    } catch (IOException e) {
-                        throw new CobiGenRuntimeException(
-                            "Could not write file " + tmpOriginalFile.toPath() + " after merge.", e);
-                    }
+    /**
+     * Calculates the hash of the bytecode of all logic classes of this generation.
+     * @return the hash of the logic classes or {@code null} if the bytecode of any logic class is not accessible
+     */
+    private String hashLogicClasses() {
+        Hasher hasher = Hashing.sha256().newHasher();
+        if (logicClasses != null) {
+            Map<String, Class<?>> logicClassesByName = new TreeMap<>();
+            for (Class<?> logicClass : logicClasses) {
+                logicClassesByName.put(logicClass.getSimpleName(), logicClass);
+            }
+            for (Entry<String, Class<?>> logicClass : logicClassesByName.entrySet()) {
+                String classHash = GenerationManifest.hashClass(logicClass.getValue());
+                if (classHash == null) {
+                    return null;
                 }
-            } else {
+                hasher.putString(logicClass.getKey(), StandardCharsets.UTF_8).putString(classHash,
+                    StandardCharsets.UTF_8);
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Resolves the variables as well as the temporary and final destination file of the given unit.
+     * @param unit
+     *            {@link GenerationUnit} to be enriched by its destination
+     */
+    private void resolveDestination(GenerationUnit unit) {
+
+        unit.variables =
+            new ModelBuilderImpl(unit.generatorInput, unit.trigger, configurationHolder.getContextVariableCache())
+                .resolveVariables(unit.triggerInterpreter, unit.templateEty, targetCobiGenProperties);
+
+        // resolve temporary file paths
+        PathExpressionResolver pathExpressionResolver = new PathExpressionResolver(Variables.fromMap(unit.variables));
+        unit.resolvedTargetDestinationPath =
+            pathExpressionResolver.evaluateExpressions(unit.templateEty.getTargetPathExpression());
+        String resolvedTmpDestinationPath =
+            pathExpressionResolver.evaluateExpressions(unit.templateEty.getTemplatePathExpression());
+
+        unit.originalFile = targetRootPath.resolve(unit.resolvedTargetDestinationPath).toFile();
+        unit.tmpOriginalFile = tmpTargetRootPath.resolve(resolvedTmpDestinationPath).toFile();
+    }
+
+    /**
+     * Generates code for the input of the given unit with the template of the given unit to the destination
+     * specified by the templates configuration. Errors will not be thrown but remembered in the unit.
+     *
+     * @param unit
+     *            {@link GenerationUnit} to be processed
+     */
+    private void generate(GenerationUnit unit) {
+        long start = System.nanoTime();
+        try {
+            generateUnit(unit);
+        } catch (Throwable e) {
+            unit.error = e;
+        }
+        long duration = System.nanoTime() - start;
+        metrics.addTemplateDuration(unit.template.getId(), duration);
+        for (GenerationListener listener : listeners) {
+            try {
+                listener.templateProcessed(unit.template, unit.originalFile.toPath(), duration, unit.error == null);
+            } catch (RuntimeException e) {
+                LOG.warn("Generation listener {} failed.", listener, e);
+            }
+        }
+    }
+
+    /**
+     * Generates code for the input of the given unit with the template of the given unit to the destination
+     * specified by the templates configuration.
+     *
+     * @param unit
+     *            {@link GenerationUnit} to be processed
+     * @throws InvalidConfigurationException
+     *             if the inputs do not fit to the configuration or there are some configuration failures
+     */
+    private void generateUnit(GenerationUnit unit) {
+
+        TemplateTo template = unit.template;
+        Template templateEty = unit.templateEty;
+        TextTemplateEngine templateEngine = unit.templateEngine;
+        File originalFile = unit.originalFile;
+        File tmpOriginalFile = unit.tmpOriginalFile;
+        String resolvedTargetDestinationPath = unit.resolvedTargetDestinationPath;
+
+        Map<String, Object> model = buildModel(unit);
+        if (logicClassesModel != null) {
+            model.putAll(logicClassesModel);
+        }
+        if (!unitScopedLogicClasses.isEmpty()) {
+            model.putAll(logicClassInstances.getModel(unitScopedLogicClasses));
+        }
+
+        String targetCharset = templateEty.getTargetCharset();
+
+        if (originalFile.exists() || tmpOriginalFile.exists()) {
+            if (!tmpOriginalFile.exists()) {
+                try {
+                    FileUtils.copyFile(originalFile, tmpOriginalFile);
+                } catch (IOException e) {
+                    throw new CobiGenRuntimeException("Could not copy file " + originalFile.getPath()
+                        + " to tmp generation directory! Generation skipped.", e);
+                }
+            }
+
+            if ((forceOverride || template.isForceOverride()) && templateEty.getMergeStrategy() == null
+                || ConfigurationConstants.MERGE_STRATEGY_OVERRIDE.equals(templateEty.getMergeStrategy())) {
                 if (LOG.isInfoEnabled()) {
                     try (Formatter formatter = new Formatter()) {
-                        formatter.format("Generating %1$-40s FROM %2$-50s TO %3$s ...", originalFile.getName(),
+                        formatter.format("Overriding %1$-40s FROM %2$-50s TO %3$s ...", originalFile.getName(),
                             templateEty.getName(), resolvedTargetDestinationPath);
                         LOG.info(formatter.out().toString());
                     }
                 }
                 generateTemplateAndWriteFile(tmpOriginalFile, templateEty, templateEngine, model, targetCharset);
+            } else if (templateEty.getMergeStrategy() != null) {
+                if (LOG.isInfoEnabled()) {
+                    try (Formatter formatter = new Formatter()) {
+                        formatter.format("Merging    %1$-40s FROM %2$-50s TO %3$s ...", originalFile.getName(),
+                            templateEty.getName(), resolvedTargetDestinationPath);
+                        LOG.info(formatter.out().toString());
+                    }
+                }
+                String patch = null;
+                try (Writer out = new StringWriter()) {
+                    long phaseStart = System.nanoTime();
+                    templateEngine.process(templateEty, model, out, targetCharset);
+                    patch = out.toString();
+                    addPhaseDuration(Phase.TEMPLATE_PROCESSING, phaseStart);
+                    String mergeResult = null;
+                    Merger merger = PluginRegistry.getMerger(templateEty.getMergeStrategy());
+                    if (merger != null) {
+                        phaseStart = System.nanoTime();
+                        try {
+                            mergeResult = merger.merge(tmpOriginalFile, patch, targetCharset);
+                        } finally {
+                            addPhaseDuration(Phase.MERGING, phaseStart);
+                        }
+                        metrics.incrementMergeCount();
+                    } else {
+                        throw new PluginNotAvailableException(
+                            "merge strategy '" + templateEty.getMergeStrategy() + "'", null);
+                    }
+
+                    if (mergeResult != null) {
+                        LOG.debug("Merge {} with char set {}.", tmpOriginalFile.getName(), targetCharset);
+                        FileUtils.writeStringToFile(tmpOriginalFile, mergeResult, targetCharset);
+                    } else {
+                        throw new PluginProcessingException(
+                            "Merger " + merger.getType() + " returned null on merge(...), which is not allowed.");
+                    }
+                } catch (MergeException e) {
+                    writeBrokenPatchFile(targetCharset, tmpOriginalFile, patch);
+                    // enrich merge exception to provide template ID
+                    throw new MergeException(e, templateEty.getAbsoluteTemplatePath());
+                } catch (IOException e) {
+                    throw new CobiGenRuntimeException(
+                        "Could not write file " + tmpOriginalFile.toPath() + " after merge.", e);
+                }
             }
+        } else {
+            if (LOG.isInfoEnabled()) {
+                try (Formatter formatter = new Formatter()) {
+                    formatter.format("Generating %1$-40s FROM %2$-50s TO %3$s ...", originalFile.getName(),
+                        templateEty.getName(), resolvedTargetDestinationPath);
+                    LOG.info(formatter.out().toString());
+                }
+            }
+            generateTemplateAndWriteFile(tmpOriginalFile, templateEty, templateEngine, model, targetCharset);
         }
-        return tmpToOrigFileTrace;
     }
 
     /**
@@ -423,30 +1000,22 @@ public class GenerationProcessorImpl implements GenerationProcessor {
     }
 
     /**
-     * Builds the model for he given input.
-     * @param triggerInterpreter
-     *            {@link TriggerInterpreter} to be used
-     * @param trigger
-     *            activated {@link Trigger}
-     * @param generatorInput
-     *            input for generation to retrieve information from.
-     * @param template
-     *            the internal {@link Template} representation
+     * Builds the model for the input of the given unit excluding the logic classes. The model read from the
+     * input is shared by all templates, such that only the variables of the template are layered on top.
+     * @param unit
+     *            {@link GenerationUnit} with already resolved variables
      * @return the object model for generation.
      */
-    private Map<String, Object> buildModel(TriggerInterpreter triggerInterpreter, Trigger trigger,
-        Object generatorInput, Template template) {
-        ModelBuilderImpl modelBuilderImpl = new ModelBuilderImpl(generatorInput, trigger);
-        Map<String, Object> model;
+    private Map<String, Object> buildModel(GenerationUnit unit) {
+        Map<String, Object> inputModel;
         if (rawModel != null) {
-            model = rawModel;
+            inputModel = rawModel;
         } else {
-            model = modelBuilderImpl.createModel(triggerInterpreter);
-        }
-        modelBuilderImpl.enrichByContextVariables(model, triggerInterpreter, template, targetRootPath);
-        if (logicClassesModel != null) {
-            model.putAll(logicClassesModel);
+            inputModel = unit.resolvedInput.getModel(unit);
         }
+        // the input model is shared by all units, which might be processed in parallel
+        Map<String, Object> model = new OverlayModelMap(inputModel);
+        model.put(ModelBuilderImpl.NS_VARIABLES, unit.variables);
         return model;
     }
 
@@ -502,7 +1071,8 @@ public class GenerationProcessorImpl implements GenerationProcessor {
 
     /**
      * Generates the given template contents using the given model and writes the contents into the given
-     * {@link File}
+     * {@link File}. The contents are streamed directly into the file without buffering them in memory. If the
+     * generation fails, the partially written file will be removed.
      *
      * @param output
      *            {@link File} to be written
@@ -518,12 +1088,155 @@ public class GenerationProcessorImpl implements GenerationProcessor {
     private void generateTemplateAndWriteFile(File output, Template template, TextTemplateEngine templateEngine,
         Map<String, Object> model, String outputCharset) {
 
-        try (Writer out = new StringWriter()) {
-            templateEngine.process(template, model, out, outputCharset);
-            FileUtils.writeStringToFile(output, out.toString(), outputCharset);
+        long phaseStart = System.nanoTime();
+        boolean written = false;
+        try {
+            Files.createDirectories(output.toPath().getParent());
+            try (Writer out = Files.newBufferedWriter(output.toPath(), Charset.forName(outputCharset))) {
+                templateEngine.process(template, model, out, outputCharset);
+            }
+            written = true;
         } catch (IOException e) {
             throw new CobiGenRuntimeException(
                 "Could not write file while processing template " + template.getAbsoluteTemplatePath(), e);
+        } finally {
+            if (!written) {
+                FileUtils.deleteQuietly(output);
+            }
+            addPhaseDuration(Phase.TEMPLATE_PROCESSING, phaseStart);
+        }
+    }
+
+    /**
+     * Operation on a single element potentially throwing an {@link IOException}.
+     * @param <T>
+     *            type of the element
+     */
+    @FunctionalInterface
+    private interface IOConsumer<T> {
+
+        /**
+         * Performs the operation on the given element.
+         * @param element
+         *            element to perform the operation on
+         * @throws IOException
+         *             if the operation fails
+         */
+        void accept(T element) throws IOException;
+    }
+
+    /**
+     * Input object resolved from a generation input, whose model is shared by all templates of the trigger.
+     */
+    private class ResolvedInput {
+
+        /** Input object resolved from a generation input */
+        private final Object generatorInput;
+
+        /** Model read from the {@link #generatorInput} or {@code null} if not read yet */
+        private Map<String, Object> model;
+
+        /** Fingerprint of the source of the {@link #generatorInput} */
+        private String fingerprint;
+
+        /** States, whether the {@link #fingerprint} has already been calculated */
+        private boolean fingerprintCalculated;
+
+        /**
+         * Creates a new resolved input.
+         * @param generatorInput
+         *            input object resolved from a generation input
+         */
+        private ResolvedInput(Object generatorInput) {
+            this.generatorInput = generatorInput;
         }
+
+        /**
+         * Returns the model read from the input object. The model will be read on first call only.
+         * @param unit
+         *            {@link GenerationUnit} requesting the model to read the model with its trigger
+         * @return the model of the input object, which must not be modified
+         */
+        private synchronized Map<String, Object> getModel(GenerationUnit unit) {
+            if (model == null) {
+                long phaseStart = System.nanoTime();
+                model = new ModelBuilderImpl(generatorInput, unit.trigger).createModel(unit.triggerInterpreter);
+                addPhaseDuration(Phase.MODEL_BUILDING, phaseStart);
+            }
+            return model;
+        }
+
+        /**
+         * Returns the fingerprint of the source of the input object. The fingerprint will be calculated on
+         * first call only.
+         * @param unit
+         *            {@link GenerationUnit} requesting the fingerprint to calculate it with its trigger
+         * @return the fingerprint or {@code null} if no fingerprint can be calculated for the input object
+         */
+        private synchronized String getFingerprint(GenerationUnit unit) {
+            if (!fingerprintCalculated) {
+                fingerprint =
+                    GenerationManifest.hashInput(generatorInput, unit.triggerInterpreter.getInputReader());
+                fingerprintCalculated = true;
+            }
+            return fingerprint;
+        }
+    }
+
+    /**
+     * A unit of work of the generation, i.e. the generation of one template for one input object.
+     */
+    private static class GenerationUnit {
+
+        /** Template to be generated */
+        private TemplateTo template;
+
+        /** Internal representation of the template */
+        private Template templateEty;
+
+        /** Trigger the template has been resolved from */
+        private Trigger trigger;
+
+        /** {@link TriggerInterpreter} of the {@link #trigger} */
+        private TriggerInterpreter triggerInterpreter;
+
+        /** {@link TextTemplateEngine} bound to the template folder of the {@link #trigger} */
+        private TextTemplateEngine templateEngine;
+
+        /** Root folder of the templates of the {@link #trigger} */
+        private Path templateFolder;
+
+        /** Input object to generate the template for */
+        private Object generatorInput;
+
+        /** {@link ResolvedInput} of the {@link #generatorInput} shared with the units of other templates */
+        private ResolvedInput resolvedInput;
+
+        /** Index of the generation input the {@link #generatorInput} has been resolved from */
+        private int inputIndex;
+
+        /** Resolved variables to be served in the {@link ModelBuilderImpl#NS_VARIABLES} namespace */
+        private Map<String, String> variables;
+
+        /** Resolved destination path relative to the target root path */
+        private String resolvedTargetDestinationPath;
+
+        /** Final target file */
+        private File originalFile;
+
+        /** Temporary target file */
+        private File tmpOriginalFile;
+
+        /**
+         * Fingerprint of all units targeting the same file or {@code null} if not generating incrementally or if
+         * no fingerprint could be calculated
+         */
+        private String fingerprint;
+
+        /** States, whether the unit has been skipped as its target file is up to date */
+        private boolean skipped;
+
+        /** Error occurred while processing this unit or {@code null} if processed successfully */
+        private Throwable error;
     }
 }
@@ -0,0 +1,126 @@
+package com.devonfw.cobigen.impl.generator;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.cobigen.api.annotation.LogicScope;
+import com.devonfw.cobigen.api.annotation.LogicScope.Scope;
+import com.google.common.collect.Maps;
+
+/**
+ * Cache of the instances of template logic classes served by the model. Instances of
+ * {@link Scope#STATELESS stateless} logic classes will be shared across all generations, whereas logic
+ * classes of {@link Scope#GENERATION generation scope} will be instantiated for each generation. As the cache
+ * is keyed by the {@link Class} objects, logic classes loaded by different class loaders are cached
+ * independently. The instances are attached to their {@link Class} by a {@link ClassValue}, such that the cache
+ * does not prevent the logic classes and their class loaders from being unloaded.
+ */
+public class LogicClassInstances {
+
+    /** Logger instance */
+    private static final Logger LOG = LoggerFactory.getLogger(LogicClassInstances.class);
+
+    /** Cached {@link Scope} of each logic class */
+    private static final ClassValue<Scope> SCOPES = new ClassValue<Scope>() {
+        @Override
+        protected Scope computeValue(Class<?> logicClass) {
+            return determineScope(logicClass);
+        }
+    };
+
+    /**
+     * Cached instances of stateless logic classes (or their enum constants). Logic classes, which could not be
+     * instantiated, are mapped to {@code null}.
+     */
+    private final ClassValue<Object> statelessInstances = new ClassValue<Object>() {
+        @Override
+        protected Object computeValue(Class<?> logicClass) {
+            return instantiate(logicClass);
+        }
+    };
+
+    /**
+     * Returns the instances of the given logic classes to be served by the model of one generation. Mapping
+     * from simple type to instance.
+     * @param logicClasses
+     *            logic classes to instantiate
+     * @return the model of the logic classes. Logic classes, which could not be instantiated, will be missing.
+     */
+    public Map<String, Object> getModel(List<Class<?>> logicClasses) {
+        Map<String, Object> logicClassesModel = Maps.newHashMap();
+        for (Class<?> logicClass : logicClasses) {
+            Object instance;
+            if (isStateless(logicClass)) {
+                instance = statelessInstances.get(logicClass);
+            } else {
+                instance = instantiate(logicClass);
+            }
+            if (instance != null) {
+                logicClassesModel.put(logicClass.getSimpleName(), instance);
+            }
+        }
+        return logicClassesModel;
+    }
+
+    /**
+     * Checks, whether the instance of the given logic class can be shared across generations and threads.
+     * @param logicClass
+     *            logic class to check
+     * @return {@code true} if the logic class is of {@link Scope#STATELESS stateless} scope, {@code false}
+     *         otherwise
+     */
+    public boolean isStateless(Class<?> logicClass) {
+        return SCOPES.get(logicClass) == Scope.STATELESS;
+    }
+
+    /**
+     * Determines the {@link Scope} of the given logic class.
+     * @param logicClass
+     *            logic class to determine the {@link Scope} for
+     * @return the declared {@link Scope} or the {@link Scope} derived from the instance fields of the class
+     * @see LogicScope
+     */
+    private static Scope determineScope(Class<?> logicClass) {
+        if (logicClass.isEnum()) {
+            return Scope.STATELESS;
+        }
+        LogicScope logicScope = logicClass.getAnnotation(LogicScope.class);
+        if (logicScope != null) {
+            return logicScope.value();
+        }
+        for (Class<?> c = logicClass; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                    return Scope.GENERATION;
+                }
+            }
+        }
+        return Scope.STATELESS;
+    }
+
+    /**
+     * Instantiates the given logic class.
+     * @param logicClass
+     *            logic class to instantiate
+     * @return the new instance, the enum constants for enums, or {@code null} if the class could not be
+     *         instantiated
+     */
+    private static Object instantiate(Class<?> logicClass) {
+        try {
+            if (logicClass.isEnum()) {
+                return logicClass.getEnumConstants();
+            } else {
+                return logicClass.newInstance();
+            }
+        } catch (InstantiationException | IllegalAccessException e) {
+            LOG.warn("The Java class '{}' could not been instantiated for template processing and thus will be "
+                + "missing in the model.", logicClass.getCanonicalName());
+            return null;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.devonfw.cobigen.impl.generator;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javax.inject.Inject;
 
@@ -8,18 +10,23 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.devonfw.cobigen.api.annotation.Cached;
+import com.devonfw.cobigen.api.exception.CobiGenRuntimeException;
 import com.devonfw.cobigen.api.extension.TriggerInterpreter;
 import com.devonfw.cobigen.api.to.MatcherTo;
 import com.devonfw.cobigen.impl.config.ConfigurationHolder;
+import com.devonfw.cobigen.impl.config.ContextConfiguration;
 import com.devonfw.cobigen.impl.config.entity.ContainerMatcher;
 import com.devonfw.cobigen.impl.config.entity.Matcher;
 import com.devonfw.cobigen.impl.config.entity.Trigger;
+import com.devonfw.cobigen.impl.exceptions.PluginProcessingException;
 import com.devonfw.cobigen.impl.extension.PluginRegistry;
 import com.devonfw.cobigen.impl.generator.api.MatcherEvaluator;
 import com.devonfw.cobigen.impl.generator.api.TriggerMatchingEvaluator;
 import com.devonfw.cobigen.impl.validator.InputValidator;
 import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 
 /**
  * This implementation's main focus is the implementation of the matching behavior of {@link Matcher Matchers}
@@ -44,13 +51,13 @@ public class TriggerMatchingEvaluatorImpl implements TriggerMatchingEvaluator {
 
         LOG.debug("Retrieve matching trigger. input {}, hash: {}", matcherInput, matcherInput.hashCode());
         List<Trigger> matchingTrigger = Lists.newLinkedList();
-        for (Trigger trigger : configurationHolder.readContextConfiguration().getTriggers()) {
-            TriggerInterpreter triggerInterpreter = PluginRegistry.getTriggerInterpreter(trigger.getType());
-            InputValidator.validateTriggerInterpreter(triggerInterpreter, trigger);
-            LOG.debug("Check {} to match the input.", trigger);
-
-            if (triggerInterpreter.getInputReader().isValidInput(matcherInput)) {
-                LOG.debug("Matcher input is marked as valid.");
+        ContextConfiguration contextConfiguration = configurationHolder.readContextConfiguration();
+        Map<String, TriggerInterpreter> validTriggerInterpreters =
+            getValidTriggerInterpreters(contextConfiguration.getTriggersByType(), matcherInput);
+        for (Trigger trigger : contextConfiguration.getTriggers()) {
+            TriggerInterpreter triggerInterpreter = validTriggerInterpreters.get(trigger.getType());
+            if (triggerInterpreter != null) {
+                LOG.debug("Check {} to match the input.", trigger);
                 boolean triggerMatches =
                     matcherEvaluator.matches(matcherInput, trigger.getMatcher(), triggerInterpreter);
                 if (triggerMatches) {
@@ -68,26 +75,18 @@ public class TriggerMatchingEvaluatorImpl implements TriggerMatchingEvaluator {
                         LOG.debug("Check {} ...", containerMatcherTo);
                         if (triggerInterpreter.getMatcher().matches(containerMatcherTo)) {
                             LOG.debug("Match! Retrieve objects from container ...", containerMatcherTo);
-                            // keep backward-compatibility
-                            List<Object> containerResources;
-                            if (containerMatcher.isRetrieveObjectsRecursively()) {
-                                containerResources = triggerInterpreter.getInputReader()
-                                    .getInputObjectsRecursively(matcherInput, Charsets.UTF_8);
-                            } else {
-                                // the charset does not matter as we just want to see whether there is one
-                                // matcher for one of the container resources
-                                containerResources =
-                                    triggerInterpreter.getInputReader().getInputObjects(matcherInput, Charsets.UTF_8);
-                            }
-                            LOG.debug("{} objects retrieved.", containerResources.size());
+                            // the charset does not matter as we just want to see whether there is one
+                            // matcher for one of the container resources. The resources are read lazily, such
+                            // that the remaining resources will not be read after the first match.
+                            Iterator<Object> containerResources = triggerInterpreter.getInputReader()
+                                .getInputObjectsLazily(matcherInput, Charsets.UTF_8,
+                                    containerMatcher.isRetrieveObjectsRecursively());
 
                             // check if at least one container element matches the matcher declarations
-                            for (Object resource : containerResources) {
-                                if (matcherEvaluator.matches(resource, trigger.getMatcher(), triggerInterpreter)) {
-                                    LOG.debug("At least one object from container matches.");
-                                    triggerMatches = true;
-                                    break FOR_CONTAINERMATCHER;
-                                }
+                            if (anyMatches(containerResources, trigger, triggerInterpreter)) {
+                                LOG.debug("At least one object from container matches.");
+                                triggerMatches = true;
+                                break FOR_CONTAINERMATCHER;
                             }
                             LOG.debug("No element of the container is matched.");
                         }
@@ -101,4 +100,62 @@ public class TriggerMatchingEvaluatorImpl implements TriggerMatchingEvaluator {
         }
         return matchingTrigger;
     }
+
+    /**
+     * Checks whether any of the given container resources matches the matchers of the given trigger. The
+     * resources will only be read until the first match.
+     * @param containerResources
+     *            lazily read resources of a container
+     * @param trigger
+     *            {@link Trigger} providing the matchers
+     * @param triggerInterpreter
+     *            {@link TriggerInterpreter} of the trigger
+     * @return {@code true} if at least one resource matches, {@code false} otherwise
+     */
+    private boolean anyMatches(Iterator<Object> containerResources, Trigger trigger,
+        TriggerInterpreter triggerInterpreter) {
+
+        int readResources = 0;
+        try {
+            while (containerResources.hasNext()) {
+                Object resource = containerResources.next();
+                readResources++;
+                if (matcherEvaluator.matches(resource, trigger.getMatcher(), triggerInterpreter)) {
+                    LOG.debug("{} objects retrieved until the first match.", readResources);
+                    return true;
+                }
+            }
+        } catch (CobiGenRuntimeException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            // the plug-in's input reader is called by the iterator outside of its exception facade
+            throw new PluginProcessingException(e);
+        }
+        LOG.debug("{} objects retrieved.", readResources);
+        return false;
+    }
+
+    /**
+     * Determines the {@link TriggerInterpreter}s able to read the given input. Each trigger type will only be
+     * checked once, such that the triggers of all other types can be skipped without further evaluation.
+     * @param triggersByType
+     *            all triggers indexed by their type
+     * @param matcherInput
+     *            input to be checked
+     * @return the {@link TriggerInterpreter}s considering the input as valid mapped by their trigger type
+     */
+    private Map<String, TriggerInterpreter> getValidTriggerInterpreters(
+        ImmutableListMultimap<String, Trigger> triggersByType, Object matcherInput) {
+
+        Map<String, TriggerInterpreter> validTriggerInterpreters = Maps.newHashMap();
+        for (String triggerType : triggersByType.keySet()) {
+            TriggerInterpreter triggerInterpreter = PluginRegistry.getTriggerInterpreter(triggerType);
+            InputValidator.validateTriggerInterpreter(triggerInterpreter, triggersByType.get(triggerType).get(0));
+            if (triggerInterpreter.getInputReader().isValidInput(matcherInput)) {
+                LOG.debug("Matcher input is marked as valid for triggers of type '{}'.", triggerType);
+                validTriggerInterpreters.put(triggerType, triggerInterpreter);
+            }
+        }
+        return validTriggerInterpreters;
+    }
 }
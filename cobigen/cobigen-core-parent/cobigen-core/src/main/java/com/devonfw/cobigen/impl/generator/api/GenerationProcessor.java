@@ -33,4 +33,27 @@ public interface GenerationProcessor {
      */
     public GenerationReportTo generate(Object input, List<? extends GenerableArtifact> generableArtifacts,
         Path targetRootPath, boolean forceOverride, List<Class<?>> logicClasses, Map<String, Object> rawModel);
+
+    /**
+     * Generates code by processing the {@link List} of {@link GenerableArtifact}s for each of the given inputs
+     * within a single generation. All generated files will be transferred to the target root path at once.
+     * This method/class is NOT thread-safe.
+     * @param inputs
+     *            generator input objects
+     * @param generableArtifacts
+     *            a {@link List} of artifacts to be generated for each input
+     * @param targetRootPath
+     *            target root path to generate to (to be used to resolve the dependent template destination
+     *            paths)
+     * @param forceOverride
+     *            if <code>true</code> and the destination path is already existent, the contents will be
+     *            overwritten by the generated ones iff there is no merge strategy defined by the templates
+     *            configuration. (default: {@code false})
+     * @param logicClasses
+     *            a {@link List} of java class files, which will be included as accessible beans in the
+     *            template model. Such classes can be used to implement more complex template logic.
+     * @return {@link GenerationReportTo the GenerationReport}
+     */
+    public GenerationReportTo generate(List<Object> inputs, List<? extends GenerableArtifact> generableArtifacts,
+        Path targetRootPath, boolean forceOverride, List<Class<?>> logicClasses);
 }
@@ -1,25 +1,49 @@
 package com.devonfw.cobigen.impl.model;
 
+import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import com.devonfw.cobigen.api.exception.InvalidConfigurationException;
 import com.devonfw.cobigen.api.extension.TriggerInterpreter;
 import com.devonfw.cobigen.api.to.MatcherTo;
 import com.devonfw.cobigen.api.to.VariableAssignmentTo;
+import com.devonfw.cobigen.impl.aop.InvocationCache;
 import com.devonfw.cobigen.impl.config.entity.Matcher;
 import com.devonfw.cobigen.impl.config.entity.Trigger;
 import com.devonfw.cobigen.impl.config.entity.VariableAssignment;
 import com.devonfw.cobigen.impl.config.entity.Variables;
 import com.devonfw.cobigen.impl.exceptions.PluginProcessingException;
 import com.devonfw.cobigen.impl.validator.InputValidator;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 
 /**
- * Resolves all context variables for a given input and its trigger
+ * Resolves all context variables for a given input and its trigger. As the context variables only depend on
+ * the input, the trigger, and the trigger interpreter, the resolved variables without any parent can be cached
+ * in an {@link InvocationCache} of the configuration. The cache identifies the input, trigger, and trigger
+ * interpreter by identity and only weakly references them, such that entries are discarded as soon as the
+ * input is not used anymore.
  */
 public class ContextVariableResolver {
 
+    /** Logger instance */
+    private static final Logger LOG = LoggerFactory.getLogger(ContextVariableResolver.class);
+
+    /** Key of the cached resolutions in the {@link #cache} */
+    private static final Method RESOLVE_VARIABLES;
+
+    static {
+        try {
+            RESOLVE_VARIABLES = ContextVariableResolver.class.getMethod("resolveVariables", TriggerInterpreter.class);
+        } catch (NoSuchMethodException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     /**
      * Input object for which a new object model should be created
      */
@@ -30,6 +54,11 @@ public class ContextVariableResolver {
      */
     private Trigger trigger;
 
+    /**
+     * Cache of the resolved context variables or {@code null} if they should not be cached
+     */
+    private InvocationCache cache;
+
     /**
      * Creates a new {@link ModelBuilderImpl} instance for the given properties
      *
@@ -39,6 +68,21 @@ public class ContextVariableResolver {
      *            which has been activated for the given input
      */
     public ContextVariableResolver(Object input, Trigger trigger) {
+        this(input, trigger, null);
+    }
+
+    /**
+     * Creates a new {@link ModelBuilderImpl} instance for the given properties
+     *
+     * @param input
+     *            object for which a new object model should be created
+     * @param trigger
+     *            which has been activated for the given input
+     * @param cache
+     *            cache of the resolved context variables, usually the one of the configuration, or {@code null}
+     *            if the variables should not be cached
+     */
+    public ContextVariableResolver(Object input, Trigger trigger, InvocationCache cache) {
 
         if (input == null || trigger == null || trigger.getMatcher() == null) {
             throw new IllegalArgumentException(
@@ -46,10 +90,13 @@ public class ContextVariableResolver {
         }
         this.input = input;
         this.trigger = trigger;
+        this.cache = cache;
     }
 
     /**
-     * Resolves all {@link VariableAssignment}s by using the given {@link TriggerInterpreter}
+     * Resolves all {@link VariableAssignment}s by using the given {@link TriggerInterpreter}. If a cache has
+     * been given, the {@link Matcher}s will only be evaluated once per input, trigger, and trigger interpreter.
+     * Subsequent calls return a copy of the cached variables.
      *
      * @param triggerInterpreter
      *            to be used
@@ -57,9 +104,24 @@ public class ContextVariableResolver {
      * @throws InvalidConfigurationException
      *             if there are {@link VariableAssignment}s, which could not be resolved
      */
+    @SuppressWarnings("unchecked")
     public Variables resolveVariables(TriggerInterpreter triggerInterpreter) throws InvalidConfigurationException {
 
-        return resolveVariables(triggerInterpreter, null);
+        if (cache == null) {
+            return resolveVariables(triggerInterpreter, null);
+        }
+        Object[] key = new Object[] { input, trigger, triggerInterpreter };
+        Map<String, String> variables = (Map<String, String>) cache.get(RESOLVE_VARIABLES, key);
+        if (variables == null) {
+            variables = ImmutableMap.copyOf(resolveVariables(triggerInterpreter, null).asMap());
+            cache.put(RESOLVE_VARIABLES, key, variables);
+            LOG.debug("Context variables of trigger '{}' resolved. Cache statistics: {}", trigger.getId(),
+                cache.getStatistics());
+        } else {
+            LOG.debug("Context variables of trigger '{}' retrieved from cache. Cache statistics: {}",
+                trigger.getId(), cache.getStatistics());
+        }
+        return Variables.fromMap(variables);
     }
 
     /**
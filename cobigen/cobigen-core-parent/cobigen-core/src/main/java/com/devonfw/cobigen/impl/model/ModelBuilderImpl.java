@@ -15,6 +15,7 @@ import com.devonfw.cobigen.api.extension.InputReader;
 import com.devonfw.cobigen.api.extension.MatcherInterpreter;
 import com.devonfw.cobigen.api.extension.ModelBuilder;
 import com.devonfw.cobigen.api.extension.TriggerInterpreter;
+import com.devonfw.cobigen.impl.aop.InvocationCache;
 import com.devonfw.cobigen.impl.config.entity.Template;
 import com.devonfw.cobigen.impl.config.entity.Trigger;
 import com.devonfw.cobigen.impl.config.entity.VariableAssignment;
@@ -40,6 +41,9 @@ public class ModelBuilderImpl implements ModelBuilder {
     /** Trigger, which has been activated for the given input */
     private Trigger trigger;
 
+    /** Cache of the resolved context variables or {@code null} if they should not be cached */
+    private InvocationCache contextVariableCache;
+
     /**
      * Creates a new {@link ModelBuilderImpl} instance for the given properties
      * @param generatorInput
@@ -48,12 +52,27 @@ public class ModelBuilderImpl implements ModelBuilder {
      *            which has been activated for the given input
      */
     public ModelBuilderImpl(Object generatorInput, Trigger trigger) {
+        this(generatorInput, trigger, null);
+    }
+
+    /**
+     * Creates a new {@link ModelBuilderImpl} instance for the given properties
+     * @param generatorInput
+     *            object for which a new object model should be created
+     * @param trigger
+     *            which has been activated for the given input
+     * @param contextVariableCache
+     *            cache of the resolved context variables, usually the one of the configuration, or {@code null}
+     *            if the variables should not be cached
+     */
+    public ModelBuilderImpl(Object generatorInput, Trigger trigger, InvocationCache contextVariableCache) {
         if (generatorInput == null || trigger == null || trigger.getMatcher() == null) {
             throw new IllegalArgumentException(
                 "Cannot create Model from input == null || trigger == null || trigger.getMatcher() == null");
         }
         this.generatorInput = generatorInput;
         this.trigger = trigger;
+        this.contextVariableCache = contextVariableCache;
     }
 
     /**
@@ -99,11 +118,47 @@ public class ModelBuilderImpl implements ModelBuilder {
      */
     public Map<String, Object> enrichByContextVariables(Map<String, Object> model,
         TriggerInterpreter triggerInterpreter, Template template, Path targetRootPath) {
+        model.put(NS_VARIABLES, resolveVariables(triggerInterpreter, template, targetRootPath));
+        return model;
+    }
+
+    /**
+     * Resolves all variables to be served in the {@link #NS_VARIABLES} namespace of the model, i.e. the
+     * context variables of the trigger, the template variables as well as the variables of the
+     * {@link ConfigurationConstants#COBIGEN_PROPERTIES} file located in the target root path.
+     * @param triggerInterpreter
+     *            {@link TriggerInterpreter} to resolve the variables
+     * @param template
+     *            the internal {@link Template} representation
+     * @param targetRootPath
+     *            root path template destinations should be resolved against
+     * @return the mapping of variable name to value
+     */
+    public Map<String, String> resolveVariables(TriggerInterpreter triggerInterpreter, Template template,
+        Path targetRootPath) {
+        return resolveVariables(triggerInterpreter, template, new CobiGenPropertiesReader().load(targetRootPath));
+    }
+
+    /**
+     * Resolves all variables to be served in the {@link #NS_VARIABLES} namespace of the model, i.e. the
+     * context variables of the trigger, the template variables as well as the given variables of the
+     * {@link ConfigurationConstants#COBIGEN_PROPERTIES} file located in the target root path.
+     * @param triggerInterpreter
+     *            {@link TriggerInterpreter} to resolve the variables
+     * @param template
+     *            the internal {@link Template} representation
+     * @param targetCobiGenProperties
+     *            the already read {@link ConfigurationConstants#COBIGEN_PROPERTIES} of the target root path,
+     *            which will not be modified
+     * @return the mapping of variable name to value
+     */
+    public Map<String, String> resolveVariables(TriggerInterpreter triggerInterpreter, Template template,
+        Properties targetCobiGenProperties) {
         Map<String, String> variables = Maps.newHashMap();
         Map<String, String> contextVariables =
-            new ContextVariableResolver(generatorInput, trigger).resolveVariables(triggerInterpreter).asMap();
-        Map<String, String> templateProperties = template.getVariables().asMap();
-        Properties targetCobiGenProperties = CobiGenPropertiesReader.load(targetRootPath);
+            new ContextVariableResolver(generatorInput, trigger, contextVariableCache)
+                .resolveVariables(triggerInterpreter).asMap();
+        Map<String, String> templateProperties = template.getVariables().asUnmodifiableMap();
         // if there are properties overriding each other, throw an exception for better usability.
         // This is most probably a not intended mechanism such that we simply will not support it.
         Set<String> intersection = new HashSet<>(contextVariables.keySet());
@@ -120,8 +175,7 @@ public class ModelBuilderImpl implements ModelBuilder {
         variables.putAll(contextVariables);
         variables.putAll(templateProperties);
         variables.putAll(new Variables(targetCobiGenProperties).asMap());
-        model.put(NS_VARIABLES, variables);
-        return model;
+        return variables;
     }
 
 }
@@ -0,0 +1,108 @@
+package com.devonfw.cobigen.impl.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * Copy-on-write view of a shared model. Reads are served by the overlay entries first and by the shared base
+ * model afterwards, whereas all modifications are only applied to the overlay. Thus, the base model can be
+ * built once per input and can be shared by the models of all templates, which only add their own variables
+ * and logic classes on top. The base model must not be modified while being used by any overlay.
+ */
+public class OverlayModelMap extends AbstractMap<String, Object> {
+
+    /** Shared model, which will never be modified */
+    private final Map<String, Object> base;
+
+    /** Entries added or replaced on top of the base model */
+    private final Map<String, Object> overlay = Maps.newHashMap();
+
+    /** Keys of the base model, which have been removed */
+    private final Set<String> removedKeys = Sets.newHashSet();
+
+    /**
+     * Creates a new overlay of the given base model.
+     * @param base
+     *            shared model, which will never be modified by this map
+     */
+    public OverlayModelMap(Map<String, Object> base) {
+        this.base = base;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (overlay.containsKey(key)) {
+            return overlay.get(key);
+        }
+        return removedKeys.contains(key) ? null : base.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return overlay.containsKey(key) || !removedKeys.contains(key) && base.containsKey(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Object previous = get(key);
+        overlay.put(key, value);
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        Object previous = get(key);
+        overlay.remove(key);
+        if (base.containsKey(key)) {
+            removedKeys.add((String) key);
+        }
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        overlay.clear();
+        removedKeys.addAll(base.keySet());
+    }
+
+    @Override
+    public int size() {
+        int size = overlay.size();
+        for (String key : base.keySet()) {
+            if (!overlay.containsKey(key) && !removedKeys.contains(key)) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                Iterator<Entry<String, Object>> visibleBaseEntries =
+                    Iterators.filter(base.entrySet().iterator(), entry -> !overlay.containsKey(entry.getKey())
+                        && !removedKeys.contains(entry.getKey()));
+                Iterator<Entry<String, Object>> entries =
+                    Iterators.concat(overlay.entrySet().iterator(), visibleBaseEntries);
+                // entries cannot be modified while iterating, as they might belong to the base model
+                return Iterators.unmodifiableIterator(
+                    Iterators.transform(entries, entry -> new SimpleImmutableEntry<>(entry)));
+            }
+
+            @Override
+            public int size() {
+                return OverlayModelMap.this.size();
+            }
+        };
+    }
+}
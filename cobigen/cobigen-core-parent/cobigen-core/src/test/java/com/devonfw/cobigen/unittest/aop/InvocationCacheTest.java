@@ -0,0 +1,127 @@
+package com.devonfw.cobigen.unittest.aop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.devonfw.cobigen.impl.aop.InvocationCache;
+
+/**
+ * Test suite for {@link InvocationCache}.
+ */
+public class InvocationCacheTest {
+
+    /**
+     * Tests, that invocations with arguments having the same combined hash code do not collide.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testCompositeKeysDoNotCollide() throws Exception {
+        // arrange
+        InvocationCache cache = new InvocationCache();
+        Method method = String.class.getMethod("concat", String.class);
+        // "Aa" and "BB" have the same hash code
+        Object[] args1 = new Object[] { "Aa", "BB" };
+        Object[] args2 = new Object[] { "BB", "Aa" };
+
+        // act
+        cache.put(method, args1, "first");
+
+        // assert
+        assertThat(cache.get(method, args1)).isEqualTo("first");
+        assertThat(cache.get(method, args2)).isNull();
+        assertThat(cache.get(method, new Object[] { "Aa", "BB" })).isEqualTo("first");
+        assertThat(cache.getStatistics().hitCount()).isEqualTo(2);
+        assertThat(cache.getStatistics().missCount()).isEqualTo(1);
+    }
+
+    /**
+     * Tests, that invocations of different methods with the same arguments are cached separately.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testDifferentMethodsAreCachedSeparately() throws Exception {
+        // arrange
+        InvocationCache cache = new InvocationCache();
+        Method concat = String.class.getMethod("concat", String.class);
+        Method indexOf = String.class.getMethod("indexOf", String.class);
+        Object[] args = new Object[] { "a" };
+
+        // act
+        cache.put(concat, args, "concat");
+        cache.put(indexOf, args, "indexOf");
+
+        // assert
+        assertThat(cache.get(concat, args)).isEqualTo("concat");
+        assertThat(cache.get(indexOf, args)).isEqualTo("indexOf");
+        assertThat(cache.get(concat, null)).isNull();
+    }
+
+    /**
+     * Tests, that the cache is bounded in size and records evictions.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testSizeBasedEviction() throws Exception {
+        // arrange
+        InvocationCache cache = new InvocationCache(2, 1, TimeUnit.HOURS);
+        Method method = String.class.getMethod("concat", String.class);
+
+        Object[][] args = new Object[5][];
+
+        // act
+        for (int i = 0; i < args.length; i++) {
+            args[i] = new Object[] { "arg" + i };
+            cache.put(method, args[i], "result" + i);
+        }
+
+        // assert
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getStatistics().evictionCount()).isEqualTo(3);
+        assertThat(cache.get(method, args[4])).isEqualTo("result4");
+    }
+
+    /**
+     * Tests, that arguments are compared by identity as they are only weakly referenced.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testArgumentsAreComparedByIdentity() throws Exception {
+        // arrange
+        InvocationCache cache = new InvocationCache();
+        Method method = String.class.getMethod("concat", String.class);
+        String argument = new String("a");
+
+        // act
+        cache.put(method, new Object[] { argument }, "result");
+
+        // assert
+        assertThat(cache.get(method, new Object[] { argument })).isEqualTo("result");
+        assertThat(cache.get(method, new Object[] { new String("a") })).isNull();
+    }
+
+    /**
+     * Tests, that {@code null} results are not cached.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testNullResultsAreNotCached() throws Exception {
+        // arrange
+        InvocationCache cache = new InvocationCache();
+        Method method = String.class.getMethod("concat", String.class);
+
+        // act
+        cache.put(method, new Object[] { "a" }, null);
+
+        // assert
+        assertThat(cache.size()).isEqualTo(0);
+    }
+}
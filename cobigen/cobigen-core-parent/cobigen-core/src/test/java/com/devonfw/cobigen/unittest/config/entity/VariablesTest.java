@@ -0,0 +1,39 @@
+package com.devonfw.cobigen.unittest.config.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.devonfw.cobigen.impl.config.entity.Variables;
+
+/**
+ * Test suite for {@link Variables}.
+ */
+public class VariablesTest {
+
+    /**
+     * Tests, that the flattened hierarchy is shared until any {@link Variables} of the hierarchy is modified.
+     */
+    @Test
+    public void testUnmodifiableMapReflectsModifications() {
+        // arrange
+        Variables parent = new Variables();
+        parent.put("rootPackage", "com.example");
+        Variables child = new Variables(parent);
+        child.put("component", "sales");
+
+        // act
+        Map<String, String> first = child.asUnmodifiableMap();
+        Map<String, String> second = child.asUnmodifiableMap();
+        parent.put("rootPackage", "com.example.changed");
+        Map<String, String> modified = child.asUnmodifiableMap();
+
+        // assert
+        assertThat(second).isSameAs(first);
+        assertThat(first).containsEntry("rootPackage", "com.example").containsEntry("component", "sales");
+        assertThat(modified).containsEntry("rootPackage", "com.example.changed").containsEntry("component",
+            "sales");
+    }
+}
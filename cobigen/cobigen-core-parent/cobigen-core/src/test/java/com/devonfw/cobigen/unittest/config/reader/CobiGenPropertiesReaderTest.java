@@ -0,0 +1,116 @@
+package com.devonfw.cobigen.unittest.config.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Properties;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.devonfw.cobigen.api.constants.ConfigurationConstants;
+import com.devonfw.cobigen.impl.config.reader.CobiGenPropertiesReader;
+
+/**
+ * Test suite for {@link CobiGenPropertiesReader}.
+ */
+public class CobiGenPropertiesReaderTest {
+
+    /** JUnit Rule to create and automatically cleanup temporarily files/folders */
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    /**
+     * Tests, that the properties read are independent of each other although the file is only read once.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testLoadedPropertiesAreIndependent() throws Exception {
+        // arrange
+        CobiGenPropertiesReader reader = new CobiGenPropertiesReader();
+        Path folder = tempFolder.newFolder().toPath();
+        write(folder, "rootPackage=com.example");
+        Properties parent = new Properties();
+        parent.setProperty("component", "parent");
+
+        // act
+        Properties first = reader.load(folder);
+        first.setProperty("rootPackage", "modified");
+        Properties second = reader.load(folder);
+        Properties inherited = reader.load(folder, parent);
+
+        // assert
+        assertThat(second).hasSize(1).containsEntry("rootPackage", "com.example");
+        assertThat(inherited).hasSize(2).containsEntry("rootPackage", "com.example").containsEntry("component",
+            "parent");
+        assertThat(parent).hasSize(1);
+    }
+
+    /**
+     * Tests, that changes of the properties file are recognized.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testChangesAreRecognized() throws Exception {
+        // arrange
+        CobiGenPropertiesReader reader = new CobiGenPropertiesReader();
+        Path folder = tempFolder.newFolder().toPath();
+        write(folder, "rootPackage=com.example");
+        assertThat(reader.load(folder)).containsEntry("rootPackage", "com.example");
+
+        // act
+        write(folder, "rootPackage=com.example.changed");
+        Properties changed = reader.load(folder);
+        Files.delete(folder.resolve(ConfigurationConstants.COBIGEN_PROPERTIES));
+        Properties deleted = reader.load(folder);
+
+        // assert
+        assertThat(changed).containsEntry("rootPackage", "com.example.changed");
+        assertThat(deleted).isEmpty();
+    }
+
+    /**
+     * Tests, that changes of a recently modified properties file are recognized even if neither its size nor its
+     * modification time changed.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testChangesOfSameSizeAndModificationTimeAreRecognized() throws Exception {
+        // arrange
+        CobiGenPropertiesReader reader = new CobiGenPropertiesReader();
+        Path folder = tempFolder.newFolder().toPath();
+        Path file = folder.resolve(ConfigurationConstants.COBIGEN_PROPERTIES);
+        write(folder, "rootPackage=com.example1");
+        FileTime lastModifiedTime = Files.getLastModifiedTime(file);
+        assertThat(reader.load(folder)).containsEntry("rootPackage", "com.example1");
+
+        // act
+        write(folder, "rootPackage=com.example2");
+        Files.setLastModifiedTime(file, lastModifiedTime);
+        Properties changed = reader.load(folder);
+
+        // assert
+        assertThat(changed).containsEntry("rootPackage", "com.example2");
+    }
+
+    /**
+     * Writes the {@link ConfigurationConstants#COBIGEN_PROPERTIES} file of the given folder.
+     * @param folder
+     *            folder to write the file to
+     * @param contents
+     *            contents of the file
+     * @throws Exception
+     *             if the file could not be written
+     */
+    private void write(Path folder, String contents) throws Exception {
+        Files.write(folder.resolve(ConfigurationConstants.COBIGEN_PROPERTIES),
+            contents.getBytes(Charset.forName("UTF-8")));
+    }
+}
@@ -0,0 +1,59 @@
+package com.devonfw.cobigen.unittest.config.resolver;
+
+import org.junit.Ignore;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.cobigen.impl.config.entity.PathExpression;
+import com.devonfw.cobigen.impl.config.entity.Variables;
+import com.devonfw.cobigen.impl.config.resolver.PathExpressionResolver;
+
+/**
+ * Microbenchmark comparing the resolution of destination paths as plain strings with the resolution of
+ * pre-parsed {@link PathExpression}s.
+ */
+public class PathExpressionBenchmark {
+
+    /** Logger instance. */
+    private static final Logger LOG = LoggerFactory.getLogger(PathExpressionBenchmark.class);
+
+    /** Typical destination path of a template */
+    private static final String DESTINATION_PATH =
+        "src/main/java/${variables.rootPackage}/${variables.component}/logic/api/to/$_EntityName_$Eto.java";
+
+    /** Number of resolutions per measurement */
+    private static final int ITERATIONS = 1_000_000;
+
+    /**
+     * Resolves a typical destination path with both approaches and logs the average time per resolution.
+     */
+    @Test
+    @Ignore("Microbenchmark to be run manually. Timings depend on the machine.")
+    public void benchmarkPathResolution() {
+        Variables variables = new Variables();
+        variables.put("rootPackage", "com.devonfw.application.mtsj");
+        variables.put("component", "dishmanagement");
+        variables.put("entityName", "Dish");
+        PathExpressionResolver resolver = new PathExpressionResolver(variables);
+        PathExpression expression = PathExpression.compile(DESTINATION_PATH);
+
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            int length = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                length += resolver.evaluateExpressions(DESTINATION_PATH).length();
+            }
+            long stringTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                length -= resolver.evaluateExpressions(expression).length();
+            }
+            long compiledTime = System.nanoTime() - start;
+
+            LOG.info("Round {}: string {} ns/op, compiled {} ns/op (checksum {})", round,
+                stringTime / ITERATIONS, compiledTime / ITERATIONS, length);
+        }
+    }
+}
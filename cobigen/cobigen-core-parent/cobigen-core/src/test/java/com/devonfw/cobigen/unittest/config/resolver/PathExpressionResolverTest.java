@@ -6,8 +6,10 @@ import net.sf.mmm.util.lang.api.CaseSyntax;
 
 import org.junit.Test;
 
+import com.devonfw.cobigen.impl.config.entity.PathExpression;
 import com.devonfw.cobigen.impl.config.entity.Variables;
 import com.devonfw.cobigen.impl.config.resolver.PathExpressionResolver;
+import com.devonfw.cobigen.impl.exceptions.UnknownContextVariableException;
 
 /**
  * Test suite for {@link PathExpressionResolver}
@@ -130,4 +132,37 @@ public class PathExpressionResolverTest {
             .isEqualTo("foo-PrefixValueSuffix-bar-prefixValueSuffix-some");
         assertThat(target.evaluateExpressions("foo$_VariableName_$bar")).isEqualTo("fooPrefixValueSuffixbar");
     }
+
+    /**
+     * Tests whether pre-parsed {@link PathExpression}s are resolved equivalently to their plain string
+     * representation, including expressions, which cannot be split into segments.
+     */
+    @Test
+    public void testEvaluateCompiledExpressions() {
+        Variables variables = new Variables();
+        variables.put("VariableName", "PrefixValueSuffix");
+        variables.put("PackageName", "my.pkg.name");
+        variables.put("Dollar", "a\\$b");
+        variables.put("Nested", "VariableName");
+        variables.put("Empty", "");
+        PathExpressionResolver resolver = new PathExpressionResolver(variables);
+
+        for (String expression : new String[] { "asdf asdf", "src/${variables.PackageName}/${variableName}.java",
+            "${variables.PackageName?replace('.', '/')}//$_VariableName_$/$_variable_name_$",
+            "a/${Empty}/${Empty}/b", "$_Empty_$/x/${variables.Dollar}", "x/$_${Nested}_$/y", "$${Empty}_VariableName_$",
+            "$_VariableName_$$_VariableName_$" }) {
+            assertThat(resolver.evaluateExpressions(PathExpression.compile(expression))).as(expression)
+                .isEqualTo(resolver.evaluateExpressions(expression));
+        }
+        assertThat(resolver.evaluateExpressions(PathExpression.compile("src/${variables.PackageName}/$_VariableName_$")))
+            .isEqualTo("src/my/pkg/name/PrefixValueSuffix");
+    }
+
+    /**
+     * Tests whether unknown variables are reported by pre-parsed {@link PathExpression}s.
+     */
+    @Test(expected = UnknownContextVariableException.class)
+    public void testEvaluateCompiledExpressionUnknownVariable() {
+        target.evaluateExpressions(PathExpression.compile("src/${variables.unknown}"));
+    }
 }
@@ -0,0 +1,140 @@
+package com.devonfw.cobigen.unittest.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.devonfw.cobigen.api.annotation.LogicScope;
+import com.devonfw.cobigen.api.annotation.LogicScope.Scope;
+import com.devonfw.cobigen.impl.generator.LogicClassInstances;
+import com.google.common.collect.Lists;
+
+/**
+ * Test suite for {@link LogicClassInstances}.
+ */
+public class LogicClassInstancesTest {
+
+    /** Logic class without any state */
+    public static class StatelessLogic {
+        /** Logger like static state does not make a logic class stateful */
+        private static final Object LOCK = new Object();
+    }
+
+    /** Logic class holding state */
+    public static class StatefulLogic {
+        /** State of the logic class */
+        private List<String> collected = Lists.newArrayList();
+    }
+
+    /** Logic class inheriting state */
+    public static class InheritedStatefulLogic extends StatefulLogic {
+    }
+
+    /** Logic class holding state, which is declared to be stateless */
+    @LogicScope(Scope.STATELESS)
+    public static class DeclaredStatelessLogic {
+        /** Cache of the logic class */
+        private Map<String, String> cache;
+    }
+
+    /** Logic class without state, which is declared to be instantiated per generation */
+    @LogicScope(Scope.GENERATION)
+    public static class DeclaredGenerationLogic {
+    }
+
+    /** Logic enum */
+    public enum LogicEnum {
+        /** Single constant */
+        CONSTANT
+    }
+
+    /**
+     * Tests, that stateless logic classes are instantiated once, whereas logic classes of generation scope are
+     * instantiated for each generation.
+     */
+    @Test
+    public void testInstancesAreSharedAccordingToScope() {
+        // arrange
+        LogicClassInstances instances = new LogicClassInstances();
+        List<Class<?>> logicClasses = Lists.newArrayList(StatelessLogic.class, StatefulLogic.class,
+            InheritedStatefulLogic.class, DeclaredStatelessLogic.class, DeclaredGenerationLogic.class,
+            LogicEnum.class);
+
+        // act
+        Map<String, Object> first = instances.getModel(logicClasses);
+        Map<String, Object> second = instances.getModel(logicClasses);
+
+        // assert
+        assertThat(first).containsOnlyKeys("StatelessLogic", "StatefulLogic", "InheritedStatefulLogic",
+            "DeclaredStatelessLogic", "DeclaredGenerationLogic", "LogicEnum");
+        assertThat(second.get("StatelessLogic")).isSameAs(first.get("StatelessLogic"));
+        assertThat(second.get("DeclaredStatelessLogic")).isSameAs(first.get("DeclaredStatelessLogic"));
+        assertThat(second.get("StatefulLogic")).isNotSameAs(first.get("StatefulLogic"));
+        assertThat(second.get("InheritedStatefulLogic")).isNotSameAs(first.get("InheritedStatefulLogic"));
+        assertThat(second.get("DeclaredGenerationLogic")).isNotSameAs(first.get("DeclaredGenerationLogic"));
+        assertThat((Object[]) first.get("LogicEnum")).containsExactly(LogicEnum.CONSTANT);
+    }
+
+    /**
+     * Tests, that logic classes, which cannot be instantiated, are left out of the model.
+     */
+    @Test
+    public void testNonInstantiableClassIsLeftOut() {
+        // arrange
+        LogicClassInstances instances = new LogicClassInstances();
+
+        // act
+        Map<String, Object> model = instances.getModel(Lists.newArrayList(Runnable.class, StatelessLogic.class));
+
+        // assert
+        assertThat(model).containsOnlyKeys("StatelessLogic");
+    }
+
+    /**
+     * Tests, that cached instances do not prevent the class loader of their logic class from being collected.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testClassLoaderCanBeCollected() throws Exception {
+        // arrange
+        LogicClassInstances instances = new LogicClassInstances();
+
+        // act
+        WeakReference<ClassLoader> classLoader = getModelOfSeparateClassLoader(instances);
+        for (int i = 0; i < 20 && classLoader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+
+        // assert
+        assertThat(classLoader.get()).isNull();
+        assertThat(instances.getModel(Lists.newArrayList(StatelessLogic.class))).containsOnlyKeys("StatelessLogic");
+    }
+
+    /**
+     * Loads the {@link StatelessLogic} by a new class loader and retrieves its instance from the given
+     * {@link LogicClassInstances}.
+     * @param instances
+     *            {@link LogicClassInstances} to retrieve the instance from
+     * @return a {@link WeakReference} to the new class loader
+     * @throws Exception
+     *             if the class could not be loaded
+     */
+    private WeakReference<ClassLoader> getModelOfSeparateClassLoader(LogicClassInstances instances)
+        throws Exception {
+        URL testClasses = StatelessLogic.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { testClasses }, null)) {
+            Class<?> logicClass = classLoader.loadClass(StatelessLogic.class.getName());
+            assertThat(logicClass).isNotSameAs(StatelessLogic.class);
+            assertThat(instances.getModel(Lists.newArrayList(logicClass))).containsOnlyKeys("StatelessLogic");
+            return new WeakReference<>(classLoader);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.devonfw.cobigen.unittest.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.Charset;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.devonfw.cobigen.api.extension.MatcherInterpreter;
+import com.devonfw.cobigen.api.extension.TriggerInterpreter;
+import com.devonfw.cobigen.api.to.MatcherTo;
+import com.devonfw.cobigen.api.to.VariableAssignmentTo;
+import com.devonfw.cobigen.impl.aop.InvocationCache;
+import com.devonfw.cobigen.impl.config.entity.ContainerMatcher;
+import com.devonfw.cobigen.impl.config.entity.Matcher;
+import com.devonfw.cobigen.impl.config.entity.Trigger;
+import com.devonfw.cobigen.impl.config.entity.VariableAssignment;
+import com.devonfw.cobigen.impl.config.entity.Variables;
+import com.devonfw.cobigen.impl.config.entity.io.AccumulationType;
+import com.devonfw.cobigen.impl.model.ContextVariableResolver;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+
+/**
+ * Test suite for {@link ContextVariableResolver}.
+ */
+public class ContextVariableResolverTest {
+
+    /**
+     * Tests, that the matchers are only evaluated once per cache, input, and trigger instance and that each
+     * caller receives its own copy of the resolved variables.
+     */
+    @Test
+    public void testVariablesAreResolvedOncePerInput() {
+        // arrange
+        Trigger trigger = createTrigger("cachedTrigger");
+        TriggerInterpreter triggerInterpreter = mock(TriggerInterpreter.class);
+        MatcherInterpreter matcherInterpreter = mock(MatcherInterpreter.class);
+        when(triggerInterpreter.getMatcher()).thenReturn(matcherInterpreter);
+        when(matcherInterpreter.matches(any(MatcherTo.class))).thenReturn(true);
+        when(matcherInterpreter.resolveVariables(any(MatcherTo.class), anyListOf(VariableAssignmentTo.class)))
+            .thenReturn(ImmutableMap.of("rootPackage", "com.example"));
+        Object input = new Object();
+        InvocationCache cache = new InvocationCache();
+
+        // act
+        Variables first = new ContextVariableResolver(input, trigger, cache).resolveVariables(triggerInterpreter);
+        first.put("rootPackage", "modified");
+        Variables second = new ContextVariableResolver(input, trigger, cache).resolveVariables(triggerInterpreter);
+        Map<String, String> otherInput =
+            new ContextVariableResolver(new Object(), trigger, cache).resolveVariables(triggerInterpreter).asMap();
+        new ContextVariableResolver(input, createTrigger("cachedTrigger"), cache)
+            .resolveVariables(triggerInterpreter);
+        new ContextVariableResolver(input, trigger, new InvocationCache()).resolveVariables(triggerInterpreter);
+
+        // assert
+        assertThat(second.get("rootPackage")).isEqualTo("com.example");
+        assertThat(otherInput).containsEntry("rootPackage", "com.example");
+        // an equal trigger of another configuration as well as another cache resolve the variables again
+        verify(matcherInterpreter, times(4)).resolveVariables(any(MatcherTo.class),
+            anyListOf(VariableAssignmentTo.class));
+        assertThat(cache.getStatistics().hitCount()).isEqualTo(1);
+    }
+
+    /**
+     * Creates a trigger with a single matcher.
+     * @param id
+     *            the trigger's id
+     * @return the new {@link Trigger}
+     */
+    private Trigger createTrigger(String id) {
+        Matcher matcher = new Matcher("fqn", "*", Lists.<VariableAssignment> newArrayList(
+            new VariableAssignment("constant", "rootPackage", "com.example")), AccumulationType.OR);
+        return new Trigger(id, "java", "templates", Charset.forName("UTF-8"), Lists.newArrayList(matcher),
+            Lists.<ContainerMatcher> newArrayList());
+    }
+}
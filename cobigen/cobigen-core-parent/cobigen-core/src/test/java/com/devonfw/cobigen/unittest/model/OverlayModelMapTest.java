@@ -0,0 +1,64 @@
+package com.devonfw.cobigen.unittest.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.devonfw.cobigen.impl.model.OverlayModelMap;
+import com.google.common.collect.Maps;
+
+/**
+ * Test suite for {@link OverlayModelMap}.
+ */
+public class OverlayModelMapTest {
+
+    /**
+     * Tests, that modifications of the overlay are visible through the overlay only and never modify the
+     * shared base model.
+     */
+    @Test
+    public void testModificationsDoNotAffectBase() {
+        // arrange
+        Map<String, Object> base = Maps.newHashMap();
+        base.put("pojo", "input");
+        base.put("variables", "base variables");
+        base.put("removed", "value");
+        Map<String, Object> baseCopy = Maps.newHashMap(base);
+
+        // act
+        Map<String, Object> model = new OverlayModelMap(base);
+        model.put("variables", "template variables");
+        model.put("logic", "logic instance");
+        model.remove("removed");
+
+        // assert
+        assertThat(model).hasSize(3).containsEntry("pojo", "input").containsEntry("variables", "template variables")
+            .containsEntry("logic", "logic instance").doesNotContainKey("removed");
+        assertThat(model).isEqualTo(Maps.newHashMap(model));
+        assertThat(base).isEqualTo(baseCopy);
+    }
+
+    /**
+     * Tests, that multiple overlays of the same base model are independent of each other.
+     */
+    @Test
+    public void testOverlaysAreIndependent() {
+        // arrange
+        Map<String, Object> base = Maps.newHashMap();
+        base.put("pojo", "input");
+
+        // act
+        Map<String, Object> first = new OverlayModelMap(base);
+        first.put("variables", "first");
+        Map<String, Object> second = new OverlayModelMap(base);
+        second.put("variables", "second");
+        second.clear();
+
+        // assert
+        assertThat(first).hasSize(2).containsEntry("pojo", "input").containsEntry("variables", "first");
+        assertThat(second).isEmpty();
+        assertThat(base).hasSize(1);
+    }
+}
@@ -2,20 +2,32 @@ package com.devonfw.cobigen.javaplugin.inputreader;
 
 import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,10 +37,17 @@ import com.devonfw.cobigen.api.extension.InputReader;
 import com.devonfw.cobigen.javaplugin.inputreader.to.PackageFolder;
 import com.devonfw.cobigen.javaplugin.merger.libextension.ModifyableClassLibraryBuilder;
 import com.devonfw.cobigen.javaplugin.model.ModelConstant;
+import com.google.common.base.Predicates;
+import com.google.common.base.Throwables;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
-import com.thoughtworks.qdox.library.ClassLibraryBuilder;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.Uninterruptibles;
 import com.thoughtworks.qdox.model.JavaClass;
 import com.thoughtworks.qdox.model.JavaSource;
 import com.thoughtworks.qdox.parser.ParseException;
@@ -42,6 +61,12 @@ public class JavaInputReader implements InputReader {
     /** Logger instance */
     private static final Logger LOG = LoggerFactory.getLogger(JavaInputReader.class);
 
+    /** Name of the cache statistics counter of parsed models served from the {@link JavaModelCache} */
+    public static final String COUNTER_PARSED_MODEL_CACHE_HITS = "cache.java.parsedModels.hits";
+
+    /** Name of the cache statistics counter of parsed models, which had to be built */
+    public static final String COUNTER_PARSED_MODEL_CACHE_MISSES = "cache.java.parsedModels.misses";
+
     @Override
     public boolean isValidInput(Object input) {
 
@@ -75,6 +100,9 @@ public class JavaInputReader implements InputReader {
         return false;
     }
 
+    /**
+     * {@inheritDoc} The models of parsed inputs are looked up in the {@link JavaModelCache} by their sources.
+     */
     @SuppressWarnings("unchecked")
     @Override
     public Map<String, Object> createModel(Object o) {
@@ -83,17 +111,17 @@ public class JavaInputReader implements InputReader {
             return new ReflectedJavaModelBuilder().createModel((Class<?>) o);
         }
         if (o instanceof JavaClass) {
-            return new ParsedJavaModelBuilder().createModel((JavaClass) o);
+            return createParsedModel((JavaClass) o, null);
         }
         if (o instanceof Object[] && isValidInput(o)) {
             Object[] inputArr = (Object[]) o;
             Object parsedModel;
             Object reflectionModel;
             if (inputArr[0] instanceof JavaClass) {
-                parsedModel = new ParsedJavaModelBuilder().createModel((JavaClass) inputArr[0]);
+                parsedModel = createParsedModel((JavaClass) inputArr[0], ((Class<?>) inputArr[1]).getClassLoader());
                 reflectionModel = new ReflectedJavaModelBuilder().createModel((Class<?>) inputArr[1]);
             } else {
-                parsedModel = new ParsedJavaModelBuilder().createModel((JavaClass) inputArr[1]);
+                parsedModel = createParsedModel((JavaClass) inputArr[1], ((Class<?>) inputArr[0]).getClassLoader());
                 reflectionModel = new ReflectedJavaModelBuilder().createModel((Class<?>) inputArr[0]);
             }
             return (Map<String, Object>) mergeModelsRecursively(parsedModel, reflectionModel);
@@ -101,6 +129,78 @@ public class JavaInputReader implements InputReader {
         return null;
     }
 
+    /**
+     * Creates the model of the given parsed {@link JavaClass} or looks it up in the {@link JavaModelCache}.
+     * @param javaClass
+     *            parsed {@link JavaClass}
+     * @param classLoader
+     *            {@link ClassLoader} the {@link JavaClass} has been parsed with or {@code null} if it is not known
+     * @return the model of the class
+     */
+    private Map<String, Object> createParsedModel(JavaClass javaClass, ClassLoader classLoader) {
+        return JavaModelCache.getInstance().getParsedModel(javaClass, classLoader,
+            c -> new ParsedJavaModelBuilder().createModel(c));
+    }
+
+    /**
+     * {@inheritDoc} The fingerprint of a parsed {@link JavaClass} covers the sources of the class and all its
+     * super types, the fingerprint of a {@link Class} the bytecode of the class and all its super classes.
+     */
+    @Override
+    public String getInputFingerprint(Object input) {
+        if (input instanceof JavaClass) {
+            return JavaModelCache.calculateFingerprint((JavaClass) input);
+        } else if (input instanceof Class<?>) {
+            return calculateFingerprint((Class<?>) input);
+        } else if (input instanceof Object[] && isValidInput(input)) {
+            Hasher hasher = Hashing.sha256().newHasher();
+            for (Object element : (Object[]) input) {
+                String fingerprint = getInputFingerprint(element);
+                if (fingerprint == null) {
+                    return null;
+                }
+                hasher.putString(fingerprint, StandardCharsets.UTF_8);
+            }
+            return hasher.hash().toString();
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc} The statistics are the ones of the process-wide {@link JavaModelCache}.
+     */
+    @Override
+    public Map<String, Long> getCacheStatistics() {
+        Map<String, Long> statistics = new HashMap<>();
+        statistics.put(COUNTER_PARSED_MODEL_CACHE_HITS, JavaModelCache.getInstance().getHits());
+        statistics.put(COUNTER_PARSED_MODEL_CACHE_MISSES, JavaModelCache.getInstance().getMisses());
+        return statistics;
+    }
+
+    /**
+     * Calculates the fingerprint of the given {@link Class} based on the bytecode of the class and all its super
+     * classes, which have not been loaded by the bootstrap class loader.
+     * @param clazz
+     *            {@link Class} to calculate the fingerprint for
+     * @return the fingerprint or {@code null} if the bytecode of any class could not be read
+     */
+    private String calculateFingerprint(Class<?> clazz) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        for (Class<?> type = clazz; type != null && type.getClassLoader() != null; type = type.getSuperclass()) {
+            String resource = type.getName().replace('.', '/') + ".class";
+            try (InputStream in = type.getClassLoader().getResourceAsStream(resource)) {
+                if (in == null) {
+                    return null;
+                }
+                hasher.putString(type.getName(), StandardCharsets.UTF_8).putBytes(ByteStreams.toByteArray(in));
+            } catch (IOException e) {
+                LOG.debug("Could not read the bytecode of {}.", type, e);
+                return null;
+            }
+        }
+        return hasher.hash().toString();
+    }
+
     @Override
     public List<Object> getInputObjects(Object input, Charset inputCharset) {
         return getInputObjects(input, inputCharset, false);
@@ -125,48 +225,17 @@ public class JavaInputReader implements InputReader {
         LOG.debug("Retrieve input object for input {} {}", input, recursively ? "recursively" : "");
         List<Object> javaClasses = new LinkedList<>();
         if (input instanceof PackageFolder) {
-            File packageFolder = new File(((PackageFolder) input).getLocation());
-            List<File> files = retrieveAllJavaSourceFiles(packageFolder, recursively);
-            for (File f : files) {
-
-                ClassLibraryBuilder classLibraryBuilder = new ModifyableClassLibraryBuilder();
-                classLibraryBuilder.appendDefaultClassLoaders();
-                ClassLoader containerClassloader = ((PackageFolder) input).getClassLoader();
-                if (containerClassloader != null) {
-                    classLibraryBuilder.appendClassLoader(containerClassloader);
-                }
-                try {
-                    classLibraryBuilder.addSource(new InputStreamReader(new FileInputStream(f), inputCharset));
-                    JavaSource source = null;
-                    for (JavaSource s : classLibraryBuilder.getClassLibrary().getJavaSources()) {
-                        source = s;
-                        // only consider one class per file
-                        break;
-                    }
-                    if (source != null) {
-                        // save cast as given by the customized builder
-                        if (source.getClasses().size() > 0) {
-                            JavaClass javaClass = source.getClasses().get(0);
-
-                            // try loading class
-                            if (containerClassloader != null) {
-                                try {
-                                    Class<?> loadedClass = containerClassloader.loadClass(javaClass.getCanonicalName());
-                                    javaClasses.add(new Object[] { javaClass, loadedClass });
-                                } catch (ClassNotFoundException e) {
-                                    LOG.info("Could not load Java type '{}' with the containers class loader. "
-                                        + "Just returning the parsed Java model.", javaClass.getCanonicalName());
-                                    javaClasses.add(javaClass);
-                                }
-                            } else {
-                                javaClasses.add(javaClass);
-                            }
-                        }
-                    }
-                } catch (IOException e) {
-                    LOG.error("The file {} could not be parsed as a java class", f.getAbsolutePath().toString(), e);
-                }
+            Path packageFolder = Paths.get(((PackageFolder) input).getLocation());
+            List<Path> files = retrieveAllJavaSourceFiles(packageFolder, recursively);
 
+            ClassLoader containerClassloader = ((PackageFolder) input).getClassLoader();
+            List<JavaSource> sources = parseSources(files, inputCharset, containerClassloader);
+
+            for (JavaSource source : sources) {
+                Object inputObject = toInputObject(source, containerClassloader);
+                if (inputObject != null) {
+                    javaClasses.add(inputObject);
+                }
             }
         }
         LOG.debug("{} java classes found!", javaClasses.size());
@@ -174,7 +243,126 @@ public class JavaInputReader implements InputReader {
     }
 
     /**
-     * Retrieves all java source files (with ending *.java) under the package's folder non-recursively
+     * {@inheritDoc}<br>
+     * The java source files of the package will be parsed one by one when requested by the returned
+     * {@link Iterator}.
+     */
+    @Override
+    public Iterator<Object> getInputObjectsLazily(Object input, Charset inputCharset, boolean recursively) {
+        LOG.debug("Retrieve input objects lazily for input {} {}", input, recursively ? "recursively" : "");
+        if (input instanceof PackageFolder) {
+            Path packageFolder = Paths.get(((PackageFolder) input).getLocation());
+            List<Path> files = retrieveAllJavaSourceFiles(packageFolder, recursively);
+            ClassLoader containerClassloader = ((PackageFolder) input).getClassLoader();
+            Iterator<Object> inputObjects = Iterators.transform(files.iterator(),
+                f -> toInputObject(parseSource(f, inputCharset, containerClassloader), containerClassloader));
+            return Iterators.filter(inputObjects, Predicates.notNull());
+        }
+        return Collections.emptyIterator();
+    }
+
+    /**
+     * Converts the given parsed java source file to an input object. If possible, the class will be loaded
+     * with the container's class loader as well.
+     *
+     * @param source
+     *            parsed java source file, might be {@code null}
+     * @param containerClassloader
+     *            {@link ClassLoader} of the container to load the class, might be {@code null}
+     * @return the parsed {@link JavaClass}, an array of the parsed {@link JavaClass} and the loaded
+     *         {@link Class}, or {@code null} if the source does not contain any class
+     */
+    private Object toInputObject(JavaSource source, ClassLoader containerClassloader) {
+        // only consider one class per file
+        if (source == null || source.getClasses().isEmpty()) {
+            return null;
+        }
+        JavaClass javaClass = source.getClasses().get(0);
+
+        // try loading class
+        if (containerClassloader != null) {
+            try {
+                Class<?> loadedClass = containerClassloader.loadClass(javaClass.getCanonicalName());
+                return new Object[] { javaClass, loadedClass };
+            } catch (ClassNotFoundException e) {
+                LOG.info("Could not load Java type '{}' with the containers class loader. "
+                    + "Just returning the parsed Java model.", javaClass.getCanonicalName());
+            }
+        }
+        return javaClass;
+    }
+
+    /**
+     * Parses the given java source files concurrently. Every file is parsed into its own class library, such
+     * that the files do not share any parser state. The files are parsed on a dedicated thread pool bounded by
+     * the number of available processors, which will be shut down after all files have been parsed.
+     *
+     * @param files
+     *            java source files
+     * @param inputCharset
+     *            {@link Charset} to be used to read the files
+     * @param containerClassloader
+     *            {@link ClassLoader} of the container to resolve referenced types, might be {@code null}
+     * @return the parsed {@link JavaSource}s in the order of the given files. Files, which could not be read,
+     *         are represented by {@code null}.
+     */
+    private List<JavaSource> parseSources(List<Path> files, Charset inputCharset, ClassLoader containerClassloader) {
+        List<JavaSource> sources = Lists.newArrayListWithCapacity(files.size());
+        int threads = Math.min(files.size(), Runtime.getRuntime().availableProcessors());
+        if (threads <= 1) {
+            for (Path file : files) {
+                sources.add(parseSource(file, inputCharset, containerClassloader));
+            }
+            return sources;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads,
+            new ThreadFactoryBuilder().setNameFormat("cobigen-java-parser-%d").setDaemon(true).build());
+        try {
+            List<Future<JavaSource>> parsedSources = Lists.newArrayListWithCapacity(files.size());
+            for (Path file : files) {
+                parsedSources.add(executor.submit(() -> parseSource(file, inputCharset, containerClassloader)));
+            }
+            for (Future<JavaSource> parsedSource : parsedSources) {
+                sources.add(Uninterruptibles.getUninterruptibly(parsedSource));
+            }
+        } catch (ExecutionException e) {
+            throw Throwables.propagate(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return sources;
+    }
+
+    /**
+     * Parses the given java source file into a new class library.
+     *
+     * @param file
+     *            java source file
+     * @param inputCharset
+     *            {@link Charset} to be used to read the file
+     * @param containerClassloader
+     *            {@link ClassLoader} of the container to resolve referenced types, might be {@code null}
+     * @return the parsed {@link JavaSource} or {@code null} if the file could not be read
+     */
+    private JavaSource parseSource(Path file, Charset inputCharset, ClassLoader containerClassloader) {
+        ModifyableClassLibraryBuilder classLibraryBuilder = new ModifyableClassLibraryBuilder();
+        classLibraryBuilder.appendDefaultClassLoaders();
+        if (containerClassloader != null) {
+            classLibraryBuilder.appendClassLoader(containerClassloader);
+        }
+        // the InputStreamReader replaces malformed input instead of failing like Files#newBufferedReader
+        try (Reader reader = new InputStreamReader(Files.newInputStream(file), inputCharset)) {
+            return classLibraryBuilder.addSource(reader);
+        } catch (IOException e) {
+            LOG.error("The file {} could not be parsed as a java class", file.toAbsolutePath().toString(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Retrieves all java source files (with ending *.java) under the package's folder. The files of a folder
+     * are listed before the files of its sub folders.
      *
      * @param packageFolder
      *            the package's folder
@@ -183,21 +371,25 @@ public class JavaInputReader implements InputReader {
      * @return the list of files contained in the package's folder
      * @author mbrunnli (03.06.2014)
      */
-    private List<File> retrieveAllJavaSourceFiles(File packageFolder, boolean recursively) {
-
-        List<File> files = new LinkedList<>();
-        List<File> directories = new LinkedList<>();
-        if (packageFolder.isDirectory()) {
-            for (File f : packageFolder.listFiles()) {
-                if (f.isFile() && f.getName().endsWith(".java")) {
-                    files.add(f);
-                    LOG.debug("Found java source {}", f.getAbsolutePath());
-                } else if (f.isDirectory()) {
-                    directories.add(f);
+    private List<Path> retrieveAllJavaSourceFiles(Path packageFolder, boolean recursively) {
+
+        List<Path> files = new ArrayList<>();
+        List<Path> directories = new ArrayList<>();
+        if (Files.isDirectory(packageFolder)) {
+            try (DirectoryStream<Path> children = Files.newDirectoryStream(packageFolder)) {
+                for (Path f : children) {
+                    if (Files.isRegularFile(f) && f.getFileName().toString().endsWith(".java")) {
+                        files.add(f);
+                        LOG.debug("Found java source {}", f.toAbsolutePath());
+                    } else if (Files.isDirectory(f)) {
+                        directories.add(f);
+                    }
                 }
+            } catch (IOException e) {
+                LOG.error("The folder {} could not be read", packageFolder.toAbsolutePath().toString(), e);
             }
             if (recursively) {
-                for (File dir : directories) {
+                for (Path dir : directories) {
                     files.addAll(retrieveAllJavaSourceFiles(dir, recursively));
                 }
             }
@@ -260,6 +452,7 @@ public class JavaInputReader implements InputReader {
      * merged.</td>
      * </tr>
      * </table>
+     * If any of two maps to be merged is a {@link LazyModelMap}, the maps will be merged lazily.
      *
      * @param parsedModel
      *            model created by parsing to be merged and preferred in case of conflicts
@@ -277,6 +470,12 @@ public class JavaInputReader implements InputReader {
             return reflectionModel;
         } else if (reflectionModel == null) {
             return parsedModel;
+        } else if (parsedModel instanceof LazyModelMap || reflectionModel instanceof LazyModelMap) {
+            // do not compare the maps, as this would compute all their values. Merging equal maps results in an
+            // equal map anyhow.
+            if (parsedModel instanceof Map && reflectionModel instanceof Map) {
+                return mergeMapsLazily((Map<String, Object>) parsedModel, (Map<String, Object>) reflectionModel);
+            }
         } else if (parsedModel.equals(reflectionModel)) {
             return parsedModel;
         }
@@ -306,45 +505,8 @@ public class JavaInputReader implements InputReader {
             else if (parsedModel instanceof List && reflectionModel instanceof List) {
                 if (!((List<?>) parsedModel).isEmpty() && ((List<?>) parsedModel).get(0) instanceof Map
                     || !((List<?>) reflectionModel).isEmpty() && ((List<?>) reflectionModel).get(0) instanceof Map) {
-                    List<Map<String, Object>> model1List = Lists.newLinkedList((List<Map<String, Object>>) parsedModel);
-                    List<Map<String, Object>> model2List =
-                        Lists.newLinkedList((List<Map<String, Object>>) reflectionModel);
-                    List<Object> mergedModel = Lists.newLinkedList();
-
-                    // recursively merge list entries. Match them by name attribute. This is currently valid
-                    // and might be adapted if there are greater model changes in future
-                    Iterator<Map<String, Object>> model1ListIt = model1List.iterator();
-                    while (model1ListIt.hasNext()) {
-                        Map<String, Object> model1Entry = model1ListIt.next();
-                        Iterator<Map<String, Object>> model2ListIt = model2List.iterator();
-                        while (model2ListIt.hasNext()) {
-                            Map<String, Object> model2Entry = model2ListIt.next();
-                            // valid merging for fields and methods
-                            if (model1Entry.get(ModelConstant.NAME) != null) {
-                                if (model1Entry.get(ModelConstant.NAME).equals(model2Entry.get(ModelConstant.NAME))) {
-                                    mergedModel.add(mergeModelsRecursively(model1Entry, model2Entry));
-
-                                    // remove both entries as they have been matched and recursively merged
-                                    model1ListIt.remove();
-                                    model2ListIt.remove();
-                                    break;
-                                }
-                            } else
-                            // this is the case for merging recursive annotation arrays
-                            if (model1Entry.size() == 1 && model2Entry.size() == 1) {
-                                mergeModelsRecursively(model1Entry.get(model1Entry.keySet().iterator().next()),
-                                    model2Entry.get(model2Entry.keySet().iterator().next()));
-                            } else {
-                                throw new IllegalStateException(
-                                    "Anything unintended happened. Please state an issue at GitHub or mail one of the developers");
-                            }
-                        }
-                    }
-
-                    // append not matched entries from list1 and list2
-                    mergedModel.addAll(model1List);
-                    mergedModel.addAll(model2List);
-                    return mergedModel;
+                    return mergeModelListsByName((List<Map<String, Object>>) parsedModel,
+                        (List<Map<String, Object>>) reflectionModel);
                 }
                 // we will prefer parsed model if the values of the parsed result list are of type String.
                 // This is the case for annotation values. QDox will always return the expression,
@@ -373,6 +535,104 @@ public class JavaInputReader implements InputReader {
         }
     }
 
+    /**
+     * Merges two lists of model maps as described in {@link #mergeModelsRecursively(Object, Object)}. Each
+     * entry of the parsed list is merged with the first not yet merged entry of the reflected list having the
+     * same {@link ModelConstant#NAME}, which is looked up by an index of the reflected list. The merged
+     * entries are followed by the entries of the parsed list and then by the entries of the reflected list,
+     * which have not been merged.
+     * @param parsedList
+     *            list created by parsing to be merged and preferred in case of conflicts
+     * @param reflectionList
+     *            list created by reflection to be merged
+     * @return the merged list
+     */
+    private List<Object> mergeModelListsByName(List<Map<String, Object>> parsedList,
+        List<Map<String, Object>> reflectionList) {
+
+        // index the reflected entries by name keeping the order of entries with the same name
+        Map<Object, Deque<Integer>> reflectionIndex = Maps.newHashMap();
+        int unmatchedReflectionEntries = 0;
+        int unmatchedNonSingletonReflectionEntries = 0;
+        for (int i = 0; i < reflectionList.size(); i++) {
+            Map<String, Object> reflectionEntry = reflectionList.get(i);
+            Object name = reflectionEntry.get(ModelConstant.NAME);
+            if (name != null) {
+                reflectionIndex.computeIfAbsent(name, k -> new ArrayDeque<>()).add(i);
+            }
+            unmatchedReflectionEntries++;
+            if (reflectionEntry.size() != 1) {
+                unmatchedNonSingletonReflectionEntries++;
+            }
+        }
+
+        List<Object> mergedModel = Lists.newArrayListWithCapacity(parsedList.size() + reflectionList.size());
+        List<Map<String, Object>> unmatchedParsedEntries = Lists.newArrayList();
+        boolean[] matchedReflectionEntries = new boolean[reflectionList.size()];
+        for (Map<String, Object> parsedEntry : parsedList) {
+            Object name = parsedEntry.get(ModelConstant.NAME);
+            // valid merging for fields and methods
+            if (name != null) {
+                Deque<Integer> candidates = reflectionIndex.get(name);
+                if (candidates != null && !candidates.isEmpty()) {
+                    int match = candidates.poll();
+                    Map<String, Object> reflectionEntry = reflectionList.get(match);
+                    mergedModel.add(mergeModelsRecursively(parsedEntry, reflectionEntry));
+                    matchedReflectionEntries[match] = true;
+                    unmatchedReflectionEntries--;
+                    if (reflectionEntry.size() != 1) {
+                        unmatchedNonSingletonReflectionEntries--;
+                    }
+                } else {
+                    unmatchedParsedEntries.add(parsedEntry);
+                }
+            } else {
+                // this is the case for recursive annotation arrays, which are not merged but appended
+                if (parsedEntry.size() == 1 ? unmatchedNonSingletonReflectionEntries > 0
+                    : unmatchedReflectionEntries > 0) {
+                    throw new IllegalStateException(
+                        "Anything unintended happened. Please state an issue at GitHub or mail one of the developers");
+                }
+                unmatchedParsedEntries.add(parsedEntry);
+            }
+        }
+
+        // append not matched entries from both lists
+        mergedModel.addAll(unmatchedParsedEntries);
+        for (int i = 0; i < reflectionList.size(); i++) {
+            if (!matchedReflectionEntries[i]) {
+                mergedModel.add(reflectionList.get(i));
+            }
+        }
+        return mergedModel;
+    }
+
+    /**
+     * Merges two maps as described in {@link #mergeModelsRecursively(Object, Object)}, whereas the values of
+     * the merged map will only be merged on first access.
+     * @param parsedModel
+     *            model created by parsing to be merged and preferred in case of conflicts
+     * @param reflectionModel
+     *            model created by reflection to be merged
+     * @return the merged {@link LazyModelMap}
+     */
+    private LazyModelMap mergeMapsLazily(Map<String, Object> parsedModel, Map<String, Object> reflectionModel) {
+        LazyModelMap mergedModel = new LazyModelMap();
+        Set<String> union = Sets.newLinkedHashSet(parsedModel.keySet());
+        union.addAll(reflectionModel.keySet());
+        for (String unionKey : union) {
+            if (parsedModel.containsKey(unionKey) && reflectionModel.containsKey(unionKey)) {
+                mergedModel.putLazy(unionKey,
+                    () -> mergeModelsRecursively(parsedModel.get(unionKey), reflectionModel.get(unionKey)));
+            } else if (parsedModel.containsKey(unionKey)) {
+                mergedModel.putLazy(unionKey, () -> parsedModel.get(unionKey));
+            } else {
+                mergedModel.putLazy(unionKey, () -> reflectionModel.get(unionKey));
+            }
+        }
+        return mergedModel;
+    }
+
     /**
      * Reads the data at the specified path.
      * @param path
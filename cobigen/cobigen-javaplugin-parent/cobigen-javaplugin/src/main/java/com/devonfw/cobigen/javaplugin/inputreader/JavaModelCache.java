@@ -0,0 +1,258 @@
+package com.devonfw.cobigen.javaplugin.inputreader;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.thoughtworks.qdox.model.JavaClass;
+
+/**
+ * Process-wide cache of the models created for parsed java inputs. Models are looked up by the
+ * {@link ClassLoader} used to resolve the referenced types and the content of the parsed sources of a
+ * {@link JavaClass} and its super types, such that re-parsing an unchanged source does not result in building
+ * the model again. The model of an input processed by multiple templates is already built only once per
+ * generation by the generator itself, thus inputs are not cached by identity. The cache is bounded in size and
+ * only softly references the models, such that they can be discarded on memory pressure.
+ * {@link ClassLoader ClassLoaders} are only weakly referenced. The cached models are kept as built, such that
+ * their {@link LazyModelMap lazily computed} values are only computed if read by any caller. Each caller gets
+ * its own copy of the cached model, whose values are copied from the cached model on first access.
+ */
+public class JavaModelCache {
+
+    /** Logger instance */
+    private static final Logger LOG = LoggerFactory.getLogger(JavaModelCache.class);
+
+    /** Default maximum number of models cached per level */
+    public static final long DEFAULT_MAXIMUM_SIZE = 1000;
+
+    /** Key of the parsed models, which have been created without any specific {@link ClassLoader} */
+    private static final Object DEFAULT_CLASSLOADER = new Object();
+
+    /** Process-wide instance */
+    private static final JavaModelCache INSTANCE = new JavaModelCache(DEFAULT_MAXIMUM_SIZE);
+
+    /** Parsed models mapped by the {@link ClassLoader} and the fingerprint of their sources */
+    private final LoadingCache<Object, Cache<String, Map<String, Object>>> parsedModels;
+
+    /** Number of models served from the cache */
+    private final AtomicLong hits = new AtomicLong();
+
+    /** Number of models, which had to be built */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Creates a new cache.
+     * @param maximumSize
+     *            maximum number of models cached per {@link ClassLoader}
+     */
+    public JavaModelCache(final long maximumSize) {
+        parsedModels =
+            CacheBuilder.newBuilder().weakKeys().build(new CacheLoader<Object, Cache<String, Map<String, Object>>>() {
+                @Override
+                public Cache<String, Map<String, Object>> load(Object classLoader) {
+                    return CacheBuilder.newBuilder().softValues().maximumSize(maximumSize).build();
+                }
+            });
+    }
+
+    /**
+     * @return the process-wide {@link JavaModelCache}
+     */
+    public static JavaModelCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the cached model of the given parsed {@link JavaClass} or creates and caches it. The model is looked
+     * up by the given {@link ClassLoader} and the contents of the sources of the class and all its super types.
+     * @param javaClass
+     *            parsed {@link JavaClass}
+     * @param classLoader
+     *            {@link ClassLoader} the {@link JavaClass} has been parsed with to resolve the referenced types or
+     *            {@code null} if it has been parsed with the default class loaders only
+     * @param modelFactory
+     *            function creating the model of the class
+     * @return a copy of the cached model, such that it can be changed without affecting the cache
+     */
+    public Map<String, Object> getParsedModel(JavaClass javaClass, ClassLoader classLoader,
+        Function<JavaClass, Map<String, Object>> modelFactory) {
+        String fingerprint = calculateFingerprint(javaClass);
+        if (fingerprint == null) {
+            misses.incrementAndGet();
+            return modelFactory.apply(javaClass);
+        }
+
+        Cache<String, Map<String, Object>> models =
+            parsedModels.getUnchecked(classLoader != null ? classLoader : DEFAULT_CLASSLOADER);
+        Map<String, Object> model = models.getIfPresent(fingerprint);
+        if (model == null) {
+            misses.incrementAndGet();
+            model = modelFactory.apply(javaClass);
+            if (model == null) {
+                return null;
+            }
+            models.put(fingerprint, model);
+        } else {
+            hits.incrementAndGet();
+        }
+        return copy(model);
+    }
+
+    /**
+     * @return the number of parsed models served from the cache
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of parsed models, which had to be built
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Discards all models cached in memory.
+     */
+    public void invalidateAll() {
+        for (Cache<String, Map<String, Object>> models : parsedModels.asMap().values()) {
+            models.invalidateAll();
+        }
+        parsedModels.invalidateAll();
+    }
+
+    /**
+     * Calculates the fingerprint of the given {@link JavaClass} based on its source as well as the sources of
+     * all its super classes and implemented interfaces.
+     * @param javaClass
+     *            parsed {@link JavaClass}
+     * @return the fingerprint or {@code null} if it could not be determined
+     */
+    static String calculateFingerprint(JavaClass javaClass) {
+        try {
+            Hasher hasher = Hashing.sha256().newHasher();
+            String version = JavaModelCache.class.getPackage().getImplementationVersion();
+            hasher.putString(String.valueOf(version), StandardCharsets.UTF_8);
+
+            // QDox resolves the super types lazily and is not thread-safe
+            synchronized (JavaParserUtil.getLibraryLock(javaClass)) {
+                Set<String> visited = Sets.newHashSet();
+                Deque<JavaClass> types = Lists.newLinkedList();
+                types.add(javaClass);
+                while (!types.isEmpty()) {
+                    JavaClass type = types.pop();
+                    if (!visited.add(type.getFullyQualifiedName())) {
+                        continue;
+                    }
+                    String code =
+                        type.getSource() != null ? type.getSource().getCodeBlock() : type.getCodeBlock();
+                    hasher.putString(type.getFullyQualifiedName(), StandardCharsets.UTF_8).putString(code,
+                        StandardCharsets.UTF_8);
+                    if (type.getSuperJavaClass() != null) {
+                        types.add(type.getSuperJavaClass());
+                    }
+                    types.addAll(type.getInterfaces());
+                }
+            }
+            return hasher.hash().toString();
+        } catch (RuntimeException e) {
+            LOG.debug("Could not calculate the fingerprint of {}. Model will not be cached.",
+                javaClass.getFullyQualifiedName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Copies the given model recursively, whereas all {@link Map Maps} and {@link Collection Collections} are
+     * copied. {@link LazyModelMap LazyModelMaps} are copied lazily, i.e. each value is copied from the original
+     * on first access only, such that values not read by any caller will not be computed. {@link HashMap
+     * HashMaps} and {@link LinkedList LinkedLists} are copied to the same type, as the model merge only merges
+     * values of the same type. Instances referenced multiple times within the model will also be referenced
+     * multiple times within the copy.
+     * @param model
+     *            model to be copied
+     * @return the copy of the model
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> copy(Map<String, Object> model) {
+        Map<Object, Object> copies = new IdentityHashMap<>();
+        // all lazy copies share the copies mapping, thus they have to share a lock as well
+        return (Map<String, Object>) copy(model, copies, copies);
+    }
+
+    /**
+     * Copies the given model value recursively as described in {@link #copy(Map)}.
+     * @param value
+     *            model value to be copied
+     * @param copies
+     *            the copies of all maps and collections copied so far mapped by their originals
+     * @param lock
+     *            lock shared by all {@link LazyModelMap LazyModelMaps} of the copy
+     * @return the copy of the value
+     */
+    private static Object copy(Object value, Map<Object, Object> copies, Object lock) {
+        if (!(value instanceof Map) && !(value instanceof Collection)) {
+            return value;
+        }
+        Object copy = copies.get(value);
+        if (copy != null) {
+            return copy;
+        }
+        if (value instanceof LazyModelMap) {
+            LazyModelMap original = (LazyModelMap) value;
+            LazyModelMap map = new LazyModelMap(lock);
+            copies.put(value, map);
+            for (String key : original.keySet()) {
+                map.putLazy(key, () -> copy(original.get(key), copies, lock));
+            }
+            return map;
+        } else if (value instanceof Map) {
+            Map<Object, Object> map = value instanceof HashMap && !(value instanceof LinkedHashMap)
+                ? Maps.newHashMap() : Maps.newLinkedHashMap();
+            copies.put(value, map);
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                map.put(entry.getKey(), copy(entry.getValue(), copies, lock));
+            }
+            return map;
+        } else if (value instanceof Set) {
+            Set<Object> set = value instanceof HashSet && !(value instanceof LinkedHashSet) ? Sets.newHashSet()
+                : Sets.newLinkedHashSet();
+            copies.put(value, set);
+            for (Object element : (Collection<?>) value) {
+                set.add(copy(element, copies, lock));
+            }
+            return set;
+        } else {
+            List<Object> list = value instanceof LinkedList ? Lists.newLinkedList() : Lists.newArrayList();
+            copies.put(value, list);
+            for (Object element : (Collection<?>) value) {
+                list.add(copy(element, copies, lock));
+            }
+            return list;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.io.Reader;
 
 import com.devonfw.cobigen.javaplugin.merger.libextension.ModifyableClassLibraryBuilder;
 import com.devonfw.cobigen.javaplugin.merger.libextension.ModifyableJavaClass;
+import com.thoughtworks.qdox.library.ClassLibrary;
 import com.thoughtworks.qdox.library.ClassLibraryBuilder;
 import com.thoughtworks.qdox.model.JavaClass;
 import com.thoughtworks.qdox.model.JavaSource;
@@ -65,6 +66,19 @@ public class JavaParserUtil {
         return targetClass;
     }
 
+    /**
+     * Returns the lock to synchronize on when accessing the given {@link JavaClass}. As QDox resolves types
+     * lazily and is not thread-safe, all classes of the same {@link ClassLibrary} share the same lock.
+     *
+     * @param javaClass
+     *            the {@link JavaClass} to be accessed
+     * @return the {@link ClassLibrary} of the given class or the class itself if it has no library
+     */
+    public static Object getLibraryLock(JavaClass javaClass) {
+        ClassLibrary library = javaClass.getJavaClassLibrary();
+        return library != null ? library : javaClass;
+    }
+
     /**
      * Converts the String representation of a canonical type into a String which represents the simple type.
      * E.g.:
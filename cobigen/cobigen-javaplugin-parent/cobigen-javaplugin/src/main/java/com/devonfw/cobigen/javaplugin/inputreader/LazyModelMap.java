@@ -0,0 +1,154 @@
+package com.devonfw.cobigen.javaplugin.inputreader;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * Model {@link Map}, whose values might be computed on first access. Values are computed at most once and
+ * memoised afterwards, such that templates only pay for the model entries they actually read. Keys are known
+ * in advance, thus {@link #containsKey(Object)}, {@link #keySet()}, and {@link #size()} do not compute any
+ * value, whereas iterating the {@link #entrySet()} computes all values. The map can be read by multiple
+ * threads concurrently. As the values might be computed from non thread-safe sources, all accesses are
+ * synchronized on a lock, which can be shared by all models computed from the same source. If the system
+ * property {@value #EAGER_PROPERTY} is set to {@code true}, all values will be computed immediately.
+ */
+public class LazyModelMap extends AbstractMap<String, Object> {
+
+    /** System property to disable the lazy computation of model values */
+    public static final String EAGER_PROPERTY = "cobigen.javaplugin.model.eager";
+
+    /** Values of the model. Values not computed so far are mapped to {@link #UNRESOLVED}. */
+    private final Map<String, Object> values = Maps.newLinkedHashMap();
+
+    /** Suppliers of the values not computed so far */
+    private final Map<String, Supplier<?>> suppliers = Maps.newHashMap();
+
+    /** States, whether the values should be computed immediately */
+    private final boolean eager = Boolean.getBoolean(EAGER_PROPERTY);
+
+    /** Marker for values not computed so far */
+    private static final Object UNRESOLVED = new Object();
+
+    /** Lock all accesses are synchronized on */
+    private final Object lock;
+
+    /**
+     * Creates a new model synchronizing all accesses on itself.
+     */
+    public LazyModelMap() {
+        lock = this;
+    }
+
+    /**
+     * Creates a new model synchronizing all accesses on the given lock.
+     * @param lock
+     *            lock to synchronize on. Should be shared by all models, whose values are computed from the
+     *            same non thread-safe source.
+     */
+    public LazyModelMap(Object lock) {
+        this.lock = lock;
+    }
+
+    /**
+     * Adds a value to the model, which will be computed on first access.
+     * @param key
+     *            key of the value
+     * @param supplier
+     *            {@link Supplier} computing the value. The value might be {@code null}.
+     * @return {@code this} for chaining
+     */
+    public LazyModelMap putLazy(String key, Supplier<?> supplier) {
+        synchronized (lock) {
+            if (eager) {
+                values.put(key, supplier.get());
+            } else {
+                values.put(key, UNRESOLVED);
+                suppliers.put(key, supplier);
+            }
+            return this;
+        }
+    }
+
+    @Override
+    public Object get(Object key) {
+        synchronized (lock) {
+            Object value = values.get(key);
+            if (value == UNRESOLVED) {
+                value = suppliers.remove(key).get();
+                values.put((String) key, value);
+            }
+            return value;
+        }
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        synchronized (lock) {
+            return values.containsKey(key);
+        }
+    }
+
+    @Override
+    public int size() {
+        synchronized (lock) {
+            return values.size();
+        }
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        synchronized (lock) {
+            suppliers.remove(key);
+            Object previous = values.put(key, value);
+            return previous != UNRESOLVED ? previous : null;
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        synchronized (lock) {
+            suppliers.remove(key);
+            Object previous = values.remove(key);
+            return previous != UNRESOLVED ? previous : null;
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (lock) {
+            suppliers.clear();
+            values.clear();
+        }
+    }
+
+    /**
+     * {@inheritDoc} The returned set is an unmodifiable snapshot of the current keys.
+     */
+    @Override
+    public Set<String> keySet() {
+        synchronized (lock) {
+            return Collections.unmodifiableSet(Sets.newLinkedHashSet(values.keySet()));
+        }
+    }
+
+    /**
+     * {@inheritDoc} Computes all values not computed so far. The returned set is an unmodifiable snapshot of
+     * the current entries.
+     */
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        synchronized (lock) {
+            Map<String, Object> snapshot = Maps.newLinkedHashMap();
+            for (String key : values.keySet().toArray(new String[0])) {
+                snapshot.put(key, get(key));
+            }
+            return Collections.unmodifiableMap(snapshot).entrySet();
+        }
+    }
+}
@@ -48,43 +48,51 @@ public class ParsedJavaModelBuilder {
         }
         cachedPojo = javaClass;
 
+        // QDox is not thread-safe, thus synchronize all accesses to the class library, including the lazy ones
+        Object lock = JavaParserUtil.getLibraryLock(javaClass);
         cachedModel = new HashMap<>();
-        Map<String, Object> pojoModel = new HashMap<>();
-        pojoModel.put(ModelConstant.NAME, javaClass.getName());
-        if (javaClass.getPackage() != null) {
-            pojoModel.put(ModelConstant.PACKAGE, javaClass.getPackage().getName());
-        } else {
-            pojoModel.put(ModelConstant.PACKAGE, "");
-        }
-        pojoModel.put(ModelConstant.CANONICAL_NAME, javaClass.getCanonicalName());
-
-        Map<String, String> javaDoc = extractJavaDoc(javaClass);
-        if (javaDoc != null) {
-            pojoModel.put(ModelConstant.JAVADOC, javaDoc);
-        }
-
-        Map<String, Object> annotations = new HashMap<>();
-        extractAnnotationsRecursively(annotations, javaClass.getAnnotations());
-        pojoModel.put(ModelConstant.ANNOTATIONS, annotations);
-
-        List<Map<String, Object>> fields = extractFields(javaClass);
-        pojoModel.put(ModelConstant.FIELDS_DEPRECATED, fields);
-        pojoModel.put(ModelConstant.FIELDS, fields);
-        determinePojoIds(javaClass, fields);
-        collectAnnotations(javaClass, fields);
-
-        List<Map<String, Object>> accessibleAttributes = extractMethodAccessibleFields(javaClass);
-        pojoModel.put(ModelConstant.METHOD_ACCESSIBLE_FIELDS, accessibleAttributes);
-        determinePojoIds(javaClass, accessibleAttributes);
-        collectAnnotations(javaClass, accessibleAttributes);
-
-        Map<String, Object> superclass = extractSuperclass(javaClass);
-        pojoModel.put(ModelConstant.EXTENDED_TYPE, superclass);
+        LazyModelMap pojoModel = new LazyModelMap(lock);
+        synchronized (lock) {
+            pojoModel.put(ModelConstant.NAME, javaClass.getName());
+            if (javaClass.getPackage() != null) {
+                pojoModel.put(ModelConstant.PACKAGE, javaClass.getPackage().getName());
+            } else {
+                pojoModel.put(ModelConstant.PACKAGE, "");
+            }
+            pojoModel.put(ModelConstant.CANONICAL_NAME, javaClass.getCanonicalName());
 
-        List<Map<String, Object>> interfaces = extractInterfaces(javaClass);
-        pojoModel.put(ModelConstant.IMPLEMENTED_TYPES, interfaces);
+            Map<String, String> javaDoc = extractJavaDoc(javaClass);
+            if (javaDoc != null) {
+                pojoModel.put(ModelConstant.JAVADOC, javaDoc);
+            }
 
-        pojoModel.put(ModelConstant.METHODS, extractMethods(javaClass));
+            // the following entries are only computed if accessed by a template
+            pojoModel.putLazy(ModelConstant.ANNOTATIONS, () -> {
+                Map<String, Object> annotations = new HashMap<>();
+                extractAnnotationsRecursively(annotations, javaClass.getAnnotations());
+                return annotations;
+            });
+
+            pojoModel.putLazy(ModelConstant.FIELDS, () -> {
+                List<Map<String, Object>> fields = extractFields(javaClass);
+                determinePojoIds(javaClass, fields);
+                collectAnnotations(javaClass, fields);
+                return fields;
+            });
+            // serve the same list instance for the deprecated key
+            pojoModel.putLazy(ModelConstant.FIELDS_DEPRECATED, () -> pojoModel.get(ModelConstant.FIELDS));
+
+            pojoModel.putLazy(ModelConstant.METHOD_ACCESSIBLE_FIELDS, () -> {
+                List<Map<String, Object>> accessibleAttributes = extractMethodAccessibleFields(javaClass);
+                determinePojoIds(javaClass, accessibleAttributes);
+                collectAnnotations(javaClass, accessibleAttributes);
+                return accessibleAttributes;
+            });
+
+            pojoModel.putLazy(ModelConstant.EXTENDED_TYPE, () -> extractSuperclass(javaClass));
+            pojoModel.putLazy(ModelConstant.IMPLEMENTED_TYPES, () -> extractInterfaces(javaClass));
+            pojoModel.putLazy(ModelConstant.METHODS, () -> extractMethods(javaClass));
+        }
         cachedModel.put(ModelConstant.MODEL_ROOT, pojoModel);
 
         return new HashMap<>(cachedModel);
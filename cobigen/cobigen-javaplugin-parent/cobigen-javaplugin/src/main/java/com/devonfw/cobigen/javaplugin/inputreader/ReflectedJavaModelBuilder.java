@@ -62,7 +62,7 @@ public class ReflectedJavaModelBuilder {
         cachedPojo = pojo;
 
         cachedModel = new HashMap<>();
-        Map<String, Object> pojoModel = new HashMap<>();
+        LazyModelMap pojoModel = new LazyModelMap();
         pojoModel.put(ModelConstant.NAME, pojo.getSimpleName());
         if (pojo.getPackage() != null) {
             pojoModel.put(ModelConstant.PACKAGE, pojo.getPackage().getName());
@@ -71,28 +71,32 @@ public class ReflectedJavaModelBuilder {
         }
         pojoModel.put(ModelConstant.CANONICAL_NAME, pojo.getCanonicalName());
 
-        Map<String, Object> annotations = new HashMap<>();
-        extractAnnotationsRecursively(annotations, pojo.getAnnotations());
-        pojoModel.put(ModelConstant.ANNOTATIONS, annotations);
-
-        List<Map<String, Object>> attributes = extractFields(pojo);
-        pojoModel.put(ModelConstant.FIELDS_DEPRECATED, attributes);
-        pojoModel.put(ModelConstant.FIELDS, attributes);
-        determinePojoIds(pojo, attributes);
-        collectAnnotations(pojo, attributes);
-
-        List<Map<String, Object>> accessibleAttributes = extractMethodAccessibleFields(pojo);
-        pojoModel.put(ModelConstant.METHOD_ACCESSIBLE_FIELDS, accessibleAttributes);
-        determinePojoIds(pojo, accessibleAttributes);
-        collectAnnotations(pojo, accessibleAttributes);
-
-        Map<String, Object> superclass = extractSuperclass(pojo);
-        pojoModel.put(ModelConstant.EXTENDED_TYPE, superclass);
-
-        List<Map<String, Object>> interfaces = extractInterfaces(pojo);
-        pojoModel.put(ModelConstant.IMPLEMENTED_TYPES, interfaces);
-
-        pojoModel.put(ModelConstant.METHODS, extractMethods(pojo));
+        // the following entries are only computed if accessed by a template
+        pojoModel.putLazy(ModelConstant.ANNOTATIONS, () -> {
+            Map<String, Object> annotations = new HashMap<>();
+            extractAnnotationsRecursively(annotations, pojo.getAnnotations());
+            return annotations;
+        });
+
+        pojoModel.putLazy(ModelConstant.FIELDS, () -> {
+            List<Map<String, Object>> attributes = extractFields(pojo);
+            determinePojoIds(pojo, attributes);
+            collectAnnotations(pojo, attributes);
+            return attributes;
+        });
+        // serve the same list instance for the deprecated key
+        pojoModel.putLazy(ModelConstant.FIELDS_DEPRECATED, () -> pojoModel.get(ModelConstant.FIELDS));
+
+        pojoModel.putLazy(ModelConstant.METHOD_ACCESSIBLE_FIELDS, () -> {
+            List<Map<String, Object>> accessibleAttributes = extractMethodAccessibleFields(pojo);
+            determinePojoIds(pojo, accessibleAttributes);
+            collectAnnotations(pojo, accessibleAttributes);
+            return accessibleAttributes;
+        });
+
+        pojoModel.putLazy(ModelConstant.EXTENDED_TYPE, () -> extractSuperclass(pojo));
+        pojoModel.putLazy(ModelConstant.IMPLEMENTED_TYPES, () -> extractInterfaces(pojo));
+        pojoModel.putLazy(ModelConstant.METHODS, () -> extractMethods(pojo));
         cachedModel.put(ModelConstant.MODEL_ROOT, pojoModel);
         cachedModel.put(ModelConstant.CLASS_OBJECT, pojo);
 
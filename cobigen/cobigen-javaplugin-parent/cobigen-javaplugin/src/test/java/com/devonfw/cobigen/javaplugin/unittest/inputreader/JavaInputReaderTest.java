@@ -4,12 +4,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.File;
 import java.io.FileReader;
+import java.io.StringReader;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.io.Charsets;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import com.devonfw.cobigen.javaplugin.inputreader.JavaInputReader;
 import com.devonfw.cobigen.javaplugin.inputreader.JavaParserUtil;
@@ -34,6 +40,10 @@ public class JavaInputReaderTest {
      */
     private static String testFileRootPath = "src/test/resources/testdata/unittest/inputreader/";
 
+    /** Temporary folder for test files */
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
     /**
      * Tests whether both features can be used when providing parsed and reflected inputs for one java class
      *
@@ -277,4 +287,85 @@ public class JavaInputReaderTest {
         assertThat(simpleNames).containsExactly("RootClass", "SuperClass1", "SuperClass2");
     }
 
+    /**
+     * Tests whether the input objects of a container with many java files are returned in the order of the
+     * files, although the files are parsed concurrently.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testGetInputObjects_resultOrderOfManyFiles() throws Exception {
+        File packageFolder = tmpFolder.newFolder("manyFiles");
+        List<String> expectedNames = Lists.newArrayList();
+        for (int i = 0; i < 100; i++) {
+            String className = "Class" + i;
+            Files.write(new File(packageFolder, className + ".java").toPath(),
+                ("package com.example;\npublic class " + className + " {}").getBytes(StandardCharsets.UTF_8));
+        }
+        for (String fileName : packageFolder.list()) {
+            expectedNames.add(fileName.substring(0, fileName.length() - ".java".length()));
+        }
+        PackageFolder pkg = new PackageFolder(packageFolder.toURI(), "com.example");
+
+        List<Object> list = new JavaInputReader().getInputObjects(pkg, Charsets.UTF_8);
+
+        List<String> simpleNames = Lists.newArrayList();
+        for (Object o : list) {
+            simpleNames.add(((JavaClass) o).getName());
+        }
+        assertThat(simpleNames).containsExactlyElementsOf(expectedNames);
+    }
+
+    /**
+     * Tests whether the lazily retrieved input objects equal the eagerly retrieved ones and whether the java
+     * files are only parsed when requested.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testGetInputObjectsLazily() throws Exception {
+        File packageFolder = tmpFolder.newFolder("lazyFiles");
+        for (String className : new String[] { "First", "Second" }) {
+            Files.write(new File(packageFolder, className + ".java").toPath(),
+                ("package com.example;\npublic class " + className + " {}").getBytes(StandardCharsets.UTF_8));
+        }
+        PackageFolder pkg = new PackageFolder(packageFolder.toURI(), "com.example");
+        JavaInputReader inputReader = new JavaInputReader();
+
+        List<String> eagerNames = Lists.newArrayList();
+        for (Object o : inputReader.getInputObjects(pkg, Charsets.UTF_8)) {
+            eagerNames.add(((JavaClass) o).getName());
+        }
+        List<String> lazyNames = Lists.newArrayList();
+        Iterator<Object> lazyInputObjects = inputReader.getInputObjectsLazily(pkg, Charsets.UTF_8, false);
+        while (lazyInputObjects.hasNext()) {
+            lazyNames.add(((JavaClass) lazyInputObjects.next()).getName());
+        }
+        assertThat(lazyNames).containsExactlyElementsOf(eagerNames);
+
+        // the second file has been deleted before it has been requested and thus will not be read anymore
+        lazyInputObjects = inputReader.getInputObjectsLazily(pkg, Charsets.UTF_8, false);
+        assertThat(((JavaClass) lazyInputObjects.next()).getName()).isEqualTo(eagerNames.get(0));
+        Files.delete(new File(packageFolder, eagerNames.get(1) + ".java").toPath());
+        assertThat(lazyInputObjects.hasNext()).isFalse();
+    }
+
+    /**
+     * Tests, that the input fingerprint only changes if the source of the input changes.
+     */
+    @Test
+    public void testGetInputFingerprint() {
+        JavaInputReader inputReader = new JavaInputReader();
+        String source = "package com.example;\npublic class Foo { private String name; }";
+        JavaClass first = JavaParserUtil.getFirstJavaClass(new StringReader(source));
+        JavaClass second = JavaParserUtil.getFirstJavaClass(new StringReader(source));
+        JavaClass changed = JavaParserUtil.getFirstJavaClass(new StringReader(source.replace("name", "label")));
+
+        assertThat(inputReader.getInputFingerprint(first)).isNotNull()
+            .isEqualTo(inputReader.getInputFingerprint(second))
+            .isNotEqualTo(inputReader.getInputFingerprint(changed));
+        assertThat(inputReader.getInputFingerprint(TestClass.class)).isNotNull()
+            .isNotEqualTo(inputReader.getInputFingerprint(TestClassWithAnnotations.class));
+        assertThat(inputReader.getInputFingerprint(new Object())).isNull();
+    }
 }
@@ -0,0 +1,170 @@
+package com.devonfw.cobigen.javaplugin.unittest.inputreader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.devonfw.cobigen.javaplugin.inputreader.JavaInputReader;
+import com.devonfw.cobigen.javaplugin.inputreader.JavaModelCache;
+import com.devonfw.cobigen.javaplugin.inputreader.JavaParserUtil;
+import com.devonfw.cobigen.javaplugin.inputreader.LazyModelMap;
+import com.devonfw.cobigen.javaplugin.model.JavaModelUtil;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.thoughtworks.qdox.model.JavaClass;
+
+/**
+ * Test suite for the {@link JavaModelCache}.
+ */
+public class JavaModelCacheTest {
+
+    /** Source of a simple test class */
+    private static final String SOURCE = "package com.example;\npublic class Pojo {\n    private String name;\n}";
+
+    /**
+     * Tests whether the model of a re-parsed but unchanged source is served from the cache, whereas a changed
+     * source results in a new model.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testParsedModelIsLookedUpBySource() throws Exception {
+        JavaModelCache cache = new JavaModelCache(10);
+
+        Map<String, Object> model1 = createParsedModel(cache, SOURCE);
+        Map<String, Object> model2 = createParsedModel(cache, SOURCE);
+        assertThat(cache.getMisses()).isEqualTo(1);
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(model2).isEqualTo(model1);
+
+        Map<String, Object> model3 = createParsedModel(cache, SOURCE.replace("name", "title"));
+        assertThat(cache.getMisses()).isEqualTo(2);
+        assertThat(JavaModelUtil.getField(model3, "title")).isNotNull();
+        assertThat(JavaModelUtil.getField(model3, "name")).isNull();
+    }
+
+    /**
+     * Tests whether parsed models are looked up per {@link ClassLoader}.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testParsedModelIsLookedUpByClassLoader() throws Exception {
+        JavaModelCache cache = new JavaModelCache(10);
+        ClassLoader otherClassLoader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+
+        createParsedModel(cache, SOURCE, null);
+        createParsedModel(cache, SOURCE, getClass().getClassLoader());
+        createParsedModel(cache, SOURCE, otherClassLoader);
+        createParsedModel(cache, SOURCE, otherClassLoader);
+
+        assertThat(cache.getMisses()).isEqualTo(3);
+        assertThat(cache.getHits()).isEqualTo(1);
+    }
+
+    /**
+     * Tests whether the cached model is copied lazily, i.e. values are only computed if read by a caller, and
+     * can be changed deeply by the caller without affecting the cache.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testModelIsCopiedLazily() throws Exception {
+        JavaModelCache cache = new JavaModelCache(10);
+        JavaClass javaClass = JavaParserUtil.getFirstJavaClass(new StringReader(SOURCE));
+        AtomicInteger computations = new AtomicInteger();
+        List<String> shared = Lists.newArrayList("value");
+        LazyModelMap root = new LazyModelMap();
+        root.putLazy("list", () -> shared);
+        root.putLazy("sameList", () -> shared);
+        root.putLazy("unread", () -> computations.incrementAndGet());
+
+        Map<String, Object> model1 =
+            cache.getParsedModel(javaClass, null, c -> ImmutableMap.<String, Object> of("root", root));
+        Map<String, Object> root1 = (Map<String, Object>) model1.get("root");
+        ((List<String>) root1.get("list")).add("added by caller");
+        Map<String, Object> model2 = cache.getParsedModel(javaClass, null, c -> null);
+        Map<String, Object> root2 = (Map<String, Object>) model2.get("root");
+
+        assertThat(root1).isNotSameAs(root).containsKey("unread");
+        assertThat(root1.get("sameList")).isSameAs(root1.get("list"));
+        assertThat((List<String>) root2.get("list")).containsExactly("value");
+        assertThat(root2.get("sameList")).isSameAs(root2.get("list"));
+        assertThat(computations.get()).isEqualTo(0);
+    }
+
+    /**
+     * Tests whether the {@link JavaInputReader} serves equal copies of the cached model for repeated requests of
+     * the same input and reports the cache statistics.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testInputReaderUsesCache() throws Exception {
+        JavaClass javaClass = JavaParserUtil.getFirstJavaClass(new StringReader(SOURCE));
+        JavaInputReader inputReader = new JavaInputReader();
+
+        long lookups = countParsedModelLookups(inputReader);
+        Map<String, Object> model1 = inputReader.createModel(javaClass);
+        Map<String, Object> model2 = inputReader.createModel(javaClass);
+
+        assertThat(model2).isNotSameAs(model1).isEqualTo(model1);
+        assertThat(JavaModelUtil.getRoot(model2)).isNotSameAs(JavaModelUtil.getRoot(model1));
+        assertThat(countParsedModelLookups(inputReader)).isEqualTo(lookups + 2);
+    }
+
+    /**
+     * Counts the lookups of parsed models reported by the cache statistics of the given input reader.
+     * @param inputReader
+     *            {@link JavaInputReader} providing the cache statistics
+     * @return the sum of all hits and misses
+     */
+    private long countParsedModelLookups(JavaInputReader inputReader) {
+        Map<String, Long> statistics = inputReader.getCacheStatistics();
+        return statistics.get(JavaInputReader.COUNTER_PARSED_MODEL_CACHE_HITS)
+            + statistics.get(JavaInputReader.COUNTER_PARSED_MODEL_CACHE_MISSES);
+    }
+
+    /**
+     * Parses the given source and retrieves its model from the given cache.
+     * @param cache
+     *            {@link JavaModelCache} to be used
+     * @param source
+     *            java source
+     * @return the model of the parsed class
+     * @throws Exception
+     *             if the source could not be parsed
+     */
+    private Map<String, Object> createParsedModel(JavaModelCache cache, String source) throws Exception {
+        return createParsedModel(cache, source, null);
+    }
+
+    /**
+     * Parses the given source with the given {@link ClassLoader} and retrieves its model from the given cache.
+     * @param cache
+     *            {@link JavaModelCache} to be used
+     * @param source
+     *            java source
+     * @param classLoader
+     *            {@link ClassLoader} to parse the source with, might be {@code null}
+     * @return the model of the parsed class
+     * @throws Exception
+     *             if the source could not be parsed
+     */
+    private Map<String, Object> createParsedModel(JavaModelCache cache, String source, ClassLoader classLoader)
+        throws Exception {
+        JavaClass javaClass = classLoader != null
+            ? JavaParserUtil.getFirstJavaClass(classLoader, new StringReader(source))
+            : JavaParserUtil.getFirstJavaClass(new StringReader(source));
+        return cache.getParsedModel(javaClass, classLoader, c -> new JavaInputReader().createModel(c));
+    }
+}
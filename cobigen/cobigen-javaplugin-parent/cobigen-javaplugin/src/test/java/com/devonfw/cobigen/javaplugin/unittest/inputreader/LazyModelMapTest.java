@@ -0,0 +1,220 @@
+package com.devonfw.cobigen.javaplugin.unittest.inputreader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.FileReader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.devonfw.cobigen.javaplugin.inputreader.JavaInputReader;
+import com.devonfw.cobigen.javaplugin.inputreader.JavaModelCache;
+import com.devonfw.cobigen.javaplugin.inputreader.JavaParserUtil;
+import com.devonfw.cobigen.javaplugin.inputreader.LazyModelMap;
+import com.devonfw.cobigen.javaplugin.model.ModelConstant;
+import com.devonfw.cobigen.javaplugin.unittest.inputreader.testdata.TestClass;
+import com.devonfw.cobigen.javaplugin.unittest.inputreader.testdata.TestClassWithAnnotations;
+import com.devonfw.cobigen.javaplugin.unittest.inputreader.testdata.TestClassWithAnnotationsContainingObjectArrays;
+import com.devonfw.cobigen.javaplugin.unittest.inputreader.testdata.TestClassWithRecursiveAnnotations;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.thoughtworks.qdox.model.JavaClass;
+
+/**
+ * Test suite for the {@link LazyModelMap} and the lazily created models of the {@link JavaInputReader}.
+ */
+public class LazyModelMapTest {
+
+    /** Root path to all resources used in this test case */
+    private static String testFileRootPath = "src/test/resources/testdata/unittest/inputreader/";
+
+    /**
+     * Resets the system property and the cached models.
+     */
+    @After
+    public void tearDown() {
+        System.clearProperty(LazyModelMap.EAGER_PROPERTY);
+        JavaModelCache.getInstance().invalidateAll();
+    }
+
+    /**
+     * Tests, that values are only computed on first access and only once, whereas the keys are known in
+     * advance.
+     */
+    @Test
+    public void testValuesAreComputedOnceOnFirstAccess() {
+        // arrange
+        AtomicInteger computations = new AtomicInteger();
+        LazyModelMap model = new LazyModelMap();
+        model.put("eager", "value");
+        model.putLazy("lazy", () -> {
+            computations.incrementAndGet();
+            return "computed";
+        });
+        model.putLazy("null", () -> null);
+
+        // act & assert
+        assertThat(model.containsKey("lazy")).isTrue();
+        assertThat(model.keySet()).containsExactly("eager", "lazy", "null");
+        assertThat(model.get("eager")).isEqualTo("value");
+        assertThat(computations.get()).isEqualTo(0);
+
+        assertThat(model.get("lazy")).isEqualTo("computed");
+        assertThat(model.get("lazy")).isEqualTo("computed");
+        assertThat(model).containsEntry("null", null);
+        assertThat(computations.get()).isEqualTo(1);
+
+        model.put("lazy", "overwritten");
+        assertThat(model.get("lazy")).isEqualTo("overwritten");
+        assertThat(computations.get()).isEqualTo(1);
+    }
+
+    /**
+     * Tests, that the values are computed while holding the lock shared by all models of the same source.
+     */
+    @Test
+    public void testValuesAreComputedHoldingTheSharedLock() {
+        // arrange
+        Object lock = new Object();
+        LazyModelMap model = new LazyModelMap(lock);
+        LazyModelMap otherModel = new LazyModelMap(lock);
+        model.putLazy("lazy", () -> Thread.holdsLock(lock));
+        otherModel.putLazy("lazy", () -> Thread.holdsLock(lock) && !Thread.holdsLock(model));
+
+        // act & assert
+        assertThat(model.get("lazy")).isEqualTo(true);
+        assertThat(otherModel.get("lazy")).isEqualTo(true);
+    }
+
+    /**
+     * Tests, that reading one value of the model created by the {@link JavaInputReader} does not compute any
+     * other lazy value, i.e. the parsed class is not asked for its annotations, fields, or methods.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testReadingOneValueDoesNotComputeOtherValues() throws Exception {
+        // arrange
+        File file = new File(testFileRootPath + TestClass.class.getSimpleName() + ".java");
+        JavaClass javaClass = JavaParserUtil.getFirstJavaClass(createReader(file));
+        Set<String> invokedMethods = Sets.newConcurrentHashSet();
+        JavaClass recordingClass = (JavaClass) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[] { JavaClass.class }, (proxy, method, args) -> {
+                invokedMethods.add(method.getName());
+                try {
+                    return method.invoke(javaClass, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+
+        // act
+        Map<String, Object> model = new JavaInputReader().createModel(recordingClass);
+        Map<String, Object> pojo = (Map<String, Object>) model.get(ModelConstant.MODEL_ROOT);
+        Object name = pojo.get(ModelConstant.NAME);
+
+        // assert
+        assertThat(name).isEqualTo(TestClass.class.getSimpleName());
+        assertThat(pojo).containsKeys(ModelConstant.FIELDS, ModelConstant.METHODS, ModelConstant.ANNOTATIONS);
+        assertThat(invokedMethods).doesNotContain("getAnnotations", "getFields", "getMethods", "getBeanProperties");
+    }
+
+    /**
+     * Tests, that the lazily created models of parsed, reflected, and combined java inputs are equal to the
+     * eagerly created ones.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testLazyModelEqualsEagerModel() throws Exception {
+        List<Class<?>> classes = Lists.newArrayList(TestClass.class, TestClassWithAnnotations.class,
+            TestClassWithAnnotationsContainingObjectArrays.class, TestClassWithRecursiveAnnotations.class);
+
+        for (Class<?> clazz : classes) {
+            File file = new File(testFileRootPath + clazz.getSimpleName() + ".java");
+
+            assertEquivalent(clazz.getSimpleName() + " (parsed)",
+                () -> JavaParserUtil.getFirstJavaClass(createReader(file)));
+            assertEquivalent(clazz.getSimpleName() + " (reflected)", () -> clazz);
+            assertEquivalent(clazz.getSimpleName() + " (parsed and reflected)",
+                () -> new Object[] { JavaParserUtil.getFirstJavaClass(createReader(file)), clazz });
+        }
+    }
+
+    /**
+     * Asserts, that the lazily created model of the input is equal to the eagerly created one.
+     * @param description
+     *            description of the input
+     * @param inputFactory
+     *            factory of the input. Each call has to return a new input object.
+     */
+    private void assertEquivalent(String description, Supplier<Object> inputFactory) {
+        JavaInputReader reader = new JavaInputReader();
+
+        System.setProperty(LazyModelMap.EAGER_PROPERTY, "true");
+        JavaModelCache.getInstance().invalidateAll();
+        Map<String, Object> eagerModel = reader.createModel(inputFactory.get());
+
+        System.clearProperty(LazyModelMap.EAGER_PROPERTY);
+        JavaModelCache.getInstance().invalidateAll();
+        Map<String, Object> lazyModel = reader.createModel(inputFactory.get());
+
+        assertThat(normalize(lazyModel)).as(description).isEqualTo(normalize(eagerModel));
+    }
+
+    /**
+     * Creates a reader for the given file.
+     * @param file
+     *            file to read
+     * @return the reader
+     */
+    private static FileReader createReader(File file) {
+        try {
+            return new FileReader(file);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Normalizes the given model value to be compared by equals, i.e. maps and lists will be copied
+     * recursively, arrays will be converted to lists, and values of types not providing equality across
+     * parser runs will be represented by their string representation.
+     * @param value
+     *            model value
+     * @return the normalized value
+     */
+    private static Object normalize(Object value) {
+        if (value instanceof Map) {
+            Map<Object, Object> normalized = Maps.newHashMap();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                normalized.put(entry.getKey(), normalize(entry.getValue()));
+            }
+            return normalized;
+        } else if (value instanceof Collection) {
+            List<Object> normalized = Lists.newArrayList();
+            for (Object element : (Collection<?>) value) {
+                normalized.add(normalize(element));
+            }
+            return normalized;
+        } else if (value instanceof Object[]) {
+            return normalize(Lists.newArrayList((Object[]) value));
+        } else if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean
+            || value instanceof Character || value instanceof Class) {
+            return value;
+        } else {
+            return value.toString();
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.devonfw.cobigen.javaplugin.unittest.inputreader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.FileReader;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.devonfw.cobigen.javaplugin.inputreader.JavaInputReader;
+import com.devonfw.cobigen.javaplugin.inputreader.JavaParserUtil;
+import com.devonfw.cobigen.javaplugin.model.JavaModelUtil;
+import com.devonfw.cobigen.javaplugin.model.ModelConstant;
+import com.devonfw.cobigen.javaplugin.unittest.inputreader.testdata.TestClass;
+import com.devonfw.cobigen.javaplugin.unittest.inputreader.testdata.TestClassWithAnnotations;
+import com.devonfw.cobigen.javaplugin.unittest.inputreader.testdata.TestClassWithAnnotationsContainingObjectArrays;
+import com.devonfw.cobigen.javaplugin.unittest.inputreader.testdata.TestClassWithGenericsAndOverloads;
+import com.devonfw.cobigen.javaplugin.unittest.inputreader.testdata.TestClassWithRecursiveAnnotations;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.thoughtworks.qdox.model.JavaClass;
+
+/**
+ * Regression test suite for the merge of the parsed and the reflected model by the {@link JavaInputReader}.
+ */
+public class ModelMergeTest {
+
+    /** Root path to all resources used in this test case */
+    private static String testFileRootPath = "src/test/resources/testdata/unittest/inputreader/";
+
+    /**
+     * Tests, that the merged model of parsed and reflected inputs is equal to the model merged by the former
+     * implementation matching the list entries pairwise.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testMergeEqualsFormerImplementation() throws Exception {
+        List<Class<?>> classes = Lists.newArrayList(TestClass.class, TestClassWithAnnotations.class,
+            TestClassWithAnnotationsContainingObjectArrays.class, TestClassWithRecursiveAnnotations.class,
+            TestClassWithGenericsAndOverloads.class);
+
+        JavaInputReader reader = new JavaInputReader();
+        for (Class<?> clazz : classes) {
+            JavaClass javaClass = parse(clazz);
+
+            Map<String, Object> mergedModel = reader.createModel(new Object[] { javaClass, clazz });
+            Object expectedModel =
+                formerMergeModelsRecursively(reader.createModel(javaClass), reader.createModel(clazz));
+
+            assertThat(normalize(mergedModel)).as(clazz.getSimpleName()).isEqualTo(normalize(expectedModel));
+        }
+    }
+
+    /**
+     * Tests, that generic types are taken from the parsed model and overloaded methods are merged pairwise in
+     * the order of their declaration, whereas methods only known by reflection are appended.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMergeOfGenericsAndOverloads() throws Exception {
+        Class<?> clazz = TestClassWithGenericsAndOverloads.class;
+        Map<String, Object> model = new JavaInputReader().createModel(new Object[] { parse(clazz), clazz });
+
+        Map<String, Object> field = JavaModelUtil.getField(model, "valuesByName");
+        assertThat(field.get(ModelConstant.TYPE)).isEqualTo("Map<String,List<Integer>>");
+        assertThat(JavaModelUtil.getField(model, "value").get(ModelConstant.TYPE)).isEqualTo("T");
+        assertThat(JavaModelUtil.getField(model, "numbers").get(ModelConstant.TYPE))
+            .isEqualTo("List<? extends Number>");
+
+        List<Map<String, Object>> methods = (List<Map<String, Object>>) JavaModelUtil.getRoot(model)
+            .get(ModelConstant.METHODS);
+        List<Object> methodNames = Lists.newArrayList();
+        for (Map<String, Object> method : methods) {
+            methodNames.add(method.get(ModelConstant.NAME));
+        }
+        // declared methods first, followed by the methods inherited by reflection
+        assertThat(methodNames.subList(0, 10)).containsExactly("getValuesByName", "setValuesByName", "getValue",
+            "setValue", "getNumbers", "setNumbers", "add", "add", "add", "interface1Method");
+        assertThat(methodNames).contains("getId", "hashCode");
+        assertThat(Collections.frequency(methodNames, "add")).isEqualTo(3);
+    }
+
+    /**
+     * Tests, that annotations declaring arrays of annotations and classes are served as lists and the values of
+     * the parsed annotations are preferred.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMergeOfAnnotationArrays() throws Exception {
+        Class<?> clazz = TestClassWithGenericsAndOverloads.class;
+        Map<String, Object> model = new JavaInputReader().createModel(new Object[] { parse(clazz), clazz });
+
+        Map<String, Object> annotations =
+            (Map<String, Object>) JavaModelUtil.getField(model, "valuesByName").get(ModelConstant.ANNOTATIONS);
+        Map<String, Object> action = (Map<String, Object>) annotations.get("javax_xml_ws_Action");
+        assertThat(action).isNotNull();
+        // entries of recursive annotation arrays cannot be matched by name, so the parsed entries are followed by
+        // the reflected ones
+        List<Map<String, Object>> faults = (List<Map<String, Object>>) action.get("fault");
+        assertThat(faults).hasSize(4);
+        assertThat(((Map<String, Object>) faults.get(0).get("javax_xml_ws_FaultAction")).get("className"))
+            .isEqualTo("NullPointerException.class");
+        assertThat(((Map<String, Object>) faults.get(3).get("javax_xml_ws_FaultAction")).get("className"))
+            .isEqualTo("class java.lang.IndexOutOfBoundsException");
+        Map<String, Object> category = (Map<String, Object>) annotations.get("org_junit_experimental_categories_Category");
+        assertThat(category).isNotNull();
+        assertThat(normalize(category.get("value"))).isInstanceOf(List.class);
+        assertThat((Map<String, Object>) annotations
+            .get("com_devonfw_cobigen_javaplugin_unittest_inputreader_testdata_MyFieldAnnotation"))
+                .containsEntry("str", "TestString");
+    }
+
+    /**
+     * Parses the source of the given test class.
+     * @param clazz
+     *            test class
+     * @return the parsed {@link JavaClass}
+     * @throws Exception
+     *             if the source could not be parsed
+     */
+    private static JavaClass parse(Class<?> clazz) throws Exception {
+        try (FileReader reader = new FileReader(new File(testFileRootPath + clazz.getSimpleName() + ".java"))) {
+            return JavaParserUtil.getFirstJavaClass(reader);
+        }
+    }
+
+    /**
+     * Normalizes the given model value to be compared by equals, i.e. maps and lists will be copied
+     * recursively, arrays will be converted to lists, and values of types not providing equality across
+     * parser runs will be represented by their string representation.
+     * @param value
+     *            model value
+     * @return the normalized value
+     */
+    private static Object normalize(Object value) {
+        if (value instanceof Map) {
+            Map<Object, Object> normalized = Maps.newHashMap();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                normalized.put(entry.getKey(), normalize(entry.getValue()));
+            }
+            return normalized;
+        } else if (value instanceof Collection) {
+            List<Object> normalized = Lists.newArrayList();
+            for (Object element : (Collection<?>) value) {
+                normalized.add(normalize(element));
+            }
+            return normalized;
+        } else if (value instanceof Object[]) {
+            return normalize(Lists.newArrayList((Object[]) value));
+        } else if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean
+            || value instanceof Character || value instanceof Class) {
+            return value;
+        } else {
+            return value.toString();
+        }
+    }
+
+    /**
+     * Former implementation of the model merge matching the entries of lists pairwise, which serves as
+     * reference.
+     * @param parsedModel
+     *            model created by parsing to be merged and preferred in case of conflicts
+     * @param reflectionModel
+     *            model created by reflection to be merged
+     * @return the merged model
+     */
+    @SuppressWarnings("unchecked")
+    private static Object formerMergeModelsRecursively(Object parsedModel, Object reflectionModel) {
+
+        if (parsedModel == null && reflectionModel == null) {
+            return null;
+        } else if (parsedModel == null) {
+            return reflectionModel;
+        } else if (reflectionModel == null) {
+            return parsedModel;
+        } else if (parsedModel.equals(reflectionModel)) {
+            return parsedModel;
+        }
+
+        if (parsedModel.getClass().equals(reflectionModel.getClass())) {
+            if (parsedModel instanceof Map && reflectionModel instanceof Map) {
+                Map<String, Object> mergedModel = Maps.newHashMap();
+                Map<String, Object> model1Map = (Map<String, Object>) parsedModel;
+                Map<String, Object> model2Map = (Map<String, Object>) reflectionModel;
+
+                Set<String> union = Sets.newHashSet(model1Map.keySet());
+                union.addAll(model2Map.keySet());
+                for (String unionKey : union) {
+                    if (model1Map.containsKey(unionKey) && model2Map.containsKey(unionKey)) {
+                        mergedModel.put(unionKey,
+                            formerMergeModelsRecursively(model1Map.get(unionKey), model2Map.get(unionKey)));
+                    } else if (model1Map.containsKey(unionKey)) {
+                        mergedModel.put(unionKey, model1Map.get(unionKey));
+                    } else {
+                        mergedModel.put(unionKey, model2Map.get(unionKey));
+                    }
+                }
+                return mergedModel;
+            } else if (parsedModel instanceof List && reflectionModel instanceof List) {
+                if (!((List<?>) parsedModel).isEmpty() && ((List<?>) parsedModel).get(0) instanceof Map
+                    || !((List<?>) reflectionModel).isEmpty() && ((List<?>) reflectionModel).get(0) instanceof Map) {
+                    List<Map<String, Object>> model1List = Lists.newLinkedList((List<Map<String, Object>>) parsedModel);
+                    List<Map<String, Object>> model2List =
+                        Lists.newLinkedList((List<Map<String, Object>>) reflectionModel);
+                    List<Object> mergedModel = Lists.newLinkedList();
+
+                    Iterator<Map<String, Object>> model1ListIt = model1List.iterator();
+                    while (model1ListIt.hasNext()) {
+                        Map<String, Object> model1Entry = model1ListIt.next();
+                        Iterator<Map<String, Object>> model2ListIt = model2List.iterator();
+                        while (model2ListIt.hasNext()) {
+                            Map<String, Object> model2Entry = model2ListIt.next();
+                            if (model1Entry.get(ModelConstant.NAME) != null) {
+                                if (model1Entry.get(ModelConstant.NAME).equals(model2Entry.get(ModelConstant.NAME))) {
+                                    mergedModel.add(formerMergeModelsRecursively(model1Entry, model2Entry));
+                                    model1ListIt.remove();
+                                    model2ListIt.remove();
+                                    break;
+                                }
+                            } else if (model1Entry.size() == 1 && model2Entry.size() == 1) {
+                                formerMergeModelsRecursively(model1Entry.get(model1Entry.keySet().iterator().next()),
+                                    model2Entry.get(model2Entry.keySet().iterator().next()));
+                            } else {
+                                throw new IllegalStateException("Anything unintended happened.");
+                            }
+                        }
+                    }
+                    mergedModel.addAll(model1List);
+                    mergedModel.addAll(model2List);
+                    return mergedModel;
+                } else if (!((List<?>) parsedModel).isEmpty() && ((List<?>) parsedModel).get(0) instanceof String) {
+                    return parsedModel;
+                } else {
+                    if (reflectionModel instanceof Object[]) {
+                        return Lists.newLinkedList(Arrays.asList(reflectionModel));
+                    } else {
+                        return reflectionModel;
+                    }
+                }
+            } else {
+                return parsedModel;
+            }
+        } else if (parsedModel instanceof String[]) {
+            return Lists.newLinkedList(Arrays.asList(parsedModel));
+        } else {
+            return parsedModel;
+        }
+    }
+}
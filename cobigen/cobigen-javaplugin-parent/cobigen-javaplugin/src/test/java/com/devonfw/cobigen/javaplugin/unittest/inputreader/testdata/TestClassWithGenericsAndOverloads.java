@@ -0,0 +1,62 @@
+package com.devonfw.cobigen.javaplugin.unittest.inputreader.testdata;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.ws.Action;
+import javax.xml.ws.FaultAction;
+
+import org.junit.experimental.categories.Category;
+
+public class TestClassWithGenericsAndOverloads<T extends Comparable<T>> extends AbstractTestClass
+    implements TestInterface1 {
+
+    @MyFieldAnnotation(b = (byte) 0, s = (short) 1, i = 2, l = 3, f = 4, d = 5, c = 'c', bool = true,
+        str = "TestString")
+    private Map<String, List<Integer>> valuesByName;
+
+    private T value;
+
+    private List<? extends Number> numbers;
+
+    @Action(fault = { @FaultAction(className = NullPointerException.class),
+        @FaultAction(className = IndexOutOfBoundsException.class) })
+    public Map<String, List<Integer>> getValuesByName() {
+        return valuesByName;
+    }
+
+    @Category({ TestClass.class, TestClassWithAnnotations.class })
+    public void setValuesByName(Map<String, List<Integer>> valuesByName) {
+        this.valuesByName = valuesByName;
+    }
+
+    public T getValue() {
+        return value;
+    }
+
+    public void setValue(T value) {
+        this.value = value;
+    }
+
+    public List<? extends Number> getNumbers() {
+        return numbers;
+    }
+
+    public void setNumbers(List<? extends Number> numbers) {
+        this.numbers = numbers;
+    }
+
+    @Action(fault = @FaultAction(className = NullPointerException.class))
+    public void add(T element) {
+    }
+
+    public void add(T element, int index) {
+    }
+
+    public void add(List<T> elements) {
+    }
+
+    @Override
+    public void interface1Method() {
+    }
+}
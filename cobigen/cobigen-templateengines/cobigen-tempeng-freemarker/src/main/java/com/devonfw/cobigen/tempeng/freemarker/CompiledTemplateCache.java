@@ -0,0 +1,189 @@
+package com.devonfw.cobigen.tempeng.freemarker;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import freemarker.template.Template;
+
+/**
+ * Bounded cache of compiled FreeMarker {@link Template}s keyed by template folder, relative template path,
+ * encoding and parse mode. Entries are only served as long as the last modification time of the template file
+ * did not change. As included and imported templates are cached as separate entries and validated on each
+ * inclusion, changes of such dependencies will be recognized as well. If the cache exceeds its maximum size,
+ * the least recently used entry will be evicted.
+ */
+class CompiledTemplateCache {
+
+    /** Maximum number of cached templates */
+    private final int maxSize;
+
+    /** Compiled templates in access order */
+    private final Map<Key, Entry> cache;
+
+    /** Number of cache hits */
+    private final AtomicLong hits = new AtomicLong();
+
+    /** Number of cache misses */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Creates a new cache holding at most the given number of templates.
+     * @param maxSize
+     *            maximum number of cached templates
+     */
+    CompiledTemplateCache(final int maxSize) {
+        this.maxSize = maxSize;
+        cache = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > CompiledTemplateCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached template if it has been compiled from a template file with the given last modification
+     * time.
+     * @param templateFolder
+     *            template folder the template has been resolved from
+     * @param relativePath
+     *            template path relative to the template folder
+     * @param encoding
+     *            encoding the template has been read with
+     * @param parsed
+     *            {@code true} if the template has been parsed as FreeMarker template, {@code false} if it has
+     *            been read as plain text
+     * @param lastModified
+     *            current last modification time of the template file
+     * @return the compiled template or {@code null} if there is no valid cache entry
+     */
+    Template get(Path templateFolder, String relativePath, String encoding, boolean parsed, long lastModified) {
+        Entry entry;
+        synchronized (cache) {
+            entry = cache.get(new Key(templateFolder, relativePath, encoding, parsed));
+        }
+        if (entry != null && entry.lastModified == lastModified) {
+            hits.incrementAndGet();
+            return entry.template;
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Caches the given compiled template.
+     * @param templateFolder
+     *            template folder the template has been resolved from
+     * @param relativePath
+     *            template path relative to the template folder
+     * @param encoding
+     *            encoding the template has been read with
+     * @param parsed
+     *            {@code true} if the template has been parsed as FreeMarker template, {@code false} if it has
+     *            been read as plain text
+     * @param lastModified
+     *            last modification time of the template file the template has been compiled from
+     * @param template
+     *            compiled template
+     */
+    void put(Path templateFolder, String relativePath, String encoding, boolean parsed, long lastModified,
+        Template template) {
+        synchronized (cache) {
+            cache.put(new Key(templateFolder, relativePath, encoding, parsed), new Entry(template, lastModified));
+        }
+    }
+
+    /**
+     * @return the number of cache hits
+     */
+    long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of cache misses
+     */
+    long getMisses() {
+        return misses.get();
+    }
+
+    /** Cache key consisting of the template folder, the relative template path, the encoding and parse mode */
+    private static final class Key {
+
+        /** Template folder */
+        private final Path templateFolder;
+
+        /** Template path relative to the template folder */
+        private final String relativePath;
+
+        /** Encoding the template has been read with */
+        private final String encoding;
+
+        /** States, whether the template has been parsed as FreeMarker template */
+        private final boolean parsed;
+
+        /**
+         * Creates a new key.
+         * @param templateFolder
+         *            template folder
+         * @param relativePath
+         *            template path relative to the template folder
+         * @param encoding
+         *            encoding the template has been read with
+         * @param parsed
+         *            states, whether the template has been parsed as FreeMarker template
+         */
+        Key(Path templateFolder, String relativePath, String encoding, boolean parsed) {
+            this.templateFolder = templateFolder;
+            this.relativePath = relativePath;
+            this.encoding = encoding;
+            this.parsed = parsed;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(templateFolder, relativePath, encoding, parsed);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return Objects.equals(templateFolder, other.templateFolder)
+                && Objects.equals(relativePath, other.relativePath) && Objects.equals(encoding, other.encoding)
+                && parsed == other.parsed;
+        }
+    }
+
+    /** Compiled template together with the last modification time of its source */
+    private static final class Entry {
+
+        /** Compiled template */
+        private final Template template;
+
+        /** Last modification time of the template file */
+        private final long lastModified;
+
+        /**
+         * Creates a new cache entry.
+         * @param template
+         *            compiled template
+         * @param lastModified
+         *            last modification time of the template file
+         */
+        Entry(Template template, long lastModified) {
+            this.template = template;
+            this.lastModified = lastModified;
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.devonfw.cobigen.tempeng.freemarker;
 
+import java.io.IOException;
 import java.io.Writer;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 
 import com.devonfw.cobigen.api.exception.CobiGenRuntimeException;
@@ -28,14 +32,49 @@ public class FreeMarkerTemplateEngine implements TextTemplateEngine {
     /** The file extension of the template files. */
     private static final String TEMPLATE_EXTENSION = ".ftl";
 
+    /** Default maximum number of compiled templates to be cached */
+    public static final int DEFAULT_TEMPLATE_CACHE_SIZE = 256;
+
+    /**
+     * System property to disable the caching of compiled templates by setting it to {@code false}. Read on
+     * creation of the engine.
+     */
+    public static final String TEMPLATE_CACHE_ENABLED_PROPERTY = "cobigen.freemarker.templateCache.enabled";
+
+    /**
+     * System property to set the maximum number of compiled templates to be cached, defaults to
+     * {@value #DEFAULT_TEMPLATE_CACHE_SIZE}. Read on creation of the engine.
+     */
+    public static final String TEMPLATE_CACHE_SIZE_PROPERTY = "cobigen.freemarker.templateCache.size";
+
+    /** Name of the cache statistics counter of {@link #getTemplateCacheHits() template cache hits} */
+    public static final String COUNTER_TEMPLATE_CACHE_HITS = "cache.freemarker.templates.hits";
+
+    /** Name of the cache statistics counter of {@link #getTemplateCacheMisses() template cache misses} */
+    public static final String COUNTER_TEMPLATE_CACHE_MISSES = "cache.freemarker.templates.misses";
+
     /** The commonly used FreeMarker engine configuration */
     private Configuration freeMarkerConfig;
 
+    /** Current template folder */
+    private Path templateFolder;
+
+    /** Cache of compiled templates */
+    private final CompiledTemplateCache templateCache;
+
+    /** States, whether compiled templates should be cached */
+    private final boolean templateCacheEnabled;
+
     /**
-     * Constructor, which initializes the commonly used FreeMarker configuration.
+     * Constructor, which initializes the commonly used FreeMarker configuration. The compiled template cache is
+     * configured by the system properties {@value #TEMPLATE_CACHE_ENABLED_PROPERTY} and
+     * {@value #TEMPLATE_CACHE_SIZE_PROPERTY}.
      */
     public FreeMarkerTemplateEngine() {
-        freeMarkerConfig = new Configuration(Configuration.VERSION_2_3_23);
+        templateCacheEnabled = Boolean.parseBoolean(System.getProperty(TEMPLATE_CACHE_ENABLED_PROPERTY, "true"));
+        templateCache =
+            new CompiledTemplateCache(Integer.getInteger(TEMPLATE_CACHE_SIZE_PROPERTY, DEFAULT_TEMPLATE_CACHE_SIZE));
+        freeMarkerConfig = new CachingConfiguration();
         freeMarkerConfig.setObjectWrapper(new DefaultObjectWrapperBuilder(Configuration.VERSION_2_3_23).build());
         freeMarkerConfig.clearEncodingMap();
         freeMarkerConfig.setDefaultEncoding("UTF-8");
@@ -58,7 +97,7 @@ public class FreeMarkerTemplateEngine implements TextTemplateEngine {
     public void process(TextTemplate template, Map<String, Object> model, Writer out, String outputEncoding) {
         Template fmTemplate = null;
         try {
-            fmTemplate = freeMarkerConfig.getTemplate(template.getRelativeTemplatePath());
+            fmTemplate = getTemplate(template);
         } catch (ParseException e) {
             throw new CobiGenRuntimeException(
                 "Could not parse FreeMarker template: " + template.getAbsoluteTemplatePath() + ". (FreeMarker v"
@@ -88,9 +127,97 @@ public class FreeMarkerTemplateEngine implements TextTemplateEngine {
         }
     }
 
+    /**
+     * Retrieves the compiled FreeMarker template either from the template cache or by parsing the template file.
+     * @param template
+     *            template to be retrieved
+     * @return the compiled FreeMarker template
+     * @throws IOException
+     *             if the template could not be read or parsed
+     * @see CachingConfiguration
+     */
+    private Template getTemplate(TextTemplate template) throws IOException {
+        return freeMarkerConfig.getTemplate(template.getRelativeTemplatePath());
+    }
+
+    /**
+     * Determines the last modification time of the template file with the given name.
+     * @param templateFolder
+     *            template folder to resolve the template from
+     * @param name
+     *            template path relative to the template folder
+     * @return the last modification time or {@code -1} if the template file could not be accessed
+     */
+    private static long getLastModified(Path templateFolder, String name) {
+        try {
+            return Files.getLastModifiedTime(templateFolder.resolve(name)).toMillis();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
     @Override
     public void setTemplateFolder(Path templateFolderPath) {
+        templateFolder = templateFolderPath;
         ((NioFileSystemTemplateLoader) freeMarkerConfig.getTemplateLoader()).setTemplateRoot(templateFolderPath);
     }
 
+    /**
+     * @return the number of template retrievals served from the compiled template cache
+     */
+    public long getTemplateCacheHits() {
+        return templateCache.getHits();
+    }
+
+    /**
+     * @return the number of template retrievals, which had to parse the template file as there was no valid
+     *         cache entry
+     */
+    public long getTemplateCacheMisses() {
+        return templateCache.getMisses();
+    }
+
+    @Override
+    public Map<String, Long> getCacheStatistics() {
+        Map<String, Long> statistics = new HashMap<>();
+        statistics.put(COUNTER_TEMPLATE_CACHE_HITS, getTemplateCacheHits());
+        statistics.put(COUNTER_TEMPLATE_CACHE_MISSES, getTemplateCacheMisses());
+        return statistics;
+    }
+
+    /**
+     * FreeMarker {@link Configuration} serving all templates from the compiled template cache. As FreeMarker
+     * resolves included and imported templates by this configuration as well, each of a template's dependencies
+     * will be validated against the last modification time of its own template file on each inclusion.
+     * Cached templates will only be served if the template file did not change since it has been compiled.
+     */
+    private class CachingConfiguration extends Configuration {
+
+        /**
+         * Creates a new configuration.
+         */
+        CachingConfiguration() {
+            super(Configuration.VERSION_2_3_23);
+        }
+
+        @Override
+        public Template getTemplate(String name, Locale locale, Object customLookupCondition, String encoding,
+            boolean parseAsFTL, boolean ignoreMissing) throws IOException {
+            Path templateFolder = FreeMarkerTemplateEngine.this.templateFolder;
+            if (!templateCacheEnabled || templateFolder == null || customLookupCondition != null) {
+                return super.getTemplate(name, locale, customLookupCondition, encoding, parseAsFTL, ignoreMissing);
+            }
+
+            long lastModified = getLastModified(templateFolder, name);
+            Template fmTemplate = templateCache.get(templateFolder, name, encoding, parseAsFTL, lastModified);
+            if (fmTemplate == null) {
+                fmTemplate = super.getTemplate(name, locale, customLookupCondition, encoding, parseAsFTL,
+                    ignoreMissing);
+                if (fmTemplate != null && lastModified != -1) {
+                    templateCache.put(templateFolder, name, encoding, parseAsFTL, lastModified, fmTemplate);
+                }
+            }
+            return fmTemplate;
+        }
+    }
 }
@@ -1,15 +1,21 @@
 package com.devonfw.cobigen.tempeng.freemarker.unittest;
 
+import static com.devonfw.cobigen.test.template.TestTemplates.createTemplate;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import com.devonfw.cobigen.api.extension.TextTemplate;
 import com.devonfw.cobigen.tempeng.freemarker.FreeMarkerTemplateEngine;
@@ -20,6 +26,10 @@ public class FreeMarkerTemplateEngineTest {
     /** Root path of the test resources for this test suite */
     private static final String testFileRootPath = "src/test/resources/unittest/FreeMarkerTemplateEngineTest/";
 
+    /** Temporary folder for template files to be modified during the test */
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
     /**
      * Tests a basic FreeMarker generation
      */
@@ -62,4 +72,144 @@ public class FreeMarkerTemplateEngineTest {
         // assert
         assertThat(out).hasToString("A,B,C,");
     }
+
+    /**
+     * Tests, that compiled templates are served from the template cache and are recompiled as soon as the
+     * template file changes.
+     * @throws IOException
+     *             test fails
+     */
+    @Test
+    public void testTemplateCacheValidatesModificationTime() throws IOException {
+        // arrange
+        File templateFolder = tmpFolder.newFolder("templates");
+        File templateFile = new File(templateFolder, "template.ftl");
+        Files.write(templateFile.toPath(), "${value}-1".getBytes(StandardCharsets.UTF_8));
+        templateFile.setLastModified(1000000L);
+        TextTemplate template = createTemplate(templateFolder, "template.ftl");
+        HashMap<String, Object> model = new HashMap<>();
+        model.put("value", "A");
+
+        FreeMarkerTemplateEngine templateEngine = new FreeMarkerTemplateEngine();
+        templateEngine.setTemplateFolder(templateFolder.toPath());
+
+        // act
+        StringWriter first = new StringWriter();
+        templateEngine.process(template, model, first, "UTF-8");
+        StringWriter second = new StringWriter();
+        templateEngine.process(template, model, second, "UTF-8");
+
+        Files.write(templateFile.toPath(), "${value}-2".getBytes(StandardCharsets.UTF_8));
+        templateFile.setLastModified(2000000L);
+        StringWriter third = new StringWriter();
+        templateEngine.process(template, model, third, "UTF-8");
+
+        // assert
+        assertThat(first).hasToString("A-1");
+        assertThat(second).hasToString("A-1");
+        assertThat(third).hasToString("A-2");
+        assertThat(templateEngine.getTemplateCacheHits()).isEqualTo(1);
+        assertThat(templateEngine.getTemplateCacheMisses()).isEqualTo(2);
+        assertThat(templateEngine.getCacheStatistics())
+            .containsEntry(FreeMarkerTemplateEngine.COUNTER_TEMPLATE_CACHE_HITS, 1L)
+            .containsEntry(FreeMarkerTemplateEngine.COUNTER_TEMPLATE_CACHE_MISSES, 2L);
+    }
+
+    /**
+     * Tests, that a cached template is not served with stale contents of included templates.
+     * @throws IOException
+     *             test fails
+     */
+    @Test
+    public void testTemplateCacheValidatesIncludedTemplates() throws IOException {
+        // arrange
+        File templateFolder = tmpFolder.newFolder("templates");
+        File templateFile = new File(templateFolder, "template.ftl");
+        Files.write(templateFile.toPath(), "<#include \"include.ftl\">".getBytes(StandardCharsets.UTF_8));
+        File includeFile = new File(templateFolder, "include.ftl");
+        Files.write(includeFile.toPath(), "${value}-1".getBytes(StandardCharsets.UTF_8));
+        includeFile.setLastModified(1000000L);
+        TextTemplate template = createTemplate(templateFolder, "template.ftl");
+        HashMap<String, Object> model = new HashMap<>();
+        model.put("value", "A");
+
+        FreeMarkerTemplateEngine templateEngine = new FreeMarkerTemplateEngine();
+        templateEngine.setTemplateFolder(templateFolder.toPath());
+
+        // act
+        StringWriter first = new StringWriter();
+        templateEngine.process(template, model, first, "UTF-8");
+        StringWriter second = new StringWriter();
+        templateEngine.process(template, model, second, "UTF-8");
+
+        Files.write(includeFile.toPath(), "${value}-2".getBytes(StandardCharsets.UTF_8));
+        includeFile.setLastModified(2000000L);
+        StringWriter third = new StringWriter();
+        templateEngine.process(template, model, third, "UTF-8");
+
+        // assert
+        assertThat(first).hasToString("A-1");
+        assertThat(second).hasToString("A-1");
+        assertThat(third).hasToString("A-2");
+        assertThat(templateEngine.getTemplateCacheHits()).isEqualTo(3);
+        assertThat(templateEngine.getTemplateCacheMisses()).isEqualTo(3);
+    }
+
+    /**
+     * Tests, that the template cache distinguishes templates with the same relative path in different template
+     * folders.
+     * @throws IOException
+     *             test fails
+     */
+    @Test
+    public void testTemplateCacheDistinguishesTemplateFolders() throws IOException {
+        // arrange
+        File templateFolderA = tmpFolder.newFolder("a");
+        File templateFolderB = tmpFolder.newFolder("b");
+        Files.write(new File(templateFolderA, "template.ftl").toPath(), "a".getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(templateFolderB, "template.ftl").toPath(), "b".getBytes(StandardCharsets.UTF_8));
+        FreeMarkerTemplateEngine templateEngine = new FreeMarkerTemplateEngine();
+
+        // act
+        StringWriter outA = new StringWriter();
+        templateEngine.setTemplateFolder(templateFolderA.toPath());
+        templateEngine.process(createTemplate(templateFolderA, "template.ftl"), new HashMap<>(), outA, "UTF-8");
+        StringWriter outB = new StringWriter();
+        templateEngine.setTemplateFolder(templateFolderB.toPath());
+        templateEngine.process(createTemplate(templateFolderB, "template.ftl"), new HashMap<>(), outB, "UTF-8");
+
+        // assert
+        assertThat(outA).hasToString("a");
+        assertThat(outB).hasToString("b");
+        assertThat(templateEngine.getTemplateCacheMisses()).isEqualTo(2);
+    }
+
+    /**
+     * Tests, that no template will be cached if the template cache has been disabled by the system property.
+     * @throws IOException
+     *             test fails
+     */
+    @Test
+    public void testTemplateCacheOptOut() throws IOException {
+        // arrange
+        File templateFolder = tmpFolder.newFolder("templates");
+        Files.write(new File(templateFolder, "template.ftl").toPath(), "text".getBytes(StandardCharsets.UTF_8));
+        TextTemplate template = createTemplate(templateFolder, "template.ftl");
+        FreeMarkerTemplateEngine templateEngine;
+        System.setProperty(FreeMarkerTemplateEngine.TEMPLATE_CACHE_ENABLED_PROPERTY, "false");
+        try {
+            templateEngine = new FreeMarkerTemplateEngine();
+        } finally {
+            System.clearProperty(FreeMarkerTemplateEngine.TEMPLATE_CACHE_ENABLED_PROPERTY);
+        }
+        templateEngine.setTemplateFolder(templateFolder.toPath());
+
+        // act
+        templateEngine.process(template, new HashMap<>(), new StringWriter(), "UTF-8");
+        templateEngine.process(template, new HashMap<>(), new StringWriter(), "UTF-8");
+
+        // assert
+        assertThat(templateEngine.getTemplateCacheHits()).isEqualTo(0);
+        assertThat(templateEngine.getTemplateCacheMisses()).isEqualTo(0);
+    }
 }
@@ -17,7 +17,7 @@ import com.devonfw.cobigen.api.exception.CobiGenRuntimeException;
 import com.devonfw.cobigen.api.extension.TextTemplate;
 import com.devonfw.cobigen.api.extension.TextTemplateEngine;
 import com.devonfw.cobigen.tempeng.velocity.constant.VelocityMetadata;
-import com.devonfw.cobigen.tempeng.velocity.runtime.resources.NullResourceCache;
+import com.devonfw.cobigen.tempeng.velocity.runtime.resources.BoundedResourceCache;
 import com.devonfw.cobigen.tempeng.velocity.runtime.resources.ResourceManagerDelegate;
 import com.devonfw.cobigen.tempeng.velocity.log.LogChuteDelegate;
 
@@ -31,29 +31,44 @@ public class VelocityTemplateEngine implements TextTemplateEngine {
     private static final String TEMPLATE_EXTENSION = ".vm";
 
     /**
-     * The used template engine
+     * The used template engine, initialized once for the current template folder
      */
-    private VelocityEngine engine;
+    private volatile VelocityEngine engine;
 
     /**
-     * Constructor that sets the most common properties for the Velocity engine<br>
+     * The template folder templates are currently retrieved from
+     */
+    private Path templateFolder;
+
+    /**
+     * Creates and initializes a new Velocity engine for the given template folder with the most common
+     * properties<br>
      *
      * <ul>
      * <li>A slf4j based logger</li>
      * <li>Default encoding of UTF-8</li>
-     * <li>No Cache</li>
+     * <li>A bounded cache of parsed templates checking for modified template files</li>
      * <li>FileResourceLoader class by default</li>
      * </ul>
+     * @param templateFolderPath
+     *            template folder to load templates from
+     * @return the initialized engine
      */
-    public VelocityTemplateEngine() {
-        engine = new VelocityEngine();
+    private VelocityEngine createEngine(Path templateFolderPath) {
+        VelocityEngine engine = new VelocityEngine();
         engine.setProperty(RuntimeConstants.RUNTIME_LOG_LOGSYSTEM,
             new LogChuteDelegate(LoggerFactory.getLogger(VelocityEngine.class)));
         engine.setProperty(RuntimeConstants.ENCODING_DEFAULT, "UTF-8");
-        engine.setProperty(RuntimeConstants.FILE_RESOURCE_LOADER_CACHE, new Boolean(false));
+        engine.setProperty(RuntimeConstants.FILE_RESOURCE_LOADER_CACHE, new Boolean(true));
         engine.setProperty(RuntimeConstants.RESOURCE_MANAGER_CLASS, ResourceManagerDelegate.class.getName());
         engine.setProperty(RuntimeConstants.RESOURCE_MANAGER_LOGWHENFOUND, new Boolean(true));
-        engine.setProperty(RuntimeConstants.RESOURCE_MANAGER_CACHE_CLASS, NullResourceCache.class.getName());
+        engine.setProperty(RuntimeConstants.RESOURCE_MANAGER_CACHE_CLASS, BoundedResourceCache.class.getName());
+        engine.setProperty(RuntimeConstants.FILE_RESOURCE_LOADER_PATH, templateFolderPath.toString());
+        executeInThisClassloader(null, (p) -> {
+            engine.init();
+            return null;
+        });
+        return engine;
     }
 
     @Override
@@ -68,11 +83,13 @@ public class VelocityTemplateEngine implements TextTemplateEngine {
 
     @Override
     public void process(TextTemplate template, Map<String, Object> model, Writer out, String outputEncoding) {
-        engine.setProperty(RuntimeConstants.OUTPUT_ENCODING, outputEncoding);
-        executeInThisClassloader(null, (p) -> {
-            engine.init();
-            return null;
-        });
+        // the output encoding is already applied by the given writer, thus it does not need to be configured
+        // in the shared engine
+        VelocityEngine engine = this.engine;
+        if (engine == null) {
+            throw new CobiGenRuntimeException(
+                "No template folder has been defined. This is a bug. (Velocity v" + VelocityMetadata.VERSION + ")");
+        }
 
         Context context = new VelocityContext(model);
         Template vmTemplate = null;
@@ -102,8 +119,17 @@ public class VelocityTemplateEngine implements TextTemplateEngine {
     }
 
     @Override
-    public void setTemplateFolder(Path templateFolderPath) {
-        engine.setProperty(RuntimeConstants.FILE_RESOURCE_LOADER_PATH, templateFolderPath.toString());
+    public synchronized void setTemplateFolder(Path templateFolderPath) {
+        if (engine != null && templateFolderPath.equals(templateFolder)) {
+            return;
+        }
+        try {
+            engine = createEngine(templateFolderPath);
+        } catch (RuntimeException e) {
+            throw new CobiGenRuntimeException("Could not initialize the Velocity engine for template folder "
+                + templateFolderPath + ". (Velocity v" + VelocityMetadata.VERSION + ")", e);
+        }
+        templateFolder = templateFolderPath;
     }
 
     /**
@@ -0,0 +1,64 @@
+package com.devonfw.cobigen.tempeng.velocity.runtime.resources;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.velocity.runtime.RuntimeConstants;
+import org.apache.velocity.runtime.RuntimeServices;
+import org.apache.velocity.runtime.resource.Resource;
+import org.apache.velocity.runtime.resource.ResourceCache;
+
+/**
+ * A bounded least recently used implementation of the ResourceCache interface. The maximum number of cached
+ * resources can be configured via {@link RuntimeConstants#RESOURCE_MANAGER_DEFAULTCACHE_SIZE}. Resources,
+ * which source has been modified since they have been loaded, are treated as not cached and will be evicted.
+ */
+public class BoundedResourceCache implements ResourceCache {
+
+    /** Default maximum number of cached resources */
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    /** Cached resources in access order */
+    private Map<Object, Resource> cache;
+
+    @Override
+    public void initialize(RuntimeServices rs) {
+        final int maxSize = rs.getInt(RuntimeConstants.RESOURCE_MANAGER_DEFAULTCACHE_SIZE, DEFAULT_MAX_SIZE);
+        cache = new LinkedHashMap<Object, Resource>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Resource> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Resource get(Object key) {
+        Resource resource = cache.get(key);
+        if (resource != null && resource.isSourceModified()) {
+            cache.remove(key);
+            return null;
+        }
+        return resource;
+    }
+
+    @Override
+    public synchronized Resource put(Object key, Resource value) {
+        return cache.put(key, value);
+    }
+
+    @Override
+    public synchronized Resource remove(Object key) {
+        return cache.remove(key);
+    }
+
+    @Override
+    public synchronized Iterator enumerateKeys() {
+        return new ArrayList<>(cache.keySet()).iterator();
+    }
+
+}
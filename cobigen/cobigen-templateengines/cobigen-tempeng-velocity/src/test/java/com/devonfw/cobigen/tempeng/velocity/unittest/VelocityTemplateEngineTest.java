@@ -1,9 +1,13 @@
 package com.devonfw.cobigen.tempeng.velocity.unittest;
 
+import static com.devonfw.cobigen.test.template.TestTemplates.createTemplate;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -11,7 +15,9 @@ import java.util.HashMap;
 import java.util.List;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import com.devonfw.cobigen.api.extension.TextTemplate;
 import com.devonfw.cobigen.tempeng.velocity.VelocityTemplateEngine;
@@ -36,6 +42,12 @@ public class VelocityTemplateEngineTest {
      */
     private VelocityTemplateEngine engine;
 
+    /**
+     * Temporary folder for template files to be modified during the test
+     */
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
     /**
      * Tests a basic velocity generation. Test design used from freemarker plugin
      */
@@ -78,4 +90,62 @@ public class VelocityTemplateEngineTest {
         assertThat(out).hasToString("A,B,C,");
     }
 
+    /**
+     * Tests, that templates with the same relative path are retrieved from the currently set template folder.
+     * @throws IOException
+     *             test fails
+     */
+    @Test
+    public void testProcessWithChangingTemplateFolders() throws IOException {
+        // arrange
+        File templateFolderA = tmpFolder.newFolder("a");
+        File templateFolderB = tmpFolder.newFolder("b");
+        Files.write(new File(templateFolderA, "template.vm").toPath(), "a".getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(templateFolderB, "template.vm").toPath(), "b".getBytes(StandardCharsets.UTF_8));
+
+        // act
+        StringWriter outA = new StringWriter();
+        engine.setTemplateFolder(templateFolderA.toPath());
+        engine.process(createTemplate(templateFolderA, "template.vm"), new HashMap<>(), outA, "UTF-8");
+        StringWriter outB = new StringWriter();
+        engine.setTemplateFolder(templateFolderB.toPath());
+        engine.process(createTemplate(templateFolderB, "template.vm"), new HashMap<>(), outB, "UTF-8");
+
+        // assert
+        assertThat(outA).hasToString("a");
+        assertThat(outB).hasToString("b");
+    }
+
+    /**
+     * Tests, that a cached template is parsed again as soon as the template file has been modified.
+     * @throws IOException
+     *             test fails
+     */
+    @Test
+    public void testProcessReloadsModifiedTemplate() throws IOException {
+        // arrange
+        File templateFolder = tmpFolder.newFolder("templates");
+        File templateFile = new File(templateFolder, "template.vm");
+        Files.write(templateFile.toPath(), "${value}-1".getBytes(StandardCharsets.UTF_8));
+        templateFile.setLastModified(1000000L);
+        TextTemplate template = createTemplate(templateFolder, "template.vm");
+        HashMap<String, Object> model = new HashMap<>();
+        model.put("value", "A");
+        engine.setTemplateFolder(templateFolder.toPath());
+
+        // act
+        StringWriter first = new StringWriter();
+        engine.process(template, model, first, "UTF-8");
+        StringWriter second = new StringWriter();
+        engine.process(template, model, second, "UTF-8");
+        Files.write(templateFile.toPath(), "${value}-2".getBytes(StandardCharsets.UTF_8));
+        templateFile.setLastModified(2000000L);
+        StringWriter third = new StringWriter();
+        engine.process(template, model, third, "UTF-8");
+
+        // assert
+        assertThat(first).hasToString("A-1");
+        assertThat(second).hasToString("A-1");
+        assertThat(third).hasToString("A-2");
+    }
 }
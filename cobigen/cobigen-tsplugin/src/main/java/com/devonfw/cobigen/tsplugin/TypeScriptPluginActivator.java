@@ -5,7 +5,9 @@ import java.util.List;
 import com.devonfw.cobigen.api.extension.GeneratorPluginActivator;
 import com.devonfw.cobigen.api.extension.Merger;
 import com.devonfw.cobigen.api.extension.TriggerInterpreter;
+import com.devonfw.cobigen.tsplugin.merger.ScriptEnginePool;
 import com.devonfw.cobigen.tsplugin.merger.TypeScriptMerger;
+import com.devonfw.cobigen.tsplugin.merger.constants.Constants;
 import com.google.common.collect.Lists;
 
 /**
@@ -15,6 +17,8 @@ public class TypeScriptPluginActivator implements GeneratorPluginActivator {
 
     @Override
     public List<Merger> bindMerger() {
+        // prepare the script engines in background while the generation is being configured
+        ScriptEnginePool.warmUp(Constants.TSMERGER_JS, Constants.BEAUTIFY_JS);
         List<Merger> merger = Lists.newLinkedList();
         merger.add(new TypeScriptMerger("tsmerge", false));
         merger.add(new TypeScriptMerger("tsmerge_override", true));
@@ -0,0 +1,213 @@
+package com.devonfw.cobigen.tsplugin.merger;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.Invocable;
+import javax.script.CompiledScript;
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineManager;
+import javax.script.ScriptException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Process-wide pool of Nashorn script engines, which already evaluated a bundled script. Each script is
+ * served by its own pool shared by all {@link TypeScriptMerger} instances. An engine is only used by one
+ * thread at a time, such that merges can be processed concurrently. Engines are created on demand up to the
+ * maximum pool size configured by the system property {@value #POOL_SIZE_PROPERTY}, which defaults to the
+ * number of available processors. If all engines are in use, further callers wait for an engine to be
+ * returned. The pools can be filled in background once per process by {@link #warmUp(String...)}.
+ */
+public class ScriptEnginePool {
+
+    /** Logger instance */
+    private static final Logger LOG = LoggerFactory.getLogger(ScriptEnginePool.class);
+
+    /** System property to configure the maximum number of script engines per script */
+    public static final String POOL_SIZE_PROPERTY = "cobigen.tsplugin.scriptengines";
+
+    /** Pools mapped by the name of their script */
+    private static final Map<String, ScriptEnginePool> POOLS = new ConcurrentHashMap<>();
+
+    /** States, whether the pools have already been warmed up */
+    private static final AtomicBoolean WARMED_UP = new AtomicBoolean();
+
+    /** Name of the script evaluated by the engines */
+    private final String scriptName;
+
+    /** Maximum number of engines */
+    private final int maximumSize;
+
+    /** Engines not in use */
+    private final BlockingQueue<ScriptEngine> idleEngines = new LinkedBlockingQueue<>();
+
+    /** Number of engines created so far */
+    private final AtomicInteger createdEngines = new AtomicInteger();
+
+    /**
+     * Creates a new pool.
+     * @param scriptName
+     *            name of the script to be evaluated by the engines. Should exist in the root of the build path
+     * @param maximumSize
+     *            maximum number of engines
+     */
+    ScriptEnginePool(String scriptName, int maximumSize) {
+        this.scriptName = scriptName;
+        this.maximumSize = Math.max(1, maximumSize);
+    }
+
+    /**
+     * Returns the process-wide pool of the given script.
+     * @param scriptName
+     *            name of the script to be evaluated by the engines. Should exist in the root of the build path
+     * @return the {@link ScriptEnginePool} of the script
+     */
+    public static ScriptEnginePool getInstance(String scriptName) {
+        return POOLS.computeIfAbsent(scriptName, name -> new ScriptEnginePool(name, getConfiguredSize()));
+    }
+
+    /**
+     * Fills the pools of the given scripts up to their maximum size in background, such that the first merges
+     * do not have to wait for the scripts to be compiled and evaluated. One engine is created for each script
+     * first. Only the first call per process has an effect.
+     * @param scriptNames
+     *            names of the scripts to be evaluated
+     */
+    public static void warmUp(String... scriptNames) {
+        if (!WARMED_UP.compareAndSet(false, true)) {
+            return;
+        }
+        Thread warmUp = new Thread(() -> {
+            try {
+                for (String scriptName : scriptNames) {
+                    getInstance(scriptName).addIdleEngine();
+                }
+                for (String scriptName : scriptNames) {
+                    ScriptEnginePool pool = getInstance(scriptName);
+                    while (pool.addIdleEngine()) {
+                        // fill the pool up to its maximum size
+                    }
+                }
+            } catch (Throwable e) {
+                LOG.warn("Could not warm up the script engines.", e);
+            }
+        }, "cobigen-tsplugin-warmup");
+        warmUp.setDaemon(true);
+        warmUp.start();
+    }
+
+    /**
+     * @return the pool size configured by the system property {@value #POOL_SIZE_PROPERTY} or the number of
+     *         available processors
+     */
+    private static int getConfiguredSize() {
+        return Integer.getInteger(POOL_SIZE_PROPERTY, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Runs the given script call with an engine of the pool. The engine is exclusively used by the calling
+     * thread until the call returns.
+     * @param executable
+     *            {@link ScriptExecutable} running the script call itself
+     * @return return value of the script call
+     * @throws ScriptException
+     *             if the script could not be compiled or evaluated or the call raised an error
+     * @throws NoSuchMethodException
+     *             if the method called could not be found in the script
+     * @throws IOException
+     *             if the script could not be read
+     * @throws InterruptedException
+     *             if the calling thread has been interrupted while waiting for an engine
+     */
+    public Object execute(ScriptExecutable executable)
+        throws ScriptException, NoSuchMethodException, IOException, InterruptedException {
+        ScriptEngine engine = borrow();
+        try {
+            return executable.exec((Invocable) engine);
+        } finally {
+            idleEngines.add(engine);
+        }
+    }
+
+    /**
+     * Takes an idle engine, creates a new one if the pool is not exhausted, or waits for an engine to be
+     * returned.
+     * @return the engine to be used exclusively
+     * @throws ScriptException
+     *             if the script could not be compiled or evaluated
+     * @throws IOException
+     *             if the script could not be read
+     * @throws InterruptedException
+     *             if the calling thread has been interrupted while waiting for an engine
+     */
+    private ScriptEngine borrow() throws ScriptException, IOException, InterruptedException {
+        ScriptEngine engine = idleEngines.poll();
+        if (engine != null) {
+            return engine;
+        }
+        if (createdEngines.incrementAndGet() <= maximumSize) {
+            try {
+                return createEngine();
+            } catch (ScriptException | IOException | RuntimeException e) {
+                createdEngines.decrementAndGet();
+                throw e;
+            }
+        }
+        createdEngines.decrementAndGet();
+        return idleEngines.take();
+    }
+
+    /**
+     * Creates an idle engine if the pool is not exhausted.
+     * @return {@code true} if an engine has been created, {@code false} if the pool is exhausted or the engine
+     *         could not be created
+     */
+    private boolean addIdleEngine() {
+        if (createdEngines.incrementAndGet() > maximumSize) {
+            createdEngines.decrementAndGet();
+            return false;
+        }
+        try {
+            idleEngines.add(createEngine());
+            return true;
+        } catch (ScriptException | IOException | RuntimeException e) {
+            createdEngines.decrementAndGet();
+            LOG.warn("Could not warm up the script engine for {}.", scriptName, e);
+            return false;
+        }
+    }
+
+    /**
+     * Creates a new engine and evaluates the script.
+     * @return the new engine
+     * @throws ScriptException
+     *             if the script could not be compiled or evaluated
+     * @throws IOException
+     *             if the script could not be read
+     */
+    private ScriptEngine createEngine() throws ScriptException, IOException {
+        LOG.debug("Create script engine for {}", scriptName);
+        ScriptEngine jsEngine = new ScriptEngineManager().getEngineByName("nashorn");
+
+        CompiledScript jsScript;
+        try (InputStreamReader reader = new InputStreamReader(getClass().getResourceAsStream("/" + scriptName))) {
+            jsScript = ((Compilable) jsEngine).compile(reader);
+        }
+
+        Bindings engineScope = jsEngine.getContext().getBindings(ScriptContext.ENGINE_SCOPE);
+        jsEngine.eval("global = {}"); // simulate global object
+        jsScript.eval(engineScope);
+        return jsEngine;
+    }
+}
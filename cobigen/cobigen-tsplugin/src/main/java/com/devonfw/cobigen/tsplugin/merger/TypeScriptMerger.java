@@ -3,20 +3,11 @@ package com.devonfw.cobigen.tsplugin.merger;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.io.StringReader;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
-import java.util.HashMap;
-import java.util.Map;
-
-import javax.script.Bindings;
-import javax.script.Compilable;
-import javax.script.CompiledScript;
-import javax.script.Invocable;
-import javax.script.ScriptContext;
+
 import javax.script.ScriptEngine;
-import javax.script.ScriptEngineManager;
 import javax.script.ScriptException;
 
 import com.devonfw.cobigen.api.exception.MergeException;
@@ -37,9 +28,6 @@ public class TypeScriptMerger implements Merger {
     /** The conflict resolving mode */
     private boolean patchOverrides;
 
-    /** Cached script engines to not evaluate dependent scripts again and again */
-    private Map<String, ScriptEngine> scriptEngines = new HashMap<>(2);
-
     /**
      * Creates a new {@link TypeScriptMerger}
      *
@@ -73,12 +61,17 @@ public class TypeScriptMerger implements Merger {
             executeJS(base, invocable -> invocable.invokeFunction("merge", baseFileContents, patch, patchOverrides),
                 Constants.TSMERGER_JS);
 
+        // the patch did not change anything, so keep the base file untouched without running the beautifier
+        if (normalizeWhitespace(mergedContents).equals(normalizeWhitespace(baseFileContents))) {
+            return baseFileContents;
+        }
+
         return runBeautifierExcludingImports(base, mergedContents);
     }
 
     /**
      * Executes the call specified by {@code executable} parameter on the script given by {@code scriptName}
-     * with the javascript engine Nashorn.
+     * with a javascript engine Nashorn of the {@link ScriptEnginePool} shared by all merger instances.
      * @param base
      *            the existent base file just for error reporting
      * @param scriptName
@@ -88,45 +81,21 @@ public class TypeScriptMerger implements Merger {
      * @return return value of the script casted to {@link String}
      */
     private String executeJS(File base, ScriptExecutable executable, String scriptName) {
-
-        if (!scriptEngines.containsKey(scriptName)) {
-
-            ScriptEngine jsEngine = new ScriptEngineManager().getEngineByName("nashorn");
-
-            Compilable jsCompilable = (Compilable) jsEngine;
-            CompiledScript jsScript;
-            try (InputStreamReader reader = new InputStreamReader(getClass().getResourceAsStream("/" + scriptName))) {
-                jsScript = jsCompilable.compile(reader);
-            } catch (ScriptException e) {
-                throw new MergeException(base, "Could not compile " + scriptName
-                    + " script on initialization. This is most properly a bug. Please report on GitHub.", e);
-            } catch (IOException e) {
-                throw new MergeException(base, "Could not read " + scriptName
-                    + " script on initialization. This is most properly a bug. Please report on Github.", e);
-            }
-
-            ScriptContext scriptCtxt = jsEngine.getContext();
-            Bindings engineScope = scriptCtxt.getBindings(ScriptContext.ENGINE_SCOPE);
-            try {
-                jsEngine.eval("global = {}"); // simulate global object
-                jsScript.eval(engineScope);
-            } catch (ScriptException e) {
-                throw new MergeException(base, "Could not evaluate " + scriptName
-                    + " script on initialization. This is most properly a bug. Please report on Github.", e);
-            }
-
-            scriptEngines.put(scriptName, jsEngine);
-        }
-
-        Invocable jsInvocable = (Invocable) scriptEngines.get(scriptName);
         try {
-            return (String) executable.exec(jsInvocable);
+            return (String) ScriptEnginePool.getInstance(scriptName).execute(executable);
         } catch (NoSuchMethodException e) {
             throw new MergeException(base,
                 "Invalid API of " + scriptName + " script used. This is most properly a bug. Please report on Github.",
                 e);
         } catch (ScriptException e) {
             throw new MergeException(base, "Execution of the script " + scriptName + " raised an error.", e);
+        } catch (IOException e) {
+            throw new MergeException(base, "Could not read " + scriptName
+                + " script on initialization. This is most properly a bug. Please report on Github.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MergeException(base, "Interrupted while waiting for a script engine to execute " + scriptName
+                + ".", e);
         }
     }
 
@@ -163,4 +132,69 @@ public class TypeScriptMerger implements Merger {
         return imports + LINE_SEP + LINE_SEP + formattedBody;
     }
 
+    /**
+     * Collapses all sequences of whitespace to a single space or a single line break, if the sequence contains
+     * any line break, to compare code regardless of its indentation. Line breaks are kept, as they might change
+     * the semantics due to the automatic semicolon insertion, e.g. {@code return\nx} vs. {@code return x}. The
+     * contents of string and template literals are kept verbatim, as their whitespace is significant. Line
+     * comments are terminated by a line break to not join the subsequent code into the comment.
+     * @param code
+     *            typescript code
+     * @return the normalized code
+     */
+    private String normalizeWhitespace(String code) {
+        StringBuilder normalized = new StringBuilder(code.length());
+        int i = 0;
+        while (i < code.length()) {
+            char c = code.charAt(i);
+            if (c == '\'' || c == '"' || c == '`') {
+                // copy the literal including its quotes and escaped characters
+                int end = i + 1;
+                while (end < code.length() && code.charAt(end) != c) {
+                    end += code.charAt(end) == '\\' ? 2 : 1;
+                }
+                end = Math.min(end + 1, code.length());
+                normalized.append(code, i, end);
+                i = end;
+            } else if (code.startsWith("//", i)) {
+                int end = code.indexOf('\n', i);
+                end = end < 0 ? code.length() : end;
+                normalized.append(code.substring(i, end).trim()).append('\n');
+                i = skipWhitespace(code, end);
+            } else if (code.startsWith("/*", i)) {
+                int end = code.indexOf("*/", i + 2);
+                end = end < 0 ? code.length() : end + 2;
+                normalized.append(code, i, end);
+                i = end;
+            } else if (Character.isWhitespace(c)) {
+                int end = skipWhitespace(code, i);
+                if (normalized.length() > 0 && normalized.charAt(normalized.length() - 1) != '\n'
+                    && end < code.length()) {
+                    normalized.append(code.substring(i, end).indexOf('\n') >= 0 ? '\n' : ' ');
+                }
+                i = end;
+            } else {
+                normalized.append(c);
+                i++;
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Determines the index of the first non whitespace character starting at the given index.
+     * @param code
+     *            typescript code
+     * @param index
+     *            index to start at
+     * @return the index of the first non whitespace character or the length of the code
+     */
+    private int skipWhitespace(String code, int index) {
+        int i = index;
+        while (i < code.length() && Character.isWhitespace(code.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
 }
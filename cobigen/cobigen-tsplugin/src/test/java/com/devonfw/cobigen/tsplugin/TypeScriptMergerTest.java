@@ -7,13 +7,23 @@ import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import com.devonfw.cobigen.api.exception.MergeException;
 import com.devonfw.cobigen.tsplugin.merger.TypeScriptMerger;
+import com.google.common.collect.Lists;
 
 /**
  * Test methods for different TS mergers of the plugin
@@ -23,6 +33,10 @@ public class TypeScriptMergerTest {
     /** Test resources root path */
     private static String testFileRootPath = "src/test/resources/testdata/unittest/merger/";
 
+    /** Temporary folder for base files created by the tests */
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
     /**
      * Checks if the ts-merger can be launched and if the iutput is correct with patchOverrides = false
      * @throws MergeException
@@ -112,6 +126,71 @@ public class TypeScriptMergerTest {
         assertThat(mergedContents.contains("Ñ"));
     }
 
+    /**
+     * Tests whether the base file is kept as is without being formatted if the patch does not change anything
+     * @throws IOException
+     *             test fails
+     */
+    @Test
+    public void testMergingWithoutChanges() throws IOException {
+        File baseFile = new File(testFileRootPath + "baseFile.ts");
+        String baseFileContents = FileUtils.readFileToString(baseFile, "UTF-8");
+
+        String mergedContents = new TypeScriptMerger("tsmerge", true).merge(baseFile, baseFileContents, "UTF-8");
+
+        assertThat(mergedContents).isEqualTo(baseFileContents);
+    }
+
+    /**
+     * Tests whether a patch only inserting a line break is not considered as unchanged, as line breaks might
+     * change the semantics due to the automatic semicolon insertion
+     * @throws IOException
+     *             test fails
+     */
+    @Test
+    public void testMergingLineBreakIsNotIgnored() throws IOException {
+        String baseFileContents = "class a {\n    b() {\n        return x;\n    }\n}\n";
+        String patch = "class a {\n    b() {\n        return\n        x;\n    }\n}\n";
+        File baseFile = tmpFolder.newFile("baseFile.ts");
+        Files.write(baseFile.toPath(), baseFileContents.getBytes(StandardCharsets.UTF_8));
+
+        String mergedContents = new TypeScriptMerger("tsmerge", true).merge(baseFile, patch, "UTF-8");
+
+        assertThat(mergedContents).isNotEqualTo(baseFileContents);
+    }
+
+    /**
+     * Tests whether concurrent merges of both merger variants share the pooled script engines without
+     * interfering with each other
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testConcurrentMerging() throws Exception {
+        File baseFile = new File(testFileRootPath + "baseFile.ts");
+        String patch = readTSFile("patchFile.ts");
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = Lists.newArrayList();
+            for (int i = 0; i < 8; i++) {
+                boolean patchOverrides = i % 2 == 0;
+                Callable<String> merge =
+                    () -> new TypeScriptMerger("tsmerge", patchOverrides).merge(baseFile, patch, "UTF-8");
+                results.add(executor.submit(merge));
+            }
+
+            for (int i = 0; i < results.size(); i++) {
+                String mergedContents = results.get(i).get();
+                assertThat(mergedContents).contains("aProperty: number = " + (i % 2 == 0 ? 3 : 2));
+                assertThat(mergedContents).contains("bMethod");
+                assertThat(mergedContents).contains("import { a, e } from 'b'");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     /**
      * Reads a TS file
      * @param fileName
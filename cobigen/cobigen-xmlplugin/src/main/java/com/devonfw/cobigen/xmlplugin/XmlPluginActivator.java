@@ -5,6 +5,7 @@ import java.util.List;
 import com.devonfw.cobigen.api.extension.GeneratorPluginActivator;
 import com.devonfw.cobigen.api.extension.Merger;
 import com.devonfw.cobigen.api.extension.TriggerInterpreter;
+import com.devonfw.cobigen.xmlplugin.merger.MergeSchemaRegistry;
 import com.devonfw.cobigen.xmlplugin.merger.delegates.MergeType;
 import com.devonfw.cobigen.xmlplugin.merger.delegates.XmlMergerDelegate;
 import com.google.common.collect.Lists;
@@ -15,18 +16,20 @@ import com.google.common.collect.Lists;
 public class XmlPluginActivator implements GeneratorPluginActivator {
 
     /**
-     * defining the default location of the merge schemas
+     * defining the default location of the merge schemas on the classpath
      */
-    static private String defaultMergeSchemaLocation = "src/main/resources/mergeSchemas";
+    static private String defaultMergeSchemaLocation = "mergeSchemas";
 
     @Override
     public List<Merger> bindMerger() {
         List<Merger> merger = Lists.newLinkedList();
 
-        merger.add(new XmlMergerDelegate(defaultMergeSchemaLocation, MergeType.BASEOVERWRITE));
-        merger.add(new XmlMergerDelegate(defaultMergeSchemaLocation, MergeType.BASEATTACHOROVERWRITE));
-        merger.add(new XmlMergerDelegate(defaultMergeSchemaLocation, MergeType.PATCHOVERWRITE));
-        merger.add(new XmlMergerDelegate(defaultMergeSchemaLocation, MergeType.PATCHATTACHOROVERWRITE));
+        // all merge strategies share the merge schemas, which are loaded on first use
+        MergeSchemaRegistry mergeSchemas = MergeSchemaRegistry.forClasspath(defaultMergeSchemaLocation);
+        merger.add(new XmlMergerDelegate(mergeSchemas, MergeType.BASEOVERWRITE));
+        merger.add(new XmlMergerDelegate(mergeSchemas, MergeType.BASEATTACHOROVERWRITE));
+        merger.add(new XmlMergerDelegate(mergeSchemas, MergeType.PATCHOVERWRITE));
+        merger.add(new XmlMergerDelegate(mergeSchemas, MergeType.PATCHATTACHOROVERWRITE));
         return merger;
     }
 
@@ -6,12 +6,18 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,6 +33,11 @@ import org.xml.sax.SAXException;
 
 import com.devonfw.cobigen.api.exception.InputReaderException;
 import com.devonfw.cobigen.api.extension.InputReader;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterators;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 
 /** {@link InputReader} for XML files. */
 public class XmlInputReader implements InputReader {
@@ -107,27 +118,37 @@ public class XmlInputReader implements InputReader {
         LOG.debug("Retrieve xml input objects...");
         long start = System.currentTimeMillis();
 
+        List<Object> docsList = new LinkedList<>();
+        Iterators.addAll(docsList, getInputObjectsLazily(input, inputCharset, false));
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("{} sub trees extracted in {}s", docsList.size(), (System.currentTimeMillis() - start) / 1000d);
+        }
+        return docsList;
+    }
+
+    /**
+     * {@inheritDoc}<br>
+     * The elements of the XMI Document will be traversed one by one when requested by the returned
+     * {@link Iterator}.
+     */
+    @Override
+    public Iterator<Object> getInputObjectsLazily(Object input, Charset inputCharset, boolean recursively) {
+
         if (input instanceof Document) {
             Document doc = (Document) input;
             DocumentTraversal traversal = (DocumentTraversal) doc;
             TreeWalker treeWalker =
                 traversal.createTreeWalker(doc.getDocumentElement(), NodeFilter.SHOW_ELEMENT, null, false);
-            Node nextNode = treeWalker.nextNode();
-            List<Object> docsList = new LinkedList<>();
-            while (nextNode != null) {
-                docsList.add(new Node[] { doc, nextNode });
-                nextNode = treeWalker.nextNode();
-            }
-
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("{} sub trees extracted in {}s", docsList.size(),
-                    (System.currentTimeMillis() - start) / 1000d);
-            }
-            return docsList;
+            return new AbstractIterator<Object>() {
+                @Override
+                protected Object computeNext() {
+                    Node nextNode = treeWalker.nextNode();
+                    return nextNode != null ? new Node[] { doc, nextNode } : endOfData();
+                }
+            };
         }
-        throw new IllegalArgumentException(
-            "XmlInputReader::getInputObjects(Object,Charset) called with a wrong input parameter. This is a bug!");
-
+        throw new IllegalArgumentException("XmlInputReader::getInputObjectsLazily(Object,Charset,boolean) called with "
+            + "a wrong input parameter. This is a bug!");
     }
 
     /**
@@ -150,6 +171,35 @@ public class XmlInputReader implements InputReader {
         return new HashMap<>();
     }
 
+    /**
+     * {@inheritDoc} <br>
+     * The fingerprint covers the serialized document and, for sub-tree inputs, the serialized element.
+     */
+    @Override
+    public String getInputFingerprint(Object input) {
+        Node[] nodes;
+        if (input instanceof Document) {
+            nodes = new Node[] { (Document) input };
+        } else if (input instanceof Node[] && isValidInput(input)) {
+            nodes = (Node[]) input;
+        } else {
+            return null;
+        }
+
+        Hasher hasher = Hashing.sha256().newHasher();
+        try {
+            Transformer transformer = TransformerFactory.newInstance().newTransformer();
+            for (Node node : nodes) {
+                transformer.transform(new DOMSource(node), new StreamResult(Funnels.asOutputStream(hasher)));
+                hasher.putByte((byte) 0);
+            }
+        } catch (TransformerException e) {
+            LOG.debug("Could not serialize the input to calculate its fingerprint.", e);
+            return null;
+        }
+        return hasher.hash().toString();
+    }
+
     /**
      * @param input
      *            the element the model should derived from
@@ -0,0 +1,502 @@
+package com.devonfw.cobigen.xmlplugin.merger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.cobigen.api.exception.CobiGenRuntimeException;
+import com.github.maybeec.lexeme.mergeschema.Criterion;
+import com.github.maybeec.lexeme.mergeschema.MergeSchema;
+import com.github.maybeec.lexeme.schemaprovider.MergeSchemaProvider;
+import com.github.maybeec.lexeme.schemaprovider.MergeSchemaProviderImpl;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+/**
+ * Shared registry of LeXeMe merge schemas, which can be used by any number of mergers concurrently. The
+ * merge schemas are loaded once on first use and are served without locking afterwards. As LeXeMe, the
+ * registry reloads the merge schemas of a file system folder if any of its files has been modified since
+ * the merge schemas have been loaded. The folder is checked for modifications at most once per interval
+ * configured by the system property {@value #CHECK_INTERVAL_PROPERTY}. Registries are shared per location,
+ * which is either a folder of the file system or a folder on the classpath. Folders on the classpath packaged
+ * into a jar will be extracted once to a temporary folder, as LeXeMe only reads merge schemas from the file
+ * system.
+ */
+public class MergeSchemaRegistry implements MergeSchemaProvider {
+
+    /** Logger instance */
+    private static final Logger LOG = LoggerFactory.getLogger(MergeSchemaRegistry.class);
+
+    /**
+     * System property to configure the minimum time in milliseconds between two checks of a folder for
+     * modified merge schemas. Read whenever merge schemas are loaded.
+     */
+    public static final String CHECK_INTERVAL_PROPERTY = "cobigen.xmlplugin.mergeSchemas.checkInterval";
+
+    /** Default minimum time in milliseconds between two checks of a folder for modified merge schemas */
+    public static final long DEFAULT_CHECK_INTERVAL_MILLIS = 1000;
+
+    /** Temporary folders created so far, which will be deleted on shutdown */
+    private static final Set<Path> TEMPORARY_FOLDERS = ConcurrentHashMap.newKeySet();
+
+    /** States, whether the shutdown hook deleting the {@link #TEMPORARY_FOLDERS} has been registered */
+    private static final AtomicBoolean SHUTDOWN_HOOK_REGISTERED = new AtomicBoolean();
+
+    /** Registries of file system folders mapped by their normalized path */
+    private static final Map<Path, MergeSchemaRegistry> PATH_REGISTRIES = new ConcurrentHashMap<>();
+
+    /**
+     * Registries of classpath folders mapped by their class loader and folder. The class loaders are referenced
+     * weakly to not prevent them from being garbage collected.
+     */
+    private static final LoadingCache<ClassLoader, Map<String, MergeSchemaRegistry>> CLASSPATH_REGISTRIES =
+        CacheBuilder.newBuilder().weakKeys().build(new CacheLoader<ClassLoader, Map<String, MergeSchemaRegistry>>() {
+            @Override
+            public Map<String, MergeSchemaRegistry> load(ClassLoader classLoader) {
+                return new ConcurrentHashMap<>();
+            }
+        });
+
+    /** Folder on the classpath containing the merge schemas, or {@code null} for a file system folder */
+    private final String classpathLocation;
+
+    /** Class loader to resolve the {@link #classpathLocation}, referenced weakly as the registry is cached */
+    private final WeakReference<ClassLoader> classLoader;
+
+    /** Folder of the file system containing the merge schemas, or {@code null} if not resolved so far */
+    private volatile Path path;
+
+    /** States, whether the merge schemas should be reloaded if the files of the {@link #path} are modified */
+    private volatile boolean reloadable;
+
+    /** Merge schemas loaded so far, which will be replaced as a whole on reload */
+    private volatile LoadedMergeSchemas loaded;
+
+    /**
+     * Creates a new registry for the given location.
+     * @param classpathLocation
+     *            folder on the classpath containing the merge schemas, or {@code null} if the merge schemas
+     *            should be read from the given {@code path}
+     * @param classLoader
+     *            class loader to resolve the {@code classpathLocation}
+     * @param path
+     *            folder of the file system containing the merge schemas
+     */
+    private MergeSchemaRegistry(String classpathLocation, ClassLoader classLoader, Path path) {
+        this.classpathLocation = classpathLocation;
+        this.classLoader = new WeakReference<>(classLoader);
+        this.path = path;
+        reloadable = path != null;
+    }
+
+    /**
+     * Returns the shared registry of the merge schemas contained in the given folder of the file system.
+     * @param path
+     *            folder containing the merge schemas
+     * @return the {@link MergeSchemaRegistry} of the folder
+     */
+    public static MergeSchemaRegistry forPath(Path path) {
+        Path normalizedPath = path.toAbsolutePath().normalize();
+        return PATH_REGISTRIES.computeIfAbsent(normalizedPath, key -> new MergeSchemaRegistry(null, null, key));
+    }
+
+    /**
+     * Returns the shared registry of the merge schemas contained in the given folder on the classpath of this
+     * plug-in.
+     * @param classpathLocation
+     *            folder on the classpath containing the merge schemas
+     * @return the {@link MergeSchemaRegistry} of the folder
+     */
+    public static MergeSchemaRegistry forClasspath(String classpathLocation) {
+        return forClasspath(classpathLocation, MergeSchemaRegistry.class.getClassLoader());
+    }
+
+    /**
+     * Returns the shared registry of the merge schemas contained in the given folder on the classpath.
+     * @param classpathLocation
+     *            folder on the classpath containing the merge schemas
+     * @param classLoader
+     *            class loader to resolve the folder
+     * @return the {@link MergeSchemaRegistry} of the folder
+     */
+    public static MergeSchemaRegistry forClasspath(String classpathLocation, ClassLoader classLoader) {
+        return CLASSPATH_REGISTRIES.getUnchecked(classLoader).computeIfAbsent(classpathLocation,
+            key -> new MergeSchemaRegistry(key, classLoader, null));
+    }
+
+    /**
+     * {@inheritDoc} Reloads the merge schemas if the files of the folder have been modified since the merge
+     * schemas have been loaded.
+     */
+    @Override
+    public MergeSchema getMergeSchemaForNamespaceURI(String namespaceURI) {
+        LoadedMergeSchemas current = getLoaded(true);
+        return current.get(current.mergeSchemas, namespaceURI,
+            key -> current.provider.getMergeSchemaForNamespaceURI(namespaceURI));
+    }
+
+    @Override
+    public Criterion getDefaultCriterion(String namespaceURI) {
+        LoadedMergeSchemas current = getLoaded(false);
+        return current.get(current.defaultCriteria, namespaceURI,
+            key -> current.provider.getDefaultCriterion(namespaceURI));
+    }
+
+    @Override
+    public List<Criterion> getCriterionFor(String element, String namespaceURI) {
+        LoadedMergeSchemas current = getLoaded(false);
+        return current.get(current.criteria, Arrays.asList(element, namespaceURI),
+            key -> current.provider.getCriterionFor(element, namespaceURI));
+    }
+
+    @Override
+    public List<Criterion> getDeepCriterion(String element, String namespaceURI) {
+        LoadedMergeSchemas current = getLoaded(false);
+        return current.get(current.deepCriteria, Arrays.asList(element, namespaceURI),
+            key -> current.provider.getDeepCriterion(element, namespaceURI));
+    }
+
+    @Override
+    public String getPath() {
+        getLoaded(false);
+        return path.toString();
+    }
+
+    /**
+     * Changes the folder of the file system the merge schemas are read from. As the registry is shared, the
+     * change affects all mergers using this registry. The merge schemas will be loaded from the new folder on
+     * next use.
+     * @param path
+     *            folder containing the merge schemas
+     */
+    @Override
+    public synchronized void setPath(Path path) {
+        this.path = path.toAbsolutePath().normalize();
+        reloadable = true;
+        if (loaded != null && loaded.copy != null) {
+            deleteTemporaryFolder(loaded.copy);
+        }
+        loaded = null;
+    }
+
+    /**
+     * Returns the merge schemas loaded so far. The merge schemas will be loaded on first call or if they are
+     * outdated.
+     * @param checkModification
+     *            states, whether the merge schemas should be reloaded if the files of the folder have been
+     *            modified since they have been loaded
+     * @return the {@link LoadedMergeSchemas}
+     */
+    private LoadedMergeSchemas getLoaded(boolean checkModification) {
+        LoadedMergeSchemas current = loaded;
+        if (current == null || checkModification && current.isOutdated()) {
+            synchronized (this) {
+                LoadedMergeSchemas previous = loaded;
+                // reload only if not done by another thread in the meantime
+                if (previous == null || previous == current) {
+                    current = load(previous != null);
+                    loaded = current;
+                    if (previous != null && previous.copy != null) {
+                        // the previous merge schemas have been read completely and are kept in memory
+                        deleteTemporaryFolder(previous.copy);
+                    }
+                } else {
+                    current = previous;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Loads the merge schemas of the location by a new LeXeMe provider.
+     * @param reload
+     *            states, whether merge schemas have been loaded before. In this case the merge schemas will be
+     *            loaded from a new copy of the folder, as LeXeMe caches its providers per folder and does not
+     *            reload them.
+     * @return the {@link LoadedMergeSchemas}
+     */
+    private LoadedMergeSchemas load(boolean reload) {
+        if (path == null) {
+            path = resolveClasspathLocation();
+        }
+        long lastModification = reloadable ? getLastModification(path) : 0;
+        Path copy = reload ? copy(path) : null;
+        Path providerPath = copy != null ? copy : path;
+
+        MergeSchemaProvider provider;
+        // LeXeMe caches its providers in a map not supporting concurrent access
+        synchronized (MergeSchemaRegistry.class) {
+            provider = MergeSchemaProviderImpl.getProviderForPath(providerPath);
+        }
+        LOG.debug("Loaded merge schemas from {}", path);
+        return new LoadedMergeSchemas(provider, reloadable ? path : null, lastModification, copy,
+            Long.getLong(CHECK_INTERVAL_PROPERTY, DEFAULT_CHECK_INTERVAL_MILLIS));
+    }
+
+    /**
+     * Determines the last modification of the files in the given folder like LeXeMe does.
+     * @param folder
+     *            folder containing the merge schemas
+     * @return the last modification of any file in the folder in milliseconds since the epoch
+     */
+    private static long getLastModification(Path folder) {
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.filter(Files::isRegularFile).mapToLong(file -> file.toFile().lastModified()).max()
+                .orElse(0);
+        } catch (IOException e) {
+            throw new CobiGenRuntimeException("Could not read the merge schemas from " + folder, e);
+        }
+    }
+
+    /**
+     * Copies the merge schemas of the given folder to a temporary folder.
+     * @param folder
+     *            folder containing the merge schemas
+     * @return the temporary folder
+     */
+    private static Path copy(Path folder) {
+        try (Stream<Path> files = Files.list(folder)) {
+            Path targetFolder = createTemporaryFolder();
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                Files.copy(file, targetFolder.resolve(file.getFileName()));
+            }
+            LOG.debug("Copied modified merge schemas of {} to {}", folder, targetFolder);
+            return targetFolder;
+        } catch (IOException e) {
+            throw new CobiGenRuntimeException("Could not read the merge schemas from " + folder, e);
+        }
+    }
+
+    /**
+     * Resolves the folder on the classpath to a folder of the file system. If the folder is packaged into a
+     * jar, its contents will be extracted to a temporary folder.
+     * @return the folder of the file system containing the merge schemas
+     */
+    private Path resolveClasspathLocation() {
+        ClassLoader loader = classLoader.get();
+        if (loader == null) {
+            throw new CobiGenRuntimeException(
+                "Could not find the merge schemas at " + classpathLocation + " as its class loader is unloaded.");
+        }
+        URL url = loader.getResource(classpathLocation);
+        if (url == null) {
+            throw new CobiGenRuntimeException(
+                "Could not find the merge schemas at " + classpathLocation + " on the classpath.");
+        }
+
+        try {
+            if ("file".equals(url.getProtocol())) {
+                reloadable = true;
+                return Paths.get(url.toURI());
+            }
+
+            URLConnection connection = url.openConnection();
+            if (!(connection instanceof JarURLConnection)) {
+                throw new CobiGenRuntimeException("Could not read the merge schemas from " + url
+                    + ". Only folders and jar files on the classpath are supported.");
+            }
+            connection.setUseCaches(false);
+            return extract((JarURLConnection) connection);
+        } catch (IOException | URISyntaxException e) {
+            throw new CobiGenRuntimeException("Could not read the merge schemas from " + url, e);
+        }
+    }
+
+    /**
+     * Extracts the merge schemas of the folder referenced by the given connection to a temporary folder.
+     * @param connection
+     *            {@link JarURLConnection} to the folder containing the merge schemas
+     * @return the temporary folder
+     * @throws IOException
+     *             if the merge schemas could not be extracted
+     */
+    private Path extract(JarURLConnection connection) throws IOException {
+        Path targetFolder = createTemporaryFolder();
+        String prefix = connection.getEntryName().endsWith("/") ? connection.getEntryName()
+            : connection.getEntryName() + "/";
+
+        try (JarFile jarFile = connection.getJarFile()) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                String relativeName = entry.getName().substring(Math.min(prefix.length(), entry.getName().length()));
+                if (!entry.isDirectory() && entry.getName().startsWith(prefix) && !relativeName.contains("/")) {
+                    try (InputStream in = jarFile.getInputStream(entry)) {
+                        Files.copy(in, targetFolder.resolve(relativeName));
+                    }
+                }
+            }
+        }
+
+        LOG.debug("Extracted merge schemas of {} to {}", connection.getURL(), targetFolder);
+        return targetFolder;
+    }
+
+    /**
+     * Creates a temporary folder, which will be deleted on shutdown if not deleted before.
+     * @return the temporary folder
+     * @throws IOException
+     *             if the folder could not be created
+     */
+    private static Path createTemporaryFolder() throws IOException {
+        if (SHUTDOWN_HOOK_REGISTERED.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                for (Path folder : TEMPORARY_FOLDERS) {
+                    delete(folder);
+                }
+            }, "cobigen-mergeSchemas-cleanup"));
+        }
+        Path folder = Files.createTempDirectory("cobigen-mergeSchemas");
+        TEMPORARY_FOLDERS.add(folder);
+        return folder;
+    }
+
+    /**
+     * Deletes the given temporary folder immediately instead of on shutdown.
+     * @param folder
+     *            temporary folder to be deleted
+     */
+    private static void deleteTemporaryFolder(Path folder) {
+        if (TEMPORARY_FOLDERS.remove(folder)) {
+            delete(folder);
+        }
+    }
+
+    /**
+     * Deletes the given folder including its contents. Failures will be logged only.
+     * @param folder
+     *            folder to be deleted
+     */
+    private static void delete(Path folder) {
+        try (Stream<Path> files = Files.walk(folder)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        } catch (IOException e) {
+            LOG.warn("Could not delete the temporary folder {}", folder, e);
+        }
+    }
+
+    /**
+     * Merge schemas loaded by a LeXeMe provider. The results of the provider are memoized, such that they can
+     * be read without locking. The provider itself is not thread-safe and will only be called while holding
+     * its lock.
+     */
+    private static final class LoadedMergeSchemas {
+
+        /** Provider of LeXeMe the merge schemas have been loaded by */
+        private final MergeSchemaProvider provider;
+
+        /** Folder to be checked for modifications, or {@code null} if the merge schemas cannot be modified */
+        private final Path folder;
+
+        /** Last modification of the files of the {@link #folder} when the merge schemas have been loaded */
+        private final long lastModification;
+
+        /** Temporary copy of the folder the merge schemas have been loaded from, or {@code null} */
+        private final Path copy;
+
+        /** Minimum time in milliseconds between two checks of the {@link #folder} for modifications */
+        private final long checkInterval;
+
+        /** Time in milliseconds since the epoch, after which the {@link #folder} is checked next */
+        private volatile long nextCheck;
+
+        /** Merge schemas mapped by their namespace URI */
+        private final Map<String, MergeSchema> mergeSchemas = new ConcurrentHashMap<>();
+
+        /** Default criteria mapped by their namespace URI */
+        private final Map<String, Criterion> defaultCriteria = new ConcurrentHashMap<>();
+
+        /** Criteria mapped by element and namespace URI */
+        private final Map<List<String>, List<Criterion>> criteria = new ConcurrentHashMap<>();
+
+        /** Deep criteria mapped by element and namespace URI */
+        private final Map<List<String>, List<Criterion>> deepCriteria = new ConcurrentHashMap<>();
+
+        /**
+         * Creates new loaded merge schemas.
+         * @param provider
+         *            provider of LeXeMe the merge schemas have been loaded by
+         * @param folder
+         *            folder to be checked for modifications, or {@code null} if the merge schemas cannot be
+         *            modified
+         * @param lastModification
+         *            last modification of the files of the folder when the merge schemas have been loaded
+         * @param copy
+         *            temporary copy of the folder the merge schemas have been loaded from, or {@code null} if
+         *            they have been loaded from the folder itself
+         * @param checkInterval
+         *            minimum time in milliseconds between two checks of the folder for modifications
+         */
+        private LoadedMergeSchemas(MergeSchemaProvider provider, Path folder, long lastModification, Path copy,
+            long checkInterval) {
+            this.provider = provider;
+            this.folder = folder;
+            this.lastModification = lastModification;
+            this.copy = copy;
+            this.checkInterval = checkInterval;
+            nextCheck = System.currentTimeMillis() + checkInterval;
+        }
+
+        /**
+         * Checks, whether any file of the folder has been modified since the merge schemas have been loaded. The
+         * folder will only be checked if the check interval elapsed since the last check.
+         * @return {@code true} if the merge schemas should be reloaded, {@code false} otherwise
+         */
+        private boolean isOutdated() {
+            if (folder == null) {
+                return false;
+            }
+            long now = System.currentTimeMillis();
+            if (now < nextCheck) {
+                return false;
+            }
+            nextCheck = now + checkInterval;
+            return getLastModification(folder) > lastModification;
+        }
+
+        /**
+         * Returns the memoized value of the given key. If not memoized so far, the value will be computed by the
+         * given function while holding the lock of the {@link #provider}.
+         * @param memo
+         *            memoized values
+         * @param key
+         *            key of the value
+         * @param function
+         *            function computing the value by the {@link #provider}
+         * @return the value or {@code null} if the provider does not provide any
+         */
+        private <K, V> V get(Map<K, V> memo, K key, Function<K, V> function) {
+            V value = memo.get(key);
+            if (value == null) {
+                synchronized (provider) {
+                    value = memo.computeIfAbsent(key, function);
+                }
+            }
+            return value;
+        }
+    }
+}
@@ -2,11 +2,14 @@ package com.devonfw.cobigen.xmlplugin.merger.delegates;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 
 import com.devonfw.cobigen.api.exception.MergeException;
 import com.devonfw.cobigen.api.extension.Merger;
+import com.devonfw.cobigen.xmlplugin.merger.MergeSchemaRegistry;
 import com.github.maybeec.lexeme.LeXeMerger;
 import com.github.maybeec.lexeme.common.exception.XMLMergeException;
+import com.github.maybeec.lexeme.schemaprovider.MergeSchemaProvider;
 
 /**
  * Provides a XmlLawMerger instance with the {@link Merger} interface
@@ -17,8 +20,11 @@ public class XmlMergerDelegate implements Merger {
 
     private MergeType mergeType = MergeType.PATCHOVERWRITE;
 
-    /** {@link LeXeMerger} instance to be used. */
-    private LeXeMerger merger;
+    /** Shared provider of the merge schemas to be used */
+    private MergeSchemaProvider mergeSchemaProvider;
+
+    /** States, whether the documents should be validated */
+    private boolean validation = true;
 
     /**
      *
@@ -29,8 +35,7 @@ public class XmlMergerDelegate implements Merger {
      * @author sholzer (Aug 27, 2015)
      */
     public XmlMergerDelegate(String mergeSchemaLocation, MergeType mergeType) {
-        this.mergeType = mergeType;
-        merger = new LeXeMerger(mergeSchemaLocation);
+        this(Paths.get(mergeSchemaLocation), mergeType);
     }
 
     /**
@@ -42,8 +47,20 @@ public class XmlMergerDelegate implements Merger {
      * @author sholzer (Aug 27, 2015)
      */
     public XmlMergerDelegate(Path mergeSchemaLocation, MergeType mergeType) {
+        this(MergeSchemaRegistry.forPath(mergeSchemaLocation), mergeType);
+    }
+
+    /**
+     *
+     * @param mergeSchemaProvider
+     *            provider of the merge schemas to be used, e.g. a {@link MergeSchemaRegistry} shared with other
+     *            mergers
+     * @param mergeType
+     *            the way how conflicts will be handled
+     */
+    public XmlMergerDelegate(MergeSchemaProvider mergeSchemaProvider, MergeType mergeType) {
         this.mergeType = mergeType;
-        merger = new LeXeMerger(mergeSchemaLocation);
+        this.mergeSchemaProvider = mergeSchemaProvider;
     }
 
     @Override
@@ -53,6 +70,9 @@ public class XmlMergerDelegate implements Merger {
 
     @Override
     public String merge(File base, String patch, String targetCharset) throws MergeException {
+        // LeXeMerger keeps state while merging, thus a lightweight instance is created for each merge
+        LeXeMerger merger = new LeXeMerger(mergeSchemaProvider);
+        merger.setValidation(validation);
         try {
             return merger.mergeInString(base, patch, targetCharset, mergeType.type);
         } catch (XMLMergeException e) {
@@ -67,7 +87,7 @@ public class XmlMergerDelegate implements Merger {
      * @author sholzer (Sep 1, 2015)
      */
     public void setValidation(boolean validation) {
-        merger.setValidation(validation);
+        this.validation = validation;
     }
 
 }
@@ -6,6 +6,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -21,6 +22,7 @@ import org.xml.sax.SAXException;
 
 import com.devonfw.cobigen.xmlplugin.inputreader.ModelConstant;
 import com.devonfw.cobigen.xmlplugin.inputreader.XmlInputReader;
+import com.google.common.collect.Lists;
 
 /**
  * Unit tests for {@link XmlInputReader}
@@ -101,6 +103,45 @@ public class XmlInputReaderTest {
             "br");
     }
 
+    /**
+     * Tests, that the lazily retrieved input objects are equal to the eagerly retrieved ones.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testGetInputObjectsLazily() throws Exception {
+        XmlInputReader xmlInputReader = new XmlInputReader();
+        File xmlFile = new File(testFileRootPath + "simpleXml.xml");
+        Object doc = xmlInputReader.read(xmlFile.toPath(), UTF_8);
+
+        List<Object> inputObjects = xmlInputReader.getInputObjects(doc, UTF_8);
+        Iterator<Object> lazyInputObjects = xmlInputReader.getInputObjectsLazily(doc, UTF_8, false);
+
+        assertThat(Lists.newArrayList(lazyInputObjects)).extracting(e -> ((Node[]) e)[1])
+            .containsExactlyElementsOf(Lists.transform(inputObjects, e -> ((Node[]) e)[1]));
+    }
+
+    /**
+     * Tests, that the input fingerprint only changes if the document changes.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testGetInputFingerprint() throws Exception {
+        XmlInputReader xmlInputReader = new XmlInputReader();
+        File xmlFile = new File(testFileRootPath + "simpleXml.xml");
+        Document first = (Document) xmlInputReader.read(xmlFile.toPath(), UTF_8);
+        Document second = (Document) xmlInputReader.read(xmlFile.toPath(), UTF_8);
+        String fingerprint = xmlInputReader.getInputFingerprint(first);
+
+        second.getDocumentElement().setAttribute("changed", "true");
+
+        assertThat(fingerprint).isNotNull().isEqualTo(xmlInputReader.getInputFingerprint(first))
+            .isNotEqualTo(xmlInputReader.getInputFingerprint(second));
+        assertThat(xmlInputReader.getInputFingerprint(xmlInputReader.getInputObjects(first, UTF_8).get(0)))
+            .isNotNull().isNotEqualTo(fingerprint);
+    }
+
     /**
      * Test method for {@link XmlInputReader#isValidInput(java.lang.Object)} in case of a valid input.
      *
@@ -0,0 +1,212 @@
+package com.devonfw.cobigen.xmlplugin.unittest.merger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.devonfw.cobigen.xmlplugin.merger.MergeSchemaRegistry;
+import com.github.maybeec.lexeme.mergeschema.MergeSchema;
+import com.google.common.collect.Lists;
+
+/**
+ * Test suite for the {@link MergeSchemaRegistry}.
+ */
+public class MergeSchemaRegistryTest {
+
+    /** Namespace of the maven merge schema */
+    private static final String MAVEN_NAMESPACE = "http://maven.apache.org/POM/4.0.0";
+
+    /** Temporary folder for the test jar */
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    /**
+     * Tests, that registries are shared per location.
+     */
+    @Test
+    public void testRegistriesAreSharedPerLocation() {
+        assertThat(MergeSchemaRegistry.forClasspath("mergeSchemas"))
+            .isSameAs(MergeSchemaRegistry.forClasspath("mergeSchemas"));
+        assertThat(MergeSchemaRegistry.forPath(Paths.get("src/main/resources/mergeSchemas")))
+            .isSameAs(MergeSchemaRegistry.forPath(Paths.get("src/main/../main/resources/mergeSchemas/")));
+    }
+
+    /**
+     * Tests, that merge schemas are loaded from the classpath and are only loaded once, even if requested
+     * concurrently.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testMergeSchemasAreLoadedOnceFromClasspath() throws Exception {
+        MergeSchemaRegistry registry = MergeSchemaRegistry.forClasspath("mergeSchemas");
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<MergeSchema>> results = Lists.newArrayList();
+            for (int i = 0; i < 8; i++) {
+                Callable<MergeSchema> request = () -> registry.getMergeSchemaForNamespaceURI(MAVEN_NAMESPACE);
+                results.add(executor.submit(request));
+            }
+
+            MergeSchema mergeSchema = results.get(0).get();
+            assertThat(mergeSchema.getDefinition().getNamespace()).isEqualTo(MAVEN_NAMESPACE);
+            for (Future<MergeSchema> result : results) {
+                assertThat(result.get()).isSameAs(mergeSchema);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests, that merge schemas packaged into a jar are loaded as well.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testMergeSchemasAreLoadedFromJar() throws Exception {
+        File jar = createSchemaJar();
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jar.toURI().toURL() }, null)) {
+            MergeSchemaRegistry registry = MergeSchemaRegistry.forClasspath("myschemas", classLoader);
+
+            assertThat(registry.getMergeSchemaForNamespaceURI(MAVEN_NAMESPACE).getDefinition().getNamespace())
+                .isEqualTo(MAVEN_NAMESPACE);
+            assertThat(registry.getPath()).doesNotContain("schemas.jar");
+        }
+    }
+
+    /**
+     * Tests, that the merge schemas of a file system folder are reloaded if any file has been modified.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testMergeSchemasAreReloadedIfModified() throws Exception {
+        Path folder = tmpFolder.newFolder().toPath();
+        Path schema = Files.copy(Paths.get("src/main/resources/mergeSchemas/maven.xml"), folder.resolve("maven.xml"));
+        MergeSchemaRegistry registry = MergeSchemaRegistry.forPath(folder);
+
+        System.setProperty(MergeSchemaRegistry.CHECK_INTERVAL_PROPERTY, "0");
+        try {
+            MergeSchema loaded = registry.getMergeSchemaForNamespaceURI(MAVEN_NAMESPACE);
+            assertThat(registry.getMergeSchemaForNamespaceURI(MAVEN_NAMESPACE)).isSameAs(loaded);
+
+            schema.toFile().setLastModified(schema.toFile().lastModified() + 10000);
+            MergeSchema reloaded = registry.getMergeSchemaForNamespaceURI(MAVEN_NAMESPACE);
+            schema.toFile().setLastModified(schema.toFile().lastModified() + 10000);
+            MergeSchema reloadedAgain = registry.getMergeSchemaForNamespaceURI(MAVEN_NAMESPACE);
+
+            assertThat(reloaded).isNotSameAs(loaded);
+            assertThat(reloaded.getDefinition().getNamespace()).isEqualTo(MAVEN_NAMESPACE);
+            assertThat(reloadedAgain).isNotSameAs(reloaded);
+            assertThat(reloadedAgain.getDefinition().getNamespace()).isEqualTo(MAVEN_NAMESPACE);
+            assertThat(registry.getPath()).isEqualTo(folder.toAbsolutePath().normalize().toString());
+        } finally {
+            System.clearProperty(MergeSchemaRegistry.CHECK_INTERVAL_PROPERTY);
+        }
+    }
+
+    /**
+     * Tests, that the folder is not checked for modifications again before the check interval elapsed.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testModificationChecksAreThrottled() throws Exception {
+        Path folder = tmpFolder.newFolder().toPath();
+        Path schema = Files.copy(Paths.get("src/main/resources/mergeSchemas/maven.xml"), folder.resolve("maven.xml"));
+        MergeSchemaRegistry registry = MergeSchemaRegistry.forPath(folder);
+
+        MergeSchema loaded = registry.getMergeSchemaForNamespaceURI(MAVEN_NAMESPACE);
+        schema.toFile().setLastModified(schema.toFile().lastModified() + 10000);
+
+        assertThat(registry.getMergeSchemaForNamespaceURI(MAVEN_NAMESPACE)).isSameAs(loaded);
+    }
+
+    /**
+     * Tests, that the folder of a registry can be changed.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testPathCanBeChanged() throws Exception {
+        MergeSchemaRegistry registry = MergeSchemaRegistry.forPath(tmpFolder.newFolder().toPath());
+        Path mergeSchemas = Paths.get("src/main/resources/mergeSchemas");
+
+        registry.setPath(mergeSchemas);
+
+        assertThat(registry.getPath()).isEqualTo(mergeSchemas.toAbsolutePath().normalize().toString());
+        assertThat(registry.getMergeSchemaForNamespaceURI(MAVEN_NAMESPACE).getDefinition().getNamespace())
+            .isEqualTo(MAVEN_NAMESPACE);
+    }
+
+    /**
+     * Tests, that the registries do not prevent class loaders from being garbage collected.
+     * @throws Exception
+     *             test fails
+     */
+    @Test
+    public void testClassLoaderCanBeCollected() throws Exception {
+        WeakReference<ClassLoader> classLoader = loadBySeparateClassLoader(createSchemaJar());
+        for (int i = 0; i < 20 && classLoader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+
+        assertThat(classLoader.get()).isNull();
+    }
+
+    /**
+     * Loads the merge schemas of the given jar by a new class loader.
+     * @param jar
+     *            jar containing the merge schemas
+     * @return a {@link WeakReference} to the new class loader
+     * @throws Exception
+     *             if the merge schemas could not be loaded
+     */
+    private WeakReference<ClassLoader> loadBySeparateClassLoader(File jar) throws Exception {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jar.toURI().toURL() }, null)) {
+            MergeSchemaRegistry registry = MergeSchemaRegistry.forClasspath("myschemas", classLoader);
+            assertThat(registry.getMergeSchemaForNamespaceURI(MAVEN_NAMESPACE)).isNotNull();
+            return new WeakReference<>(classLoader);
+        }
+    }
+
+    /**
+     * Creates a jar containing the maven merge schema in the folder {@code myschemas}.
+     * @return the jar file
+     * @throws Exception
+     *             if the jar could not be created
+     */
+    private File createSchemaJar() throws Exception {
+        File jar = tmpFolder.newFile("schemas.jar");
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+            out.putNextEntry(new JarEntry("myschemas/"));
+            out.closeEntry();
+            out.putNextEntry(new JarEntry("myschemas/maven.xml"));
+            Files.copy(Paths.get("src/main/resources/mergeSchemas/maven.xml"), out);
+            out.closeEntry();
+        }
+        return jar;
+    }
+}